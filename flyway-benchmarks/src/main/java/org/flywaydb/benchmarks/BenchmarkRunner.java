@@ -0,0 +1,175 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-benchmarks
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.flywaydb.core.internal.util.JsonUtils;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs the benchmarks with allocation profiling and writes the results as JSON. When given a baseline from an
+ * earlier run, compares the results against it and exits with status 1 if any benchmark regressed.
+ *
+ * <pre>
+ * java -jar flyway-benchmarks/target/benchmarks.jar [--result file] [--baseline file] [--threshold percent]
+ *      [--no-gc] [--compare-only] [JMH options]
+ * </pre>
+ *
+ * All options not starting with {@code --} are passed on to JMH, so for example {@code ParserBenchmark -p
+ * dialect=ORACLE -f 2} runs only the Oracle parser benchmarks with two forks. {@code --compare-only} skips running
+ * and compares an existing result file against the baseline.
+ */
+public class BenchmarkRunner {
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws Exception {
+        String result = "target/benchmarks.json";
+        String baseline = null;
+        double threshold = 10;
+        boolean gc = true;
+        boolean compareOnly = false;
+        List<String> jmhArgs = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--result" -> result = args[++i];
+                case "--baseline" -> baseline = args[++i];
+                case "--threshold" -> threshold = Double.parseDouble(args[++i]);
+                case "--no-gc" -> gc = false;
+                case "--compare-only" -> compareOnly = true;
+                default -> jmhArgs.add(args[i]);
+            }
+        }
+
+        if (!compareOnly) {
+            File resultFile = new File(result).getAbsoluteFile();
+            resultFile.getParentFile().mkdirs();
+
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                    .parent(new CommandLineOptions(jmhArgs.toArray(new String[0])))
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(resultFile.getPath());
+            if (gc) {
+                options.addProfiler(GCProfiler.class);
+            }
+            new Runner(options.build()).run();
+        }
+
+        if (baseline != null) {
+            int regressions = compare(new File(baseline), new File(result), threshold);
+            if (regressions > 0) {
+                System.out.println(regressions + " benchmark(s) regressed by more than " + threshold + "%");
+                System.exit(1);
+            }
+            System.out.println("No benchmark regressed by more than " + threshold + "%");
+        }
+    }
+
+    /**
+     * Compares the score and the normalized allocation rate of every benchmark found in both result files.
+     *
+     * @return The number of benchmarks that got worse by more than the threshold.
+     */
+    static int compare(File baselineFile, File resultFile, double threshold) throws IOException {
+        Map<String, JsonNode> baseline = readResults(baselineFile);
+        Map<String, JsonNode> current = readResults(resultFile);
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s %9s%n", "Benchmark", "Baseline", "Current", "Score", "Alloc");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-90s %14s%n", entry.getKey(), "(new)");
+                continue;
+            }
+            JsonNode after = entry.getValue();
+
+            // Positive changes are always regressions, whichever direction the mode counts as better
+            double sign = "thrpt".equals(after.path("mode").asText()) ? -1 : 1;
+            double scoreChange = sign * change(score(before), score(after));
+            double allocationChange = change(allocation(before), allocation(after));
+
+            boolean regressed = scoreChange > threshold || allocationChange > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %8.1f%% %8.1f%%%s%n", entry.getKey(),
+                              score(before), score(after), scoreChange, allocationChange, regressed ? "  REGRESSED" : "");
+        }
+        return regressions;
+    }
+
+    private static Map<String, JsonNode> readResults(File file) throws IOException {
+        Map<String, JsonNode> results = new TreeMap<>();
+        for (JsonNode benchmark : JsonUtils.getJsonMapper().readTree(file)) {
+            results.put(key(benchmark), benchmark);
+        }
+        return results;
+    }
+
+    private static String key(JsonNode benchmark) {
+        String name = benchmark.path("benchmark").asText();
+        Map<String, String> params = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = benchmark.path("params").fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> param = fields.next();
+            params.put(param.getKey(), param.getValue().asText());
+        }
+        String shortName = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+        return params.isEmpty() ? shortName : shortName + params;
+    }
+
+    private static double score(JsonNode benchmark) {
+        return benchmark.path("primaryMetric").path("score").asDouble();
+    }
+
+    private static double allocation(JsonNode benchmark) {
+        JsonNode metric = benchmark.path("secondaryMetrics").path(ALLOCATION_METRIC);
+        if (metric.isMissingNode()) {
+            // Older JMH versions prefix the profiler metrics with a middle dot
+            metric = benchmark.path("secondaryMetrics").path("\u00b7" + ALLOCATION_METRIC);
+        }
+        return metric.path("score").asDouble(Double.NaN);
+    }
+
+    /**
+     * @return The change from before to after in percent, or 0 if either is unknown or the baseline is zero.
+     */
+    private static double change(double before, double after) {
+        if (Double.isNaN(before) || Double.isNaN(after) || before == 0) {
+            return 0;
+        }
+        return (after - before) / before * 100;
+    }
+}
@@ -0,0 +1,75 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-benchmarks
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.benchmarks;
+
+import org.flywaydb.core.api.configuration.ClassicConfiguration;
+import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.parser.PlaceholderReplacingReader;
+import org.flywaydb.core.internal.resolver.ChecksumCalculator;
+import org.flywaydb.core.internal.resource.StringResource;
+import org.flywaydb.core.internal.util.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the checksum calculation of a migration, both over its raw contents and together with the checksum of
+ * its placeholder-replaced contents as done for repeatable migrations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChecksumBenchmark {
+    @Param({"100", "10000"})
+    public int statements;
+
+    private StringResource resource;
+    private Function<Reader, ? extends Reader> placeholderReplacement;
+
+    @Setup
+    public void setUp() {
+        resource = new StringResource(SqlScriptGenerator.generateWithPlaceholders(statements));
+
+        ClassicConfiguration configuration = new ClassicConfiguration();
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("schema", "app");
+        placeholders.put("table", "flyway_schema_history");
+        placeholders.put("owner", "deployer");
+        configuration.setPlaceholders(placeholders);
+        placeholderReplacement = PlaceholderReplacingReader.createFactory(configuration, new ParsingContext());
+    }
+
+    @Benchmark
+    public int calculate() {
+        return ChecksumCalculator.calculate(resource);
+    }
+
+    @Benchmark
+    public Pair<Integer, Integer> calculateWithEquivalent() {
+        return ChecksumCalculator.calculateWithEquivalent(placeholderReplacement, resource);
+    }
+}
@@ -0,0 +1,52 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-benchmarks
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.benchmarks;
+
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.internal.parser.Parser;
+import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.database.mysql.MySQLParser;
+import org.flywaydb.database.oracle.OracleParser;
+import org.flywaydb.database.postgresql.PostgreSQLParser;
+import org.flywaydb.database.snowflake.SnowflakeParser;
+import org.flywaydb.database.sqlserver.SQLServerParser;
+
+import java.util.function.BiFunction;
+
+/**
+ * The bundled dialects whose parsers are benchmarked.
+ */
+public enum Dialect {
+    POSTGRESQL(PostgreSQLParser::new),
+    MYSQL(MySQLParser::new),
+    SQLSERVER(SQLServerParser::new),
+    ORACLE(OracleParser::new),
+    SNOWFLAKE(SnowflakeParser::new);
+
+    private final BiFunction<Configuration, ParsingContext, Parser> parserFactory;
+
+    Dialect(BiFunction<Configuration, ParsingContext, Parser> parserFactory) {
+        this.parserFactory = parserFactory;
+    }
+
+    public Parser createParser(Configuration configuration, ParsingContext parsingContext) {
+        return parserFactory.apply(configuration, parsingContext);
+    }
+}
@@ -0,0 +1,163 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-benchmarks
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.benchmarks;
+
+import org.flywaydb.core.api.CoreMigrationType;
+import org.flywaydb.core.api.MigrationPattern;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.configuration.ClassicConfiguration;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.output.RepairResult;
+import org.flywaydb.core.api.resolver.ResolvedMigration;
+import org.flywaydb.core.extensibility.AppliedMigration;
+import org.flywaydb.core.extensibility.MigrationType;
+import org.flywaydb.core.internal.info.MigrationInfoServiceImpl;
+import org.flywaydb.core.internal.resolver.CompositeMigrationResolver;
+import org.flywaydb.core.internal.resolver.ResolvedMigrationComparator;
+import org.flywaydb.core.internal.resolver.ResolvedMigrationImpl;
+import org.flywaydb.core.internal.schemahistory.BaseAppliedMigration;
+import org.flywaydb.core.internal.schemahistory.SchemaHistory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to match resolved migrations against the schema history, with nine in ten migrations
+ * applied and the rest pending. Resolving and reading the schema history are stubbed out so only the matching
+ * itself is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MigrationInfoBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int migrations;
+
+    private MigrationInfoServiceImpl migrationInfoService;
+
+    @Setup
+    public void setUp() {
+        ClassicConfiguration configuration = new ClassicConfiguration();
+        configuration.setSkipDefaultResolvers(true);
+
+        List<ResolvedMigration> resolvedMigrations = new ArrayList<>(migrations);
+        List<AppliedMigration> appliedMigrations = new ArrayList<>();
+        Date installedOn = new Date();
+        for (int i = 1; i <= migrations; i++) {
+            MigrationVersion version = MigrationVersion.fromVersion(i / 10 + "." + i % 10);
+            String script = "V" + version + "__migration_" + i + ".sql";
+            int checksum = script.hashCode();
+            resolvedMigrations.add(new ResolvedMigrationImpl(version, "migration " + i, script, checksum, null,
+                                                             CoreMigrationType.SQL, "/sql/" + script, null));
+            if (i <= migrations * 9 / 10) {
+                appliedMigrations.add(new BaseAppliedMigration(i, version, "migration " + i, "SQL", script, checksum,
+                                                               installedOn, "benchmark", 10, true));
+            }
+        }
+        resolvedMigrations.sort(new ResolvedMigrationComparator());
+
+        migrationInfoService = new MigrationInfoServiceImpl(new FixedMigrationResolver(configuration, resolvedMigrations),
+                                                            new FixedSchemaHistory(appliedMigrations),
+                                                            null,
+                                                            configuration,
+                                                            MigrationVersion.LATEST,
+                                                            false,
+                                                            configuration.getIgnoreMigrationPatterns(),
+                                                            null);
+    }
+
+    @Benchmark
+    public MigrationInfoServiceImpl refresh() {
+        migrationInfoService.refresh();
+        return migrationInfoService;
+    }
+
+    private static class FixedMigrationResolver extends CompositeMigrationResolver {
+        private final List<ResolvedMigration> resolvedMigrations;
+
+        FixedMigrationResolver(Configuration configuration, List<ResolvedMigration> resolvedMigrations) {
+            super(null, null, configuration, null, null, null, null);
+            this.resolvedMigrations = resolvedMigrations;
+        }
+
+        @Override
+        public Collection<ResolvedMigration> resolveMigrations(Configuration configuration) {
+            return resolvedMigrations;
+        }
+    }
+
+    private static class FixedSchemaHistory extends SchemaHistory {
+        private final List<AppliedMigration> appliedMigrations;
+
+        FixedSchemaHistory(List<AppliedMigration> appliedMigrations) {
+            this.appliedMigrations = appliedMigrations;
+        }
+
+        @Override
+        public <T> T lock(Callable<T> callable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public void create(boolean baseline) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<AppliedMigration> allAppliedMigrations() {
+            return appliedMigrations;
+        }
+
+        @Override
+        public boolean removeFailedMigrations(RepairResult repairResult, MigrationPattern[] migrationPatternFilter) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void update(AppliedMigration appliedMigration, ResolvedMigration resolvedMigration) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(AppliedMigration appliedMigration) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void doAddAppliedMigration(int installedRank, MigrationVersion version, String description,
+                                             MigrationType type, String script, Integer checksum,
+                                             int executionTime, boolean success) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-benchmarks
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.benchmarks;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing and comparing migration versions of the shapes commonly found in real projects: plain integers,
+ * dotted versions and timestamps.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MigrationVersionBenchmark {
+    private static final int COUNT = 1024;
+
+    private String[] rawVersions;
+    private MigrationVersion[] versions;
+
+    @Setup
+    public void setUp() {
+        rawVersions = new String[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            rawVersions[i] = switch (i % 3) {
+                case 0 -> Integer.toString(i);
+                case 1 -> "1." + (i / 10) + "." + (i % 10);
+                default -> "2024" + String.format("%02d%02d%04d", 1 + i % 12, 1 + i % 28, i);
+            };
+        }
+        versions = Arrays.stream(rawVersions).map(MigrationVersion::fromVersion).toArray(MigrationVersion[]::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void fromVersion(Blackhole blackhole) {
+        for (String rawVersion : rawVersions) {
+            blackhole.consume(MigrationVersion.fromVersion(rawVersion));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int compareTo() {
+        int result = 0;
+        for (int i = 1; i < COUNT; i++) {
+            result += versions[i].compareTo(versions[i - 1]);
+        }
+        return result + versions[0].compareTo(versions[COUNT - 1]);
+    }
+
+    @Benchmark
+    public MigrationVersion[] sort() {
+        MigrationVersion[] copy = versions.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,70 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-benchmarks
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.benchmarks;
+
+import org.flywaydb.core.api.configuration.ClassicConfiguration;
+import org.flywaydb.core.internal.parser.Parser;
+import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.resource.StringResource;
+import org.flywaydb.core.internal.sqlscript.SqlStatementIterator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long each dialect's parser takes to split a generated script into statements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+    @Param({"POSTGRESQL", "MYSQL", "SQLSERVER", "ORACLE", "SNOWFLAKE"})
+    public Dialect dialect;
+
+    @Param({"100", "2000"})
+    public int statements;
+
+    @Param({"false", "true"})
+    public boolean legacyParserReaders;
+
+    private Parser parser;
+    private StringResource resource;
+
+    @Setup
+    public void setUp() {
+        ClassicConfiguration configuration = new ClassicConfiguration();
+        configuration.setLegacyParserReaders(legacyParserReaders);
+        parser = dialect.createParser(configuration, new ParsingContext());
+        resource = new StringResource(SqlScriptGenerator.generate(dialect, statements));
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) throws Exception {
+        try (SqlStatementIterator iterator = parser.parse(resource)) {
+            while (iterator.hasNext()) {
+                blackhole.consume(iterator.next());
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-benchmarks
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.benchmarks;
+
+import org.flywaydb.core.api.configuration.ClassicConfiguration;
+import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.parser.PlaceholderReplacingReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures placeholder replacement over a script in which every statement contains several placeholders.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlaceholderReplacementBenchmark {
+    @Param({"100", "10000"})
+    public int statements;
+
+    private String script;
+    private Function<Reader, ? extends Reader> factory;
+    private final char[] buffer = new char[8192];
+
+    @Setup
+    public void setUp() {
+        script = SqlScriptGenerator.generateWithPlaceholders(statements);
+
+        ClassicConfiguration configuration = new ClassicConfiguration();
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("schema", "app");
+        placeholders.put("table", "flyway_schema_history");
+        placeholders.put("owner", "deployer");
+        configuration.setPlaceholders(placeholders);
+        ParsingContext parsingContext = new ParsingContext();
+        parsingContext.getPlaceholders().put("flyway:user", "benchmark");
+        factory = PlaceholderReplacingReader.createFactory(configuration, parsingContext);
+    }
+
+    @Benchmark
+    public long replaceBulk() throws IOException {
+        long checksum = 0;
+        try (Reader reader = factory.apply(new StringReader(script))) {
+            int read;
+            while ((read = reader.read(buffer, 0, buffer.length)) != -1) {
+                checksum += read + buffer[0];
+            }
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long replacePerCharacter() throws IOException {
+        long checksum = 0;
+        try (Reader reader = factory.apply(new StringReader(script))) {
+            int c;
+            while ((c = reader.read()) != -1) {
+                checksum += c;
+            }
+        }
+        return checksum;
+    }
+}
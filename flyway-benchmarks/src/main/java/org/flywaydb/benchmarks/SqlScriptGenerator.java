@@ -0,0 +1,209 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-benchmarks
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.benchmarks;
+
+import java.util.function.IntFunction;
+
+/**
+ * Generates deterministic migration scripts that exercise the dialect-specific parts of each parser, such as PL/SQL
+ * blocks, dollar quoting, COPY FROM STDIN data and GO batches, interleaved with ordinary DDL and DML.
+ */
+public final class SqlScriptGenerator {
+    private SqlScriptGenerator() {
+    }
+
+    /**
+     * @param dialect The dialect to generate the script for.
+     * @param statements The number of statement groups to generate.
+     * @return The script.
+     */
+    public static String generate(Dialect dialect, int statements) {
+        return switch (dialect) {
+            case POSTGRESQL -> repeat(statements, SqlScriptGenerator::postgresql);
+            case MYSQL -> repeat(statements, SqlScriptGenerator::mysql);
+            case SQLSERVER -> repeat(statements, SqlScriptGenerator::sqlServer);
+            case ORACLE -> repeat(statements, SqlScriptGenerator::oracle);
+            case SNOWFLAKE -> repeat(statements, SqlScriptGenerator::snowflake);
+        };
+    }
+
+    /**
+     * @return A script of plain DDL and DML with the given number of statements, containing placeholders in the
+     * default ${...} syntax.
+     */
+    public static String generateWithPlaceholders(int statements) {
+        return repeat(statements, i -> "-- Statement " + i + " for ${flyway:user}\n"
+                + "INSERT INTO ${schema}.audit_" + (i % 16) + " (id, name, created_by) VALUES ("
+                + i + ", 'row ''" + i + "'' of ${table}', '${owner}');\n");
+    }
+
+    private static String repeat(int statements, IntFunction<String> generator) {
+        StringBuilder script = new StringBuilder(statements * 256);
+        for (int i = 0; i < statements; i++) {
+            script.append(generator.apply(i));
+        }
+        return script.toString();
+    }
+
+    private static String postgresql(int i) {
+        return switch (i % 5) {
+            case 0 -> "CREATE TABLE account_" + i + " (\n"
+                    + "    id BIGSERIAL PRIMARY KEY,\n"
+                    + "    name VARCHAR(255) NOT NULL DEFAULT 'unnamed',\n"
+                    + "    balance NUMERIC(19, 4) NOT NULL DEFAULT 0 -- running total\n"
+                    + ");\n";
+            case 1 -> "CREATE OR REPLACE FUNCTION touch_" + i + "() RETURNS trigger AS $$\n"
+                    + "BEGIN\n"
+                    + "    NEW.updated_at := now(); -- a ; inside the body\n"
+                    + "    RAISE NOTICE 'touched %', NEW.id;\n"
+                    + "    RETURN NEW;\n"
+                    + "END;\n"
+                    + "$$ LANGUAGE plpgsql;\n";
+            case 2 -> "DO $body$\n"
+                    + "DECLARE\n"
+                    + "    r RECORD;\n"
+                    + "BEGIN\n"
+                    + "    FOR r IN SELECT id FROM account_" + (i - 2) + " LOOP\n"
+                    + "        EXECUTE format('UPDATE account_" + (i - 2) + " SET name = %L WHERE id = %s', $$x$$, r.id);\n"
+                    + "    END LOOP;\n"
+                    + "END\n"
+                    + "$body$;\n";
+            case 3 -> "COPY account_" + (i - 3) + " (id, name, balance) FROM STDIN;\n"
+                    + "1\talice\t10.5000\n"
+                    + "2\tbob\t-3.2500\n"
+                    + "3\tcarol; not a delimiter\t0.0000\n"
+                    + "\\.\n";
+            default -> "/* multi-line\n   comment */\n"
+                    + "INSERT INTO account_" + (i - 4) + " (name, balance) VALUES ('it''s " + i + "', 1), ('plain', 2);\n";
+        };
+    }
+
+    private static String mysql(int i) {
+        return switch (i % 4) {
+            case 0 -> "CREATE TABLE `order_" + i + "` (\n"
+                    + "    `id` BIGINT NOT NULL AUTO_INCREMENT,\n"
+                    + "    `note` VARCHAR(255) DEFAULT 'it''s \\\"quoted\\\"', # hash comment\n"
+                    + "    PRIMARY KEY (`id`)\n"
+                    + ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;\n";
+            case 1 -> "DELIMITER $$\n"
+                    + "CREATE PROCEDURE archive_" + i + "(IN cutoff DATE)\n"
+                    + "BEGIN\n"
+                    + "    DECLARE done INT DEFAULT 0;\n"
+                    + "    IF cutoff IS NOT NULL THEN\n"
+                    + "        DELETE FROM `order_" + (i - 1) + "` WHERE created < cutoff;\n"
+                    + "    END IF;\n"
+                    + "END$$\n"
+                    + "DELIMITER ;\n";
+            case 2 -> "/*!40101 SET @OLD_SQL_MODE=@@SQL_MODE */;\n"
+                    + "INSERT INTO `order_" + (i - 2) + "` (`note`) VALUES ('a'), ('b;c'), (\"d\");\n";
+            default -> "-- plain comment\n"
+                    + "ALTER TABLE `order_" + (i - 3) + "` ADD COLUMN `created` DATETIME NULL;\n";
+        };
+    }
+
+    private static String sqlServer(int i) {
+        return switch (i % 4) {
+            case 0 -> "CREATE TABLE [dbo].[customer_" + i + "] (\n"
+                    + "    [id] INT IDENTITY(1,1) PRIMARY KEY,\n"
+                    + "    [name] NVARCHAR(200) NOT NULL DEFAULT N'unknown'\n"
+                    + ");\n"
+                    + "GO\n";
+            case 1 -> "CREATE PROCEDURE [dbo].[rename_" + i + "] @id INT, @name NVARCHAR(200)\n"
+                    + "AS\n"
+                    + "BEGIN\n"
+                    + "    SET NOCOUNT ON;\n"
+                    + "    UPDATE [dbo].[customer_" + (i - 1) + "] SET [name] = @name WHERE [id] = @id;\n"
+                    + "    IF @@ROWCOUNT = 0\n"
+                    + "        RAISERROR(N'No row ''%d''', 16, 1, @id);\n"
+                    + "END\n"
+                    + "GO\n";
+            case 2 -> "BEGIN TRY\n"
+                    + "    INSERT INTO [dbo].[customer_" + (i - 2) + "] ([name]) VALUES (N'first'), (N'second; still one');\n"
+                    + "END TRY\n"
+                    + "BEGIN CATCH\n"
+                    + "    PRINT ERROR_MESSAGE();\n"
+                    + "END CATCH\n"
+                    + "GO\n";
+            default -> "/* batch comment */\n"
+                    + "EXEC sp_addextendedproperty N'MS_Description', N'Customers', N'SCHEMA', N'dbo', N'TABLE', N'customer_" + (i - 3) + "'\n"
+                    + "GO\n";
+        };
+    }
+
+    private static String oracle(int i) {
+        return switch (i % 4) {
+            case 0 -> "CREATE TABLE invoice_" + i + " (\n"
+                    + "    id NUMBER(19) GENERATED ALWAYS AS IDENTITY,\n"
+                    + "    memo VARCHAR2(4000) DEFAULT q'[it's; fine]'\n"
+                    + ");\n";
+            case 1 -> "CREATE OR REPLACE PACKAGE invoice_pkg_" + i + " AS\n"
+                    + "    PROCEDURE settle(p_id IN NUMBER);\n"
+                    + "END invoice_pkg_" + i + ";\n"
+                    + "/\n"
+                    + "CREATE OR REPLACE PACKAGE BODY invoice_pkg_" + i + " AS\n"
+                    + "    PROCEDURE settle(p_id IN NUMBER) IS\n"
+                    + "        v_count NUMBER;\n"
+                    + "    BEGIN\n"
+                    + "        SELECT COUNT(*) INTO v_count FROM invoice_" + (i - 1) + " WHERE id = p_id;\n"
+                    + "        IF v_count = 0 THEN\n"
+                    + "            RAISE_APPLICATION_ERROR(-20001, 'No invoice ' || p_id);\n"
+                    + "        END IF;\n"
+                    + "    END settle;\n"
+                    + "END invoice_pkg_" + i + ";\n"
+                    + "/\n";
+            case 2 -> "DECLARE\n"
+                    + "    CURSOR c IS SELECT id FROM invoice_" + (i - 2) + ";\n"
+                    + "BEGIN\n"
+                    + "    FOR r IN c LOOP\n"
+                    + "        UPDATE invoice_" + (i - 2) + " SET memo = q'{done; ok}' WHERE id = r.id;\n"
+                    + "    END LOOP;\n"
+                    + "END;\n"
+                    + "/\n";
+            default -> "-- trailing DML\n"
+                    + "INSERT INTO invoice_" + (i - 3) + " (memo) VALUES ('plain ''quoted''');\n";
+        };
+    }
+
+    private static String snowflake(int i) {
+        return switch (i % 4) {
+            case 0 -> "CREATE OR REPLACE TABLE event_" + i + " (\n"
+                    + "    id NUMBER AUTOINCREMENT,\n"
+                    + "    payload VARIANT,\n"
+                    + "    loaded_at TIMESTAMP_LTZ DEFAULT CURRENT_TIMESTAMP()\n"
+                    + ");\n";
+            case 1 -> "CREATE OR REPLACE PROCEDURE purge_" + i + "(DAYS FLOAT)\n"
+                    + "RETURNS STRING\n"
+                    + "LANGUAGE JAVASCRIPT\n"
+                    + "AS\n"
+                    + "$$\n"
+                    + "    var sql = \"DELETE FROM event_" + (i - 1) + " WHERE loaded_at < DATEADD(day, -\" + DAYS + \", CURRENT_TIMESTAMP());\";\n"
+                    + "    snowflake.execute({sqlText: sql});\n"
+                    + "    return 'ok';\n"
+                    + "$$;\n";
+            case 2 -> "COPY INTO event_" + (i - 2) + " (payload)\n"
+                    + "FROM @raw_stage/events/\n"
+                    + "FILE_FORMAT = (TYPE = 'JSON' STRIP_OUTER_ARRAY = TRUE)\n"
+                    + "ON_ERROR = 'CONTINUE';\n";
+            default -> "MERGE INTO event_" + (i - 3) + " t USING (SELECT 1 AS id, PARSE_JSON('{\"a\": \";\"}') AS payload) s\n"
+                    + "ON t.id = s.id\n"
+                    + "WHEN NOT MATCHED THEN INSERT (payload) VALUES (s.payload);\n";
+        };
+    }
+}
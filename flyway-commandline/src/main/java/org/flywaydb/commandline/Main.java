@@ -19,6 +19,7 @@
  */
 package org.flywaydb.commandline;
 
+import static org.flywaydb.commandline.logging.LoggingUtils.flushFileLogs;
 import static org.flywaydb.commandline.logging.LoggingUtils.getLogCreator;
 import static org.flywaydb.commandline.logging.LoggingUtils.initLogging;
 
@@ -54,6 +55,7 @@ import org.flywaydb.core.api.output.CompositeResult;
 import org.flywaydb.core.api.output.ErrorOutput;
 import org.flywaydb.core.api.output.HtmlResult;
 import org.flywaydb.core.api.output.InfoResult;
+import org.flywaydb.core.api.output.MigrateAllResult;
 import org.flywaydb.core.api.output.OperationResult;
 import org.flywaydb.core.extensibility.CommandExtension;
 import org.flywaydb.core.extensibility.EventTelemetryModel;
@@ -238,6 +240,7 @@ public class Main {
         if (currentLog instanceof BufferedLog) {
             ((BufferedLog) currentLog).flush(getLogCreator(commandLineArguments).createLogger(Main.class));
         }
+        flushFileLogs();
     }
 
     private static String getMessagesFromException(Throwable e) {
@@ -289,6 +292,13 @@ public class Main {
                 final HtmlResult hr = (HtmlResult) result;
                 hr.setException(e);
             }
+        } else if ("migrateAll".equals(operation)) {
+            final MigrateAllResult migrateAllResult = flyway.migrateAll();
+            if (!migrateAllResult.success && !commandLineArguments.shouldOutputJson()) {
+                throw new FlywayException("Migration failed for " + migrateAllResult.targetsFailed + " schema(s)"
+                    + (migrateAllResult.skippedTargets.isEmpty() ? "" : ", " + migrateAllResult.skippedTargets.size() + " schema(s) skipped"));
+            }
+            result = migrateAllResult;
         } else if ("validate".equals(operation)) {
             try (final EventTelemetryModel telemetryModel = new EventTelemetryModel("validate", telemetryManager)) {
                 try {
@@ -447,6 +457,7 @@ public class Main {
 
 
         LOG.info(indent + StringUtils.rightPad("migrate", padSize, ' ') + "Migrates the database");
+        LOG.info(indent + StringUtils.rightPad("migrateAll", padSize, ' ') + "Migrates each of the configured schemas separately, in parallel");
         LOG.info(indent + StringUtils.rightPad("clean", padSize, ' ') + "Drops all objects in the configured schemas");
         LOG.info(indent + StringUtils.rightPad("info", padSize, ' ') + "Prints the information about applied, current and pending migrations");
         LOG.info(indent + StringUtils.rightPad("validate", padSize, ' ') + "Validates the applied migrations against the ones on the classpath");
@@ -493,6 +504,15 @@ public class Main {
             LOG.info(indent + "scriptPlaceholderPrefix        Prefix of every script placeholder");
             LOG.info(indent + "scriptPlaceholderSuffix        Suffix of every script placeholder");
             LOG.info(indent + "lockRetryCount                 The maximum number of retries when trying to obtain a lock");
+            LOG.info(indent + "cleanParallelism               Maximum number of schemas cleaned at once");
+            LOG.info(indent + "pipelineParsing                Parse SQL migrations while executing them");
+            LOG.info(indent + "legacyParserReaders            Parse SQL migrations through per-character readers");
+            LOG.info(indent + "migrateAllParallelism          Maximum number of schemas migrated at once by migrateAll");
+            LOG.info(indent + "migrateAllFailFast             Whether migrateAll stops at the first failed schema");
+            LOG.info(indent + "batchSize                      Maximum number of statements per batch");
+            LOG.info(indent + "adaptiveBatchSize              Adapt the batch size to the observed round-trip time");
+            LOG.info(indent + "migrationCacheFile             File in which to cache checksums and parsing results of SQL migrations between runs");
+            LOG.info(indent + "s3CacheDirectory               Directory in which to cache migrations read from Amazon S3 between runs");
             LOG.info(indent + "jdbcProperties                 Properties to pass to the JDBC driver object");
             LOG.info(indent + "installedBy                    Username that will be recorded in the schema history table");
             LOG.info(indent + "target                         Target version up to which Flyway should use migrations");
@@ -517,6 +537,7 @@ public class Main {
             LOG.info(indent + "licenseKey                     [" + "teams] Your Flyway license key");
             LOG.info(indent + "color                          Whether to colorize output. Values: always, never, or auto (default)");
             LOG.info(indent + "outputFile                     Send output to the specified file alongside the console");
+            LOG.info(indent + "outputFileMaxSize              Size after which the output file is rotated, e.g. 10M");
             LOG.info(indent + "outputType                     Serialise the output in the given format, Values: json");
         } else {
             LOG.info(indent + "(To see all configuration options please run flyway --help)");
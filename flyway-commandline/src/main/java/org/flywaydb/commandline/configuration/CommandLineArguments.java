@@ -57,6 +57,7 @@ public class CommandLineArguments {
 
     // Command line specific configuration options
     private static final String OUTPUT_FILE = "outputFile";
+    private static final String OUTPUT_FILE_MAX_SIZE = "outputFileMaxSize";
     private static final String OUTPUT_TYPE = "outputType";
     private static final String CONFIG_FILE_ENCODING = "configFileEncoding";
     private static final String CONFIG_FILES = "configFiles";
@@ -68,6 +69,7 @@ public class CommandLineArguments {
     private static final String INFO_UNTIL_VERSION = "infoUntilVersion";
     private static final String INFO_OF_STATE = "infoOfState";
     private static final Set<String> COMMAND_LINE_ONLY_OPTIONS = new HashSet<>(Arrays.asList(OUTPUT_FILE,
+        OUTPUT_FILE_MAX_SIZE,
         COLOR,
         WORKING_DIRECTORY,
         INFO_SINCE_DATE,
@@ -108,6 +110,7 @@ public class CommandLineArguments {
             MIGRATIONS_IDS_FLAG,
             "help",
             "migrate",
+            "migrateAll",
             "clean",
             "info",
             "validate",
@@ -277,6 +280,8 @@ public class CommandLineArguments {
                 + "' is an invalid value for the -outputType option. Use 'json'.");
         }
 
+        getOutputFileMaxSize();
+
         String colorArgumentValue = getArgumentValue(COLOR, args);
 
         if (!Color.isValid(colorArgumentValue)) {
@@ -384,6 +389,36 @@ public class CommandLineArguments {
         return getArgumentValue(OUTPUT_FILE, args);
     }
 
+    /**
+     * @return The size in bytes after which the output file is rotated, or 0 if it is never rotated.
+     */
+    public long getOutputFileMaxSize() {
+        String maxSizeStr = getArgumentValue(OUTPUT_FILE_MAX_SIZE, args).trim();
+        if (maxSizeStr.isEmpty()) {
+            return 0;
+        }
+
+        long multiplier = 1;
+        switch (Character.toUpperCase(maxSizeStr.charAt(maxSizeStr.length() - 1))) {
+            case 'K' -> multiplier = 1024;
+            case 'M' -> multiplier = 1024 * 1024;
+            case 'G' -> multiplier = 1024 * 1024 * 1024;
+        }
+        String number = multiplier == 1 ? maxSizeStr : maxSizeStr.substring(0, maxSizeStr.length() - 1);
+        try {
+            long maxSize = Math.multiplyExact(Long.parseLong(number), multiplier);
+            if (maxSize >= 0) {
+                return maxSize;
+            }
+        } catch (NumberFormatException | ArithmeticException ignored) {
+        }
+        throw new FlywayException("'"
+            + maxSizeStr
+            + "' is an invalid value for the -"
+            + OUTPUT_FILE_MAX_SIZE
+            + " option. Use a number of bytes, optionally followed by K, M or G.");
+    }
+
     public String getWorkingDirectory() {
         return getArgumentValue(WORKING_DIRECTORY, args);
     }
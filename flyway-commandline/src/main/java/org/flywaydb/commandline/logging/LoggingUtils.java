@@ -23,6 +23,7 @@ import lombok.NoArgsConstructor;
 import org.flywaydb.commandline.configuration.CommandLineArguments;
 import org.flywaydb.commandline.logging.console.ConsoleLogCreator;
 import org.flywaydb.commandline.logging.file.FileLogCreator;
+import org.flywaydb.commandline.logging.file.FileLogWriter;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogCreator;
 import org.flywaydb.core.api.logging.LogFactory;
@@ -49,6 +50,13 @@ public class LoggingUtils {
         return new MultiLogCreator(logCreators);
     }
 
+    /**
+     * Waits until everything logged to output files so far has been written out.
+     */
+    public static void flushFileLogs() {
+        FileLogWriter.flushAll();
+    }
+
     public static Log initLogging(Class<?> clazz, CommandLineArguments commandLineArguments) {
         LogFactory.setFallbackLogCreator(getLogCreator(commandLineArguments));
         return LogFactory.getLog(clazz);
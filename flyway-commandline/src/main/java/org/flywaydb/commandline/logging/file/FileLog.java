@@ -21,20 +21,15 @@ package org.flywaydb.commandline.logging.file;
 
 import lombok.RequiredArgsConstructor;
 import org.flywaydb.commandline.logging.console.ConsoleLog.Level;
-import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.logging.Log;
 
-import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 
 @RequiredArgsConstructor
 public class FileLog implements Log {
 
-    private final Path path;
+    private final FileLogWriter writer;
     private final Level level;
 
     @Override
@@ -84,10 +79,6 @@ public class FileLog implements Log {
     }
 
     private void writeLogMessage(String logMessage) {
-        try {
-            Files.write(path, (logMessage + "\n").getBytes(), StandardOpenOption.APPEND, StandardOpenOption.WRITE);
-        } catch (IOException exception) {
-            throw new FlywayException("Could not write to file at " + path + ".", exception);
-        }
+        writer.write(logMessage + "\n");
     }
 }
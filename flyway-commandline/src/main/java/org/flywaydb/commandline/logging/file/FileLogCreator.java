@@ -20,20 +20,15 @@
 package org.flywaydb.commandline.logging.file;
 
 import org.flywaydb.commandline.configuration.CommandLineArguments;
-import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogCreator;
 import org.flywaydb.commandline.logging.console.ConsoleLog.Level;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
 
 public class FileLogCreator implements LogCreator {
     private final Level level;
-    private final Path path;
+    private final FileLogWriter writer;
 
     public FileLogCreator(CommandLineArguments commandLineArguments) {
         String outputFilepath = "";
@@ -43,20 +38,10 @@ public class FileLogCreator implements LogCreator {
         }
 
         this.level = commandLineArguments.getLogLevel();
-        this.path = Paths.get(outputFilepath);
-
-        prepareOutputFile(path);
+        this.writer = FileLogWriter.open(Paths.get(outputFilepath), commandLineArguments.getOutputFileMaxSize());
     }
 
     public Log createLogger(Class<?> clazz) {
-        return new FileLog(path, level);
-    }
-
-    private static void prepareOutputFile(Path path) {
-        try {
-            Files.write(path, "".getBytes(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE);
-        } catch (IOException exception) {
-            throw new FlywayException("Could not initialize log file at " + path + ".", exception);
-        }
+        return new FileLog(writer, level);
     }
 }
@@ -0,0 +1,295 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-commandline
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.commandline.logging.file;
+
+import org.flywaydb.core.api.FlywayException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Writes log lines to a file from a background thread. Lines are queued in memory, encoded as UTF-8 and written
+ * through a single open channel. The file is written out whenever the queue runs empty, at least once a second, and
+ * when the JVM shuts down. Once the file exceeds its maximum size it is moved to {@code <file>.1}, shifting earlier
+ * backups up to {@code <file>.5}, and a new file is started. Lines written after the shutdown hook closed the writer,
+ * such as by other shutdown hooks, are appended to the file directly.
+ */
+public final class FileLogWriter {
+    private static final int QUEUE_CAPACITY = 8192;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long FLUSH_INTERVAL_MILLIS = 1000;
+    private static final int MAX_BACKUPS = 5;
+
+    /**
+     * The writers per file, shared by all loggers writing to the same file.
+     */
+    private static final Map<Path, FileLogWriter> WRITERS = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final long maxSize;
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final Thread thread;
+    /**
+     * Held for reading while queueing a line and for writing while closing, so no line is queued after the
+     * background thread has written out the queue for the last time.
+     */
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+    private FileChannel channel;
+    private long size;
+    private long lastFlush = System.currentTimeMillis();
+    private volatile boolean closed;
+    /**
+     * The first failure of the background thread, reported to the next caller.
+     */
+    private volatile IOException failure;
+
+    private FileLogWriter(Path path, long maxSize) throws IOException {
+        this.path = path;
+        this.maxSize = maxSize;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                        StandardOpenOption.TRUNCATE_EXISTING);
+
+        thread = new Thread(this::run, "flyway-file-log");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "flyway-file-log-shutdown"));
+    }
+
+    /**
+     * Returns the writer for this file, truncating the file if it is not open yet.
+     *
+     * @param path The file to write to.
+     * @param maxSize The size in bytes after which the file is rotated, or 0 to never rotate it.
+     * @throws FlywayException if the file is already open with a different maximum size.
+     */
+    public static FileLogWriter open(Path path, long maxSize) {
+        FileLogWriter writer = WRITERS.computeIfAbsent(path.toAbsolutePath().normalize(), p -> {
+            try {
+                return new FileLogWriter(p, maxSize);
+            } catch (IOException exception) {
+                throw new FlywayException("Could not initialize log file at " + path + ".", exception);
+            }
+        });
+        if (writer.maxSize != maxSize) {
+            throw new FlywayException("Log file at " + path + " is already open with a maximum size of " + writer.maxSize
+                                              + " bytes, so it can't be opened with a maximum size of " + maxSize + " bytes.");
+        }
+        return writer;
+    }
+
+    /**
+     * Writes out everything queued so far in all open writers.
+     */
+    public static void flushAll() {
+        for (FileLogWriter writer : WRITERS.values()) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Queues this line for writing, waiting for space in the queue if the background thread falls behind. Once the
+     * writer is closed, the line is appended to the file directly instead.
+     */
+    public void write(String line) {
+        boolean queued = false;
+        closeLock.readLock().lock();
+        try {
+            while (!closed && !(queued = queue.offer(line, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS))) {
+                // Keep waiting for as long as the background thread is running
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        checkFailure();
+        if (!queued && closed) {
+            writeDirectly(line);
+        }
+    }
+
+    /**
+     * Waits until everything queued so far has been written to the file.
+     */
+    public void flush() {
+        awaitFlush();
+        checkFailure();
+    }
+
+    private void awaitFlush() {
+        CountDownLatch flushed = new CountDownLatch(1);
+        try {
+            while (!closed && !queue.offer(flushed, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                // Keep waiting for as long as the background thread is running
+            }
+            while (!closed && !flushed.await(FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                // The background thread may stop on a failure without ever getting to this flush
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void close() {
+        awaitFlush();
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+            // Wakes the background thread up, which then writes out the rest of the queue and stops. Lines written
+            // from now on go straight to the file, so wait for it.
+            CountDownLatch wakeUp = new CountDownLatch(1);
+            while (thread.isAlive() && !queue.offer(wakeUp, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                // The queue only stays full if the background thread stopped on a failure
+            }
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+    }
+
+    private synchronized void writeDirectly(String line) {
+        try {
+            Files.write(path, line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new FlywayException("Could not write to file at " + path + ".", e);
+        }
+    }
+
+    private void checkFailure() {
+        IOException exception = failure;
+        if (exception != null) {
+            throw new FlywayException("Could not write to file at " + path + ".", exception);
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                Object item = closed ? queue.poll() : queue.poll(FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (item == null) {
+                    writeBuffer();
+                    if (closed) {
+                        // Closed at shutdown, after the rest of the queue was written out
+                        return;
+                    }
+                    continue;
+                }
+                do {
+                    handle(item);
+                } while ((item = queue.poll()) != null);
+
+                if (System.currentTimeMillis() - lastFlush >= FLUSH_INTERVAL_MILLIS) {
+                    writeBuffer();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            failure = e;
+            closed = true;
+            // Release anyone still waiting for a flush
+            Object item;
+            while ((item = queue.poll()) != null) {
+                if (item instanceof CountDownLatch) {
+                    ((CountDownLatch) item).countDown();
+                }
+            }
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void handle(Object item) throws IOException {
+        if (item instanceof CountDownLatch) {
+            writeBuffer();
+            ((CountDownLatch) item).countDown();
+            return;
+        }
+
+        byte[] bytes = ((String) item).getBytes(StandardCharsets.UTF_8);
+        if (maxSize > 0 && size > 0 && size + bytes.length > maxSize) {
+            rotate();
+        }
+        if (bytes.length > buffer.remaining()) {
+            writeBuffer();
+        }
+        if (bytes.length > buffer.capacity()) {
+            writeFully(ByteBuffer.wrap(bytes));
+        } else {
+            buffer.put(bytes);
+        }
+        size += bytes.length;
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+        lastFlush = System.currentTimeMillis();
+    }
+
+    private void writeFully(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    private void rotate() throws IOException {
+        writeBuffer();
+        channel.close();
+
+        for (int i = MAX_BACKUPS - 1; i >= 1; i--) {
+            Path backup = backup(i);
+            if (Files.exists(backup)) {
+                Files.move(backup, backup(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(path, backup(1), StandardCopyOption.REPLACE_EXISTING);
+
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                   StandardOpenOption.TRUNCATE_EXISTING);
+        size = 0;
+    }
+
+    private Path backup(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+}
@@ -250,6 +250,46 @@ public class Flyway {
         }
     }
 
+    /**
+     * Migrates each of the configured schemas as a separate target, with the schema as its default schema and therefore
+     * its own schema history table. Up to {@code migrateAllParallelism} schemas are migrated at the same time.
+     *
+     * @return An object summarising the migrations of all schemas.
+     *
+     * @throws FlywayException when no schemas are configured or the migration was interrupted.
+     */
+    public MigrateAllResult migrateAll() throws FlywayException {
+        String[] schemas = configuration.getSchemas();
+        if (schemas.length == 0) {
+            throw new FlywayException("Unable to migrate all schemas as no schemas are configured");
+        }
+
+        List<Configuration> targets = new ArrayList<>(schemas.length);
+        for (String schema : schemas) {
+            targets.add(new FluentConfiguration(configuration.getClassLoader())
+                                .configuration(configuration)
+                                .schemas(schema)
+                                .defaultSchema(schema));
+        }
+        return migrateAll(targets, configuration.getMigrateAllParallelism(), configuration.isMigrateAllFailFast());
+    }
+
+    /**
+     * Migrates several independent targets, such as tenant databases, each with its own configuration. A failure of
+     * one target does not abort the migrations already in progress on the others.
+     *
+     * @param targets The configurations of the targets to migrate.
+     * @param parallelism The maximum number of targets migrated at the same time.
+     * @param failFast Whether to stop starting new targets as soon as one of them failed.
+     *
+     * @return An object summarising the migrations of all targets.
+     *
+     * @throws FlywayException when the migration was interrupted.
+     */
+    public static MigrateAllResult migrateAll(List<? extends Configuration> targets, int parallelism, boolean failFast) throws FlywayException {
+        return new DbMigrateAll(targets, parallelism, failFast).migrateAll();
+    }
+
     /**
      * Retrieves the complete information about all the migrations including applied, pending and current migrations with
      * details and status.
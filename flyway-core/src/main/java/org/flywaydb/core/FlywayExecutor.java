@@ -39,6 +39,8 @@ import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 import org.flywaydb.core.internal.parser.ParsingContext;
 import org.flywaydb.core.internal.resolver.CompositeMigrationResolver;
+import org.flywaydb.core.internal.resolver.MigrationMetadataCache;
+import org.flywaydb.core.internal.resolver.PrecalculatedChecksums;
 import org.flywaydb.core.internal.resolver.script.ScriptMigrationResolver;
 import org.flywaydb.core.internal.resource.NoopResourceProvider;
 import org.flywaydb.core.internal.resource.ResourceNameValidator;
@@ -51,17 +53,19 @@ import org.flywaydb.core.internal.schemahistory.SchemaHistoryFactory;
 import org.flywaydb.core.internal.sqlscript.SqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
 import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
-import org.flywaydb.core.internal.strategy.RetryStrategy;
 import org.flywaydb.core.internal.util.FileUtils;
 import org.flywaydb.core.internal.util.FlywayDbWebsiteLinks;
 import org.flywaydb.core.internal.util.IOUtils;
 import org.flywaydb.core.internal.util.Pair;
+import org.flywaydb.core.internal.util.StringUtils;
 
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.flywaydb.core.api.callback.Event.CREATE_SCHEMA;
 import static org.flywaydb.core.internal.database.DatabaseTypeRegister.redactJdbcUrl;
@@ -123,44 +127,57 @@ public class FlywayExecutor {
                                                                  .findFirst()
                                                                  .orElse(null);
 
-        final Pair<ResourceProvider, ClassProvider<JavaMigration>> resourceProviderClassProviderPair = createResourceAndClassProviders(scannerRequired);
-        final ResourceProvider resourceProvider = resourceProviderClassProviderPair.getLeft();
-        final ClassProvider<JavaMigration> classProvider = resourceProviderClassProviderPair.getRight();
+        // The locations are scanned while the connection to the database is being established
+        final CompletableFuture<Pair<ResourceProvider, ClassProvider<JavaMigration>>> resourceAndClassProvidersFuture =
+                createResourceAndClassProvidersAsync(scannerRequired);
+        final PrecalculatedChecksums precalculatedChecksums = precalculateChecksumsAsync(resourceAndClassProvidersFuture, scannerRequired);
         final ParsingContext parsingContext = new ParsingContext();
 
-
-
-
-
-
-        JdbcConnectionFactory jdbcConnectionFactory = new JdbcConnectionFactory(configuration.getDataSource(), configuration, statementInterceptor);
-
-        final DatabaseType databaseType = jdbcConnectionFactory.getDatabaseType();
-        final SqlScriptFactory sqlScriptFactory = databaseType.createSqlScriptFactory(configuration, parsingContext);
-
-        resourceNameValidator.validateSQLMigrationNaming(resourceProvider, configuration, databaseType);
-
-        RetryStrategy.setNumberOfRetries(configuration.getLockRetryCount());
-
-        final SqlScriptExecutorFactory noCallbackSqlScriptExecutorFactory = databaseType.createSqlScriptExecutorFactory(
-                jdbcConnectionFactory, NoopCallbackExecutor.INSTANCE, null);
-
-        jdbcConnectionFactory.setConnectionInitializer((jdbcConnectionFactory1, connection) -> {
-            if (configuration.getInitSql() == null) {
-                return;
-            }
-            StringResource resource = new StringResource(configuration.getInitSql());
-
-            SqlScript sqlScript = sqlScriptFactory.createSqlScript(resource, true, resourceProvider);
-
-            boolean outputQueryResults = configuration.isOutputQueryResults();
-
-            noCallbackSqlScriptExecutorFactory.createSqlScriptExecutor(connection, false, false, outputQueryResults).execute(sqlScript, configuration);
-        });
-
         Database database = null;
+        MigrationMetadataCache migrationMetadataCache = null;
         try {
-            database = databaseType.createDatabase(configuration, jdbcConnectionFactory, statementInterceptor);
+            final JdbcConnectionFactory jdbcConnectionFactory;
+            final DatabaseType databaseType;
+            final SqlScriptFactory sqlScriptFactory;
+            final SqlScriptExecutorFactory noCallbackSqlScriptExecutorFactory;
+            final ResourceProvider resourceProvider;
+            final ClassProvider<JavaMigration> classProvider;
+            try {
+                jdbcConnectionFactory = new JdbcConnectionFactory(configuration.getDataSource(), configuration, statementInterceptor);
+
+                databaseType = jdbcConnectionFactory.getDatabaseType();
+                sqlScriptFactory = databaseType.createSqlScriptFactory(configuration, parsingContext);
+
+                noCallbackSqlScriptExecutorFactory = databaseType.createSqlScriptExecutorFactory(
+                        jdbcConnectionFactory, NoopCallbackExecutor.INSTANCE, null);
+
+                jdbcConnectionFactory.setConnectionInitializer((jdbcConnectionFactory1, connection) -> {
+                    if (configuration.getInitSql() == null) {
+                        return;
+                    }
+                    StringResource resource = new StringResource(configuration.getInitSql());
+
+                    SqlScript sqlScript = sqlScriptFactory.createSqlScript(resource, true,
+                            awaitResourceAndClassProviders(resourceAndClassProvidersFuture).getLeft());
+
+                    boolean outputQueryResults = configuration.isOutputQueryResults();
+
+                    noCallbackSqlScriptExecutorFactory.createSqlScriptExecutor(connection, false, false, outputQueryResults).execute(sqlScript, configuration);
+                });
+
+                database = databaseType.createDatabase(configuration, jdbcConnectionFactory, statementInterceptor);
+                // Determined lazily, so do it now while the locations may still be scanned
+                database.getVersion();
+
+                final Pair<ResourceProvider, ClassProvider<JavaMigration>> resourceProviderClassProviderPair =
+                        awaitResourceAndClassProviders(resourceAndClassProvidersFuture);
+                resourceProvider = resourceProviderClassProviderPair.getLeft();
+                classProvider = resourceProviderClassProviderPair.getRight();
+            } catch (RuntimeException e) {
+                throw preferScanFailure(resourceAndClassProvidersFuture, e);
+            }
+
+            resourceNameValidator.validateSQLMigrationNaming(resourceProvider, configuration, databaseType);
 
             if (!dbConnectionInfoPrinted) {
                 dbConnectionInfoPrinted = true;
@@ -191,6 +208,7 @@ public class FlywayExecutor {
             }
 
             parsingContext.populate(database, configuration);
+            migrationMetadataCache = MigrationMetadataCache.load(configuration, parsingContext);
 
             database.ensureSupported(configuration);
 
@@ -208,7 +226,7 @@ public class FlywayExecutor {
                     statementInterceptor);
 
             result = command.execute(
-                    createMigrationResolver(resourceProvider, classProvider, sqlScriptExecutorFactory, sqlScriptFactory, parsingContext, statementInterceptor),
+                    createMigrationResolver(resourceProvider, classProvider, sqlScriptExecutorFactory, sqlScriptFactory, parsingContext, migrationMetadataCache, precalculatedChecksums, statementInterceptor),
                     schemaHistory,
                     database,
                     defaultSchema,
@@ -216,6 +234,12 @@ public class FlywayExecutor {
                     callbackExecutor,
                     statementInterceptor);
         } finally {
+            if (precalculatedChecksums != null) {
+                precalculatedChecksums.stop();
+            }
+            if (migrationMetadataCache != null) {
+                migrationMetadataCache.save();
+            }
             IOUtils.close(database);
             if (statementInterceptor instanceof AutoCloseable) {
                 IOUtils.close((AutoCloseable) statementInterceptor);
@@ -232,6 +256,79 @@ public class FlywayExecutor {
         return result;
     }
 
+    /**
+     * Creates the resource and class providers on a separate thread, so that scanning the locations overlaps with
+     * connecting to the database. Nothing is started when no scan is needed.
+     */
+    private CompletableFuture<Pair<ResourceProvider, ClassProvider<JavaMigration>>> createResourceAndClassProvidersAsync(boolean scannerRequired) {
+        if (!isScanRequired(scannerRequired)) {
+            return CompletableFuture.completedFuture(createResourceAndClassProviders(scannerRequired));
+        }
+        return CompletableFuture.supplyAsync(() -> createResourceAndClassProviders(scannerRequired), r -> {
+            Thread t = new Thread(r, "flyway-scanner");
+            t.setDaemon(true);
+            t.start();
+        });
+    }
+
+    /**
+     * Starts calculating the checksums of the SQL migrations as soon as the locations have been scanned, so that this
+     * too overlaps with connecting to the database. Parsing the migrations can't start that early, as it depends on the
+     * database and on placeholders taken from the connection.
+     *
+     * @return The checksums being calculated, or {@code null} if the command doesn't resolve migrations or their
+     * checksums are cached anyway.
+     */
+    private PrecalculatedChecksums precalculateChecksumsAsync(
+            CompletableFuture<Pair<ResourceProvider, ClassProvider<JavaMigration>>> resourceAndClassProvidersFuture, boolean scannerRequired) {
+        if (!scannerRequired || configuration.isSkipDefaultResolvers() || StringUtils.hasText(configuration.getMigrationCacheFile())) {
+            return null;
+        }
+        PrecalculatedChecksums precalculatedChecksums = new PrecalculatedChecksums();
+        resourceAndClassProvidersFuture.thenAccept(providers -> precalculatedChecksums.start(providers.getLeft(), configuration));
+        return precalculatedChecksums;
+    }
+
+    private static Pair<ResourceProvider, ClassProvider<JavaMigration>> awaitResourceAndClassProviders(
+            CompletableFuture<Pair<ResourceProvider, ClassProvider<JavaMigration>>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for the scan to finish after connecting to the database failed. A failed scan is reported in preference
+     * to the connection failure, as it was when the scan still ran before connecting, so the same failure surfaces no
+     * matter which of the two finished first.
+     */
+    private static RuntimeException preferScanFailure(
+            CompletableFuture<Pair<ResourceProvider, ClassProvider<JavaMigration>>> future, RuntimeException connectionFailure) {
+        try {
+            awaitResourceAndClassProviders(future);
+        } catch (RuntimeException scanFailure) {
+            if (scanFailure != connectionFailure) {
+                scanFailure.addSuppressed(connectionFailure);
+            }
+            return scanFailure;
+        }
+        return connectionFailure;
+    }
+
+    private boolean isScanRequired(boolean scannerRequired) {
+        if (!scannerRequired && configuration.isSkipDefaultResolvers() && configuration.isSkipDefaultCallbacks()) {
+            return false;
+        }
+        return configuration.getResourceProvider() == null || configuration.getJavaMigrationClassProvider() == null;
+    }
+
     private Pair<ResourceProvider, ClassProvider<JavaMigration>> createResourceAndClassProviders(boolean scannerRequired) {
         ResourceProvider resourceProvider;
         ClassProvider<JavaMigration> classProvider;
@@ -324,8 +421,10 @@ public class FlywayExecutor {
                                                       SqlScriptExecutorFactory sqlScriptExecutorFactory,
                                                       SqlScriptFactory sqlScriptFactory,
                                                       ParsingContext parsingContext,
+                                                      MigrationMetadataCache migrationMetadataCache,
+                                                      PrecalculatedChecksums precalculatedChecksums,
                                                       StatementInterceptor statementInterceptor) {
-        return new CompositeMigrationResolver(resourceProvider, classProvider, configuration, sqlScriptExecutorFactory, sqlScriptFactory, parsingContext, statementInterceptor, configuration.getResolvers());
+        return new CompositeMigrationResolver(resourceProvider, classProvider, configuration, sqlScriptExecutorFactory, sqlScriptFactory, parsingContext, migrationMetadataCache, precalculatedChecksums, statementInterceptor, configuration.getResolvers());
     }
 
     private void showMemoryUsage() {
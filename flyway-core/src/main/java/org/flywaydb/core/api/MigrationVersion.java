@@ -22,9 +22,9 @@ package org.flywaydb.core.api;
 import lombok.Getter;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class MigrationVersion implements Comparable<MigrationVersion> {
     /**
@@ -45,13 +45,24 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
     public static final MigrationVersion NEXT = new MigrationVersion(BigInteger.valueOf(-3), "<< Next Version >>");
 
     /**
-     * Regex for matching proper version format
+     * The number of versions kept in the intern cache before it is cleared.
      */
-    private static final Pattern SPLIT_REGEX = Pattern.compile("\\.(?=\\d)");
+    private static final int MAX_INTERNED = 1 << 17;
     /**
-     * The individual parts this version string is composed of. Ex. 1.2.3.4.0 -> [1, 2, 3, 4, 0]
+     * Versions created by {@link #fromVersion(String)}, by their raw text. Versions are immutable, so the same version
+     * read from many schema history rows and migration names can be shared.
      */
-    private final List<BigInteger> versionParts;
+    private static final Map<String, MigrationVersion> INTERNED = new ConcurrentHashMap<>();
+
+    /**
+     * The individual parts this version string is composed of, without trailing zeros. Ex. 1.2.3.4.0 -> [1, 2, 3, 4]
+     */
+    private final long[] versionParts;
+    /**
+     * The parts as BigIntegers if any of them does not fit in a long, otherwise {@code null}.
+     */
+    private final BigInteger[] bigVersionParts;
+    private final int hashCode;
     /**
      * The printable text to represent the version.
      */
@@ -90,7 +101,16 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         if (version == null) {
             return EMPTY;
         }
-        return new MigrationVersion(version);
+
+        MigrationVersion migrationVersion = INTERNED.get(version);
+        if (migrationVersion == null) {
+            migrationVersion = new MigrationVersion(version);
+            if (INTERNED.size() >= MAX_INTERNED) {
+                INTERNED.clear();
+            }
+            INTERNED.put(version, migrationVersion);
+        }
+        return migrationVersion;
     }
 
     /**
@@ -101,9 +121,42 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      */
     private MigrationVersion(String version) {
         String normalizedVersion = version.replace('_', '.');
-        this.versionParts = tokenize(normalizedVersion);
         this.displayText = normalizedVersion;
         this.rawVersion = version;
+
+        String[] parts = split(normalizedVersion);
+        long[] longParts = new long[parts.length];
+        BigInteger[] bigParts = null;
+        for (int i = 0; i < parts.length; i++) {
+            if (!parseLong(parts[i], longParts, i)) {
+                BigInteger part = toBigInteger(normalizedVersion, parts[i]);
+                if (part.bitLength() < Long.SIZE) {
+                    longParts[i] = part.longValue();
+                } else {
+                    if (bigParts == null) {
+                        bigParts = new BigInteger[parts.length];
+                    }
+                    bigParts[i] = part;
+                }
+            }
+        }
+
+        int length = parts.length;
+        while (length > 1 && (bigParts == null || bigParts[length - 1] == null) && longParts[length - 1] == 0) {
+            length--;
+        }
+
+        this.versionParts = length == longParts.length ? longParts : Arrays.copyOf(longParts, length);
+        if (bigParts != null) {
+            BigInteger[] allBigParts = new BigInteger[length];
+            for (int i = 0; i < length; i++) {
+                allBigParts[i] = bigParts[i] != null ? bigParts[i] : BigInteger.valueOf(longParts[i]);
+            }
+            this.bigVersionParts = allBigParts;
+        } else {
+            this.bigVersionParts = null;
+        }
+        this.hashCode = computeHashCode();
     }
 
     /**
@@ -112,11 +165,13 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      * @param displayText The alternative text to display instead of the version number.
      */
     private MigrationVersion(BigInteger version, String displayText) {
-        this.versionParts = new ArrayList<>();
-        this.versionParts.add(version);
+        this.versionParts = new long[] { version == null ? 0 : version.longValue() };
+        // Only the empty schema version has no number, which is kept as a null BigInteger
+        this.bigVersionParts = version == null ? new BigInteger[] { null } : null;
         this.displayText = displayText;
         this.rawVersion = displayText;
         this.predefined = true;
+        this.hashCode = computeHashCode();
     }
 
     @Override
@@ -169,7 +224,11 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
 
     @Override
     public int hashCode() {
-        return versionParts == null ? 0 : versionParts.hashCode();
+        return hashCode;
+    }
+
+    private int computeHashCode() {
+        return bigVersionParts != null ? Arrays.hashCode(bigVersionParts) : Arrays.hashCode(versionParts);
     }
 
     /**
@@ -216,24 +275,24 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      * @return The major version.
      */
     public BigInteger getMajor() {
-        return versionParts.get(0);
+        return bigVersionParts != null ? bigVersionParts[0] : BigInteger.valueOf(versionParts[0]);
     }
 
     /**
      * @return The major version as a string.
      */
     public String getMajorAsString() {
-        return versionParts.get(0).toString();
+        return bigVersionParts != null ? bigVersionParts[0].toString() : Long.toString(versionParts[0]);
     }
 
     /**
      * @return The minor version as a string.
      */
     public String getMinorAsString() {
-        if (versionParts.size() == 1) {
+        if (versionParts.length == 1) {
             return "0";
         }
-        return versionParts.get(1).toString();
+        return bigVersionParts != null ? bigVersionParts[1].toString() : Long.toString(versionParts[1]);
     }
 
     @Override
@@ -277,11 +336,36 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         if (o == LATEST) {
             return -1;
         }
-        final List<BigInteger> parts1 = versionParts;
-        final List<BigInteger> parts2 = o.versionParts;
-        int largestNumberOfParts = Math.max(parts1.size(), parts2.size());
+        if (bigVersionParts != null || o.bigVersionParts != null) {
+            return compareBigVersionParts(o);
+        }
+
+        final long[] parts1 = versionParts;
+        final long[] parts2 = o.versionParts;
+        int commonNumberOfParts = Math.min(parts1.length, parts2.length);
+        for (int i = 0; i < commonNumberOfParts; i++) {
+            if (parts1[i] != parts2[i]) {
+                return parts1[i] < parts2[i] ? -1 : 1;
+            }
+        }
+        // The missing parts of the shorter version count as zeros
+        for (int i = commonNumberOfParts; i < parts1.length; i++) {
+            if (parts1[i] != 0) {
+                return parts1[i] < 0 ? -1 : 1;
+            }
+        }
+        for (int i = commonNumberOfParts; i < parts2.length; i++) {
+            if (parts2[i] != 0) {
+                return parts2[i] < 0 ? 1 : -1;
+            }
+        }
+        return 0;
+    }
+
+    private int compareBigVersionParts(MigrationVersion o) {
+        int largestNumberOfParts = Math.max(versionParts.length, o.versionParts.length);
         for (int i = 0; i < largestNumberOfParts; i++) {
-            final int compared = getOrZero(parts1, i).compareTo(getOrZero(parts2, i));
+            final int compared = getOrZero(i).compareTo(o.getOrZero(i));
             if (compared != 0) {
                 return compared;
             }
@@ -289,33 +373,73 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         return 0;
     }
 
-    private BigInteger getOrZero(List<BigInteger> elements, int i) {
-        return i < elements.size() ? elements.get(i) : BigInteger.ZERO;
+    private BigInteger getOrZero(int i) {
+        if (i >= versionParts.length) {
+            return BigInteger.ZERO;
+        }
+        return bigVersionParts != null ? bigVersionParts[i] : BigInteger.valueOf(versionParts[i]);
     }
 
     /**
-     * Splits this string into list of BigIntegers
+     * Splits this string at every dot followed by a digit.
      *
      * @param versionStr The string to split.
-     * @return The resulting array.
+     * @return The resulting parts.
      */
-    private List<BigInteger> tokenize(String versionStr) {
-        List<BigInteger> parts = new ArrayList<>();
-        for (String part : SPLIT_REGEX.split(versionStr)) {
-            parts.add(toBigInteger(versionStr, part));
+    private static String[] split(String versionStr) {
+        int count = 1;
+        for (int i = 0; i < versionStr.length() - 1; i++) {
+            if (isSplitPoint(versionStr, i)) {
+                count++;
+            }
         }
 
-        for (int i = parts.size() - 1; i > 0; i--) {
-            if (!parts.get(i).equals(BigInteger.ZERO)) {
-                break;
+        String[] parts = new String[count];
+        int part = 0;
+        int start = 0;
+        for (int i = 0; i < versionStr.length() - 1; i++) {
+            if (isSplitPoint(versionStr, i)) {
+                parts[part++] = versionStr.substring(start, i);
+                start = i + 1;
             }
-            parts.remove(i);
         }
-
+        parts[part] = versionStr.substring(start);
         return parts;
     }
 
-    private BigInteger toBigInteger(String versionStr, String part) {
+    private static boolean isSplitPoint(String versionStr, int i) {
+        if (i + 1 >= versionStr.length() || versionStr.charAt(i) != '.') {
+            return false;
+        }
+        char next = versionStr.charAt(i + 1);
+        return next >= '0' && next <= '9';
+    }
+
+    /**
+     * Parses this part into a long if it consists of at most 18 ASCII digits after an optional sign.
+     *
+     * @return {@code false} if the part has to be parsed as a BigInteger instead.
+     */
+    private static boolean parseLong(String part, long[] parts, int index) {
+        int length = part.length();
+        int start = length > 0 && (part.charAt(0) == '-' || part.charAt(0) == '+') ? 1 : 0;
+        if (length == start || length - start > 18) {
+            return false;
+        }
+
+        long value = 0;
+        for (int i = start; i < length; i++) {
+            char c = part.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            value = value * 10 + (c - '0');
+        }
+        parts[index] = part.charAt(0) == '-' ? -value : value;
+        return true;
+    }
+
+    private static BigInteger toBigInteger(String versionStr, String part) {
         try {
             return new BigInteger(part);
         } catch (NumberFormatException e) {
@@ -399,6 +399,17 @@ public class ClassicConfiguration implements Configuration {
         getModernFlyway().setReportFilename(reportFilename);
     }
 
+    @Override
+    public int getReportRetention() {
+        return getEnvironmentOverrides().getReportRetention() != null
+            ? getEnvironmentOverrides().getReportRetention()
+            : getModernFlyway().getReportRetention();
+    }
+
+    public void setReportRetention(Integer reportRetention) {
+        getModernFlyway().setReportRetention(reportRetention);
+    }
+
     @Override
     public Map<String, ResolvedEnvironment> getCachedResolvedEnvironments() {
         return Map.copyOf(resolvedEnvironments);
@@ -873,6 +884,105 @@ public class ClassicConfiguration implements Configuration {
         getModernFlyway().setLockRetryCount(lockRetryCount);
     }
 
+    @Override
+    public int getCleanParallelism() {
+        return getEnvironmentOverrides().getCleanParallelism() != null
+            ? getEnvironmentOverrides().getCleanParallelism()
+            : getModernFlyway().getCleanParallelism();
+    }
+
+    public void setCleanParallelism(Integer cleanParallelism) {
+        getModernFlyway().setCleanParallelism(cleanParallelism);
+    }
+
+    @Override
+    public boolean isPipelineParsing() {
+        return getEnvironmentOverrides().getPipelineParsing() != null
+            ? getEnvironmentOverrides().getPipelineParsing()
+            : getModernFlyway().getPipelineParsing();
+    }
+
+    public void setPipelineParsing(Boolean pipelineParsing) {
+        getModernFlyway().setPipelineParsing(pipelineParsing);
+    }
+
+    @Override
+    public boolean isLegacyParserReaders() {
+        return getEnvironmentOverrides().getLegacyParserReaders() != null
+            ? getEnvironmentOverrides().getLegacyParserReaders()
+            : getModernFlyway().getLegacyParserReaders();
+    }
+
+    public void setLegacyParserReaders(Boolean legacyParserReaders) {
+        getModernFlyway().setLegacyParserReaders(legacyParserReaders);
+    }
+
+    @Override
+    public boolean isMigrateAllFailFast() {
+        return getEnvironmentOverrides().getMigrateAllFailFast() != null
+            ? getEnvironmentOverrides().getMigrateAllFailFast()
+            : getModernFlyway().getMigrateAllFailFast();
+    }
+
+    public void setMigrateAllFailFast(Boolean migrateAllFailFast) {
+        getModernFlyway().setMigrateAllFailFast(migrateAllFailFast);
+    }
+
+    @Override
+    public int getMigrateAllParallelism() {
+        return getEnvironmentOverrides().getMigrateAllParallelism() != null
+            ? getEnvironmentOverrides().getMigrateAllParallelism()
+            : getModernFlyway().getMigrateAllParallelism();
+    }
+
+    public void setMigrateAllParallelism(Integer migrateAllParallelism) {
+        getModernFlyway().setMigrateAllParallelism(migrateAllParallelism);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return getEnvironmentOverrides().getBatchSize() != null
+            ? getEnvironmentOverrides().getBatchSize()
+            : getModernFlyway().getBatchSize();
+    }
+
+    public void setBatchSize(Integer batchSize) {
+        getModernFlyway().setBatchSize(batchSize);
+    }
+
+    @Override
+    public boolean isAdaptiveBatchSize() {
+        return getEnvironmentOverrides().getAdaptiveBatchSize() != null
+            ? getEnvironmentOverrides().getAdaptiveBatchSize()
+            : getModernFlyway().getAdaptiveBatchSize();
+    }
+
+    public void setAdaptiveBatchSize(Boolean adaptiveBatchSize) {
+        getModernFlyway().setAdaptiveBatchSize(adaptiveBatchSize);
+    }
+
+    @Override
+    public String getMigrationCacheFile() {
+        return getEnvironmentOverrides().getMigrationCacheFile() != null
+            ? getEnvironmentOverrides().getMigrationCacheFile()
+            : getModernFlyway().getMigrationCacheFile();
+    }
+
+    public void setMigrationCacheFile(String migrationCacheFile) {
+        getModernFlyway().setMigrationCacheFile(migrationCacheFile);
+    }
+
+    @Override
+    public String getS3CacheDirectory() {
+        return getEnvironmentOverrides().getS3CacheDirectory() != null
+            ? getEnvironmentOverrides().getS3CacheDirectory()
+            : getModernFlyway().getS3CacheDirectory();
+    }
+
+    public void setS3CacheDirectory(String s3CacheDirectory) {
+        getModernFlyway().setS3CacheDirectory(s3CacheDirectory);
+    }
+
     @Override
     public Map<String, String> getJdbcProperties() {
         return getCurrentResolvedEnvironment().getJdbcProperties();
@@ -1762,6 +1872,10 @@ public class ClassicConfiguration implements Configuration {
         if (reportFilenameProp != null) {
             setReportFilename(reportFilenameProp);
         }
+        Integer reportRetentionProp = removeInteger(props, ConfigUtils.REPORT_RETENTION);
+        if (reportRetentionProp != null) {
+            setReportRetention(reportRetentionProp);
+        }
 
         String driverProp = props.remove(ConfigUtils.DRIVER);
         if (driverProp != null) {
@@ -1925,6 +2039,42 @@ public class ClassicConfiguration implements Configuration {
         if (lockRetryCount != null) {
             setLockRetryCount(lockRetryCount);
         }
+        Integer cleanParallelismProp = removeInteger(props, ConfigUtils.CLEAN_PARALLELISM);
+        if (cleanParallelismProp != null) {
+            setCleanParallelism(cleanParallelismProp);
+        }
+        Boolean pipelineParsingProp = removeBoolean(props, ConfigUtils.PIPELINE_PARSING);
+        if (pipelineParsingProp != null) {
+            setPipelineParsing(pipelineParsingProp);
+        }
+        Boolean legacyParserReadersProp = removeBoolean(props, ConfigUtils.LEGACY_PARSER_READERS);
+        if (legacyParserReadersProp != null) {
+            setLegacyParserReaders(legacyParserReadersProp);
+        }
+        Boolean migrateAllFailFastProp = removeBoolean(props, ConfigUtils.MIGRATE_ALL_FAIL_FAST);
+        if (migrateAllFailFastProp != null) {
+            setMigrateAllFailFast(migrateAllFailFastProp);
+        }
+        Integer migrateAllParallelismProp = removeInteger(props, ConfigUtils.MIGRATE_ALL_PARALLELISM);
+        if (migrateAllParallelismProp != null) {
+            setMigrateAllParallelism(migrateAllParallelismProp);
+        }
+        Integer batchSizeProp = removeInteger(props, ConfigUtils.BATCH_SIZE);
+        if (batchSizeProp != null) {
+            setBatchSize(batchSizeProp);
+        }
+        Boolean adaptiveBatchSizeProp = removeBoolean(props, ConfigUtils.ADAPTIVE_BATCH_SIZE);
+        if (adaptiveBatchSizeProp != null) {
+            setAdaptiveBatchSize(adaptiveBatchSizeProp);
+        }
+        String migrationCacheFileProp = props.remove(ConfigUtils.MIGRATION_CACHE_FILE);
+        if (migrationCacheFileProp != null) {
+            setMigrationCacheFile(migrationCacheFileProp);
+        }
+        String s3CacheDirectoryProp = props.remove(ConfigUtils.S3_CACHE_DIRECTORY);
+        if (s3CacheDirectoryProp != null) {
+            setS3CacheDirectory(s3CacheDirectoryProp);
+        }
         Boolean outOfOrderProp = removeBoolean(props, ConfigUtils.OUT_OF_ORDER);
         if (outOfOrderProp != null) {
             setOutOfOrder(outOfOrderProp);
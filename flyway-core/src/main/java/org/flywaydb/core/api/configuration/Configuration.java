@@ -61,6 +61,12 @@ public interface Configuration {
      */
     String getReportFilename();
 
+    /**
+     * Get the number of runs kept in generated reports. Older runs are dropped from the report.
+     * @return the number of runs to keep, or 0 to keep all of them (default: 0)
+     */
+    int getReportRetention();
+
     /*
      * Get whether reports are enabled.
      * @return reports enabled;
@@ -591,6 +597,80 @@ public interface Configuration {
      */
     int getLockRetryCount();
 
+    /**
+     * The maximum number of schemas cleaned at the same time, each on its own connection. Schemas that can't be cleaned
+     * independently, for example because of foreign keys across schemas, are cleaned again one after the other afterwards.
+     *
+     * @return The maximum number of schemas cleaned at the same time. 1 cleans the schemas one after the other on a single connection. (default: 1)
+     */
+    int getCleanParallelism();
+
+    /**
+     * Whether SQL migrations are parsed on a background thread while their statements are being executed, instead of being
+     * parsed in full before the first statement is sent. This only applies to scripts whose transactional behaviour is known
+     * without parsing them, that is when it is cached, set in the script configuration, or executeInTransaction is disabled.
+     * A syntax error is then only reported once the statements before it have been executed.
+     *
+     * @return {@code true} to overlap parsing and execution. {@code false} to parse each script in full first. (default: {@code false})
+     */
+    boolean isPipelineParsing();
+
+    /**
+     * Whether SQL migrations are parsed through the original chain of per-character readers instead of reading them into a
+     * character buffer that the parser moves through with cursors. Only meant as a fallback should a script parse differently.
+     *
+     * @return {@code true} to use the per-character readers. {@code false} to use the character buffer. (default: {@code false})
+     */
+    boolean isLegacyParserReaders();
+
+    /**
+     * Whether {@code migrateAll} stops starting new targets as soon as one of them fails.
+     * Targets that are already being migrated always run to completion.
+     *
+     * @return {@code true} to stop at the first failure. {@code false} to migrate all remaining targets regardless. (default: {@code true})
+     */
+    boolean isMigrateAllFailFast();
+
+    /**
+     * The maximum number of targets migrated at the same time by {@code migrateAll}.
+     *
+     * @return The maximum number of concurrent migrations. (default: 4)
+     */
+    int getMigrateAllParallelism();
+
+    /**
+     * The maximum number of statements sent to the database in a single batch when {@code batch} is enabled.
+     * When {@code adaptiveBatchSize} is enabled this is the size of the first batch instead.
+     *
+     * @return The maximum number of statements per batch. (default: 100)
+     */
+    int getBatchSize();
+
+    /**
+     * Whether to adapt the batch size to the observed round-trip time and payload size when {@code batch} is enabled.
+     * Starting at {@code batchSize}, batches grow while the database answers quickly and shrink when a round trip becomes slow,
+     * within limits that are safe for common JDBC drivers.
+     *
+     * @return {@code true} to adapt the batch size. {@code false} to always use {@code batchSize}. (default: {@code false})
+     */
+    boolean isAdaptiveBatchSize();
+
+    /**
+     * The file in which Flyway caches the checksums and parsing results of SQL migrations between runs. Entries
+     * are reused as long as the migration file and the settings that affect parsing are unchanged.
+     *
+     * @return The path to the cache file, or {@code null} to disable caching (default: {@code null})
+     */
+    String getMigrationCacheFile();
+
+    /**
+     * The directory in which Flyway keeps the contents of migrations read from Amazon S3 between runs. Objects are
+     * keyed by bucket, key and ETag, so unchanged objects are never downloaded again.
+     *
+     * @return The path to the cache directory, or {@code null} to disable caching (default: {@code null})
+     */
+    String getS3CacheDirectory();
+
     /**
      * Properties to pass to the JDBC driver object
      *
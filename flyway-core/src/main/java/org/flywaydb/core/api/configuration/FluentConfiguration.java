@@ -117,6 +117,16 @@ public class FluentConfiguration implements Configuration {
         return this;
     }
 
+    /**
+     * Sets the number of runs kept in generated reports. Older runs are dropped from the report.
+     *
+     * @param reportRetention The number of runs to keep, or 0 to keep all of them. (default: 0)
+     */
+    public FluentConfiguration reportRetention(int reportRetention) {
+        config.setReportRetention(reportRetention);
+        return this;
+    }
+
     public FluentConfiguration environment(String environment) {
         config.setEnvironment(environment);
         return this;
@@ -832,6 +842,109 @@ public class FluentConfiguration implements Configuration {
         return this;
     }
 
+    /**
+     * The maximum number of schemas cleaned at the same time, each on its own connection. Schemas that can't be cleaned
+     * independently, for example because of foreign keys across schemas, are cleaned again one after the other afterwards.
+     *
+     * @param cleanParallelism The maximum number of schemas cleaned at the same time. 1 cleans the schemas one after the other on a single connection. (default: 1)
+     */
+    public FluentConfiguration cleanParallelism(int cleanParallelism) {
+        config.setCleanParallelism(cleanParallelism);
+        return this;
+    }
+
+    /**
+     * Whether SQL migrations are parsed on a background thread while their statements are being executed, instead of being
+     * parsed in full before the first statement is sent. This only applies to scripts whose transactional behaviour is known
+     * without parsing them, that is when it is cached, set in the script configuration, or executeInTransaction is disabled.
+     * A syntax error is then only reported once the statements before it have been executed.
+     *
+     * @param pipelineParsing {@code true} to overlap parsing and execution. {@code false} to parse each script in full first. (default: {@code false})
+     */
+    public FluentConfiguration pipelineParsing(boolean pipelineParsing) {
+        config.setPipelineParsing(pipelineParsing);
+        return this;
+    }
+
+    /**
+     * Whether SQL migrations are parsed through the original chain of per-character readers instead of reading them into a
+     * character buffer that the parser moves through with cursors. Only meant as a fallback should a script parse differently.
+     *
+     * @param legacyParserReaders {@code true} to use the per-character readers. {@code false} to use the character buffer. (default: {@code false})
+     */
+    public FluentConfiguration legacyParserReaders(boolean legacyParserReaders) {
+        config.setLegacyParserReaders(legacyParserReaders);
+        return this;
+    }
+
+    /**
+     * Whether {@code migrateAll} stops starting new targets as soon as one of them fails.
+     * Targets that are already being migrated always run to completion.
+     *
+     * @param migrateAllFailFast {@code true} to stop at the first failure. {@code false} to migrate all remaining targets regardless. (default: {@code true})
+     */
+    public FluentConfiguration migrateAllFailFast(boolean migrateAllFailFast) {
+        config.setMigrateAllFailFast(migrateAllFailFast);
+        return this;
+    }
+
+    /**
+     * The maximum number of targets migrated at the same time by {@code migrateAll}.
+     *
+     * @param migrateAllParallelism The maximum number of concurrent migrations. (default: 4)
+     */
+    public FluentConfiguration migrateAllParallelism(int migrateAllParallelism) {
+        config.setMigrateAllParallelism(migrateAllParallelism);
+        return this;
+    }
+
+    /**
+     * The maximum number of statements sent to the database in a single batch when {@code batch} is enabled.
+     * When {@code adaptiveBatchSize} is enabled this is the size of the first batch instead.
+     *
+     * @param batchSize The maximum number of statements per batch. (default: 100)
+     */
+    public FluentConfiguration batchSize(int batchSize) {
+        config.setBatchSize(batchSize);
+        return this;
+    }
+
+    /**
+     * Whether to adapt the batch size to the observed round-trip time and payload size when {@code batch} is enabled.
+     * Starting at {@code batchSize}, batches grow while the database answers quickly and shrink when a round trip becomes slow,
+     * within limits that are safe for common JDBC drivers.
+     *
+     * @param adaptiveBatchSize {@code true} to adapt the batch size. {@code false} to always use {@code batchSize}. (default: {@code false})
+     */
+    public FluentConfiguration adaptiveBatchSize(boolean adaptiveBatchSize) {
+        config.setAdaptiveBatchSize(adaptiveBatchSize);
+        return this;
+    }
+
+    /**
+     * Sets the file in which Flyway caches the checksums and parsing results of SQL migrations between runs, such as
+     * {@code target/flyway-cache.json} or {@code ~/.flyway/cache.json}. Entries are reused as long as the migration file
+     * and the settings that affect parsing are unchanged.
+     *
+     * @param migrationCacheFile The path to the cache file, or {@code null} to disable caching (default: {@code null})
+     */
+    public FluentConfiguration migrationCacheFile(String migrationCacheFile) {
+        config.setMigrationCacheFile(migrationCacheFile);
+        return this;
+    }
+
+    /**
+     * Sets the directory in which Flyway keeps the contents of migrations read from Amazon S3 between runs, such as
+     * {@code target/flyway-s3-cache}. Objects are keyed by bucket, key and ETag, so unchanged objects are never
+     * downloaded again.
+     *
+     * @param s3CacheDirectory The path to the cache directory, or {@code null} to disable caching (default: {@code null})
+     */
+    public FluentConfiguration s3CacheDirectory(String s3CacheDirectory) {
+        config.setS3CacheDirectory(s3CacheDirectory);
+        return this;
+    }
+
     /**
      * Properties to pass to the JDBC driver object
      *
@@ -20,10 +20,15 @@
 package org.flywaydb.core.api.output;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 
 public class CleanResult extends OperationResultBase {
     public ArrayList<String> schemasCleaned = new ArrayList<>();
     public ArrayList<String> schemasDropped = new ArrayList<>();
+    /**
+     * The time in milliseconds spent cleaning each schema.
+     */
+    public LinkedHashMap<String, Long> schemaCleanTimes = new LinkedHashMap<>();
 
     public CleanResult(String flywayVersion, String database) {
         this.flywayVersion = flywayVersion;
@@ -0,0 +1,39 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.api.output;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The result of migrating several targets with {@code migrateAll}. The individual results are in the order of the
+ * targets; a failed target is represented by a {@link MigrateErrorResult}.
+ */
+public class MigrateAllResult extends CompositeResult<MigrateResult> {
+    public static final String COMMAND = "migrateAll";
+    public boolean success = true;
+    public int targetsSucceeded;
+    public int targetsFailed;
+    /**
+     * The targets that were never started because an earlier target failed in fail-fast mode.
+     */
+    public List<String> skippedTargets = new ArrayList<>();
+    public long totalExecutionTime;
+}
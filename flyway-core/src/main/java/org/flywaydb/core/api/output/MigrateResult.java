@@ -42,6 +42,10 @@ public class MigrateResult extends HtmlResult {
     public String database;
     public List<String> warnings = new ArrayList<>();
     public String databaseType;
+    /**
+     * The time spent waiting for the lock on the schema history table, in milliseconds.
+     */
+    public long lockWaitTime;
 
     private transient Map<MigrationKey, MigrateOutput> pendingMigrations = new HashMap<>();
     private transient Map<MigrationKey, MigrateOutput> failedMigrations = new HashMap<>();
@@ -80,6 +84,7 @@ public class MigrateResult extends HtmlResult {
         this.targetSchemaVersion = migrateResult.targetSchemaVersion;
         this.warnings = migrateResult.warnings;
         this.databaseType = migrateResult.databaseType;
+        this.lockWaitTime = migrateResult.lockWaitTime;
     }
 
     public void putSuccessfulMigration(final MigrationInfo migrationInfo, final int executionTime) {
@@ -67,7 +67,28 @@ public class DbMigrate {
      * This is used to remember the type of migration between calls to migrateGroup().
      */
     private boolean isPreviousVersioned;
-    private final List<ResolvedMigration> appliedResolvedMigrations = new ArrayList<>();
+    private final Set<ResolvedMigration> appliedResolvedMigrations = new HashSet<>();
+    /**
+     * The info model for this run. It is built once and advanced in place as migrations are applied. It is only
+     * refreshed when the schema history table has been changed outside of this run.
+     */
+    private MigrationInfoServiceImpl infoService;
+    /**
+     * The pending migrations as of the last refresh of the info model, in the order they should be applied.
+     */
+    private MigrationInfoImpl[] pendingMigrations;
+    /**
+     * The index of the next pending migration to consider.
+     */
+    private int nextPendingMigration;
+    /**
+     * The current version of the schema, advanced as versioned migrations are applied.
+     */
+    private MigrationVersion currentSchemaVersion;
+    /**
+     * The number of rows this run expects in the schema history table, or -1 if the info model has not been built yet.
+     */
+    private int expectedAppliedMigrationCount = -1;
     private final ProgressLogger progress;
 
     public DbMigrate(Database database,
@@ -105,6 +126,7 @@ public class DbMigrate {
 
             migrateResult.targetSchemaVersion = getTargetVersion();
             migrateResult.migrationsExecuted = count;
+            migrateResult.lockWaitTime = schemaHistory.getLockWaitTime();
 
             logSummary(count, migrateResult.getTotalMigrationTime(), migrateResult.targetSchemaVersion);
 
@@ -177,13 +199,52 @@ public class DbMigrate {
      * @return The number of newly applied migrations.
      */
     private Integer migrateGroup(boolean firstRun) {
-        MigrationInfoServiceImpl infoService =
-                new MigrationInfoServiceImpl(migrationResolver, schemaHistory, database, configuration,
-                                             configuration.getTarget(), configuration.isOutOfOrder(), ValidatePatternUtils.getIgnoreAllPattern(), configuration.getCherryPick());
+        if (isInfoServiceStale()) {
+            refreshInfoService(firstRun);
+        }
+
+        LinkedHashMap<MigrationInfoImpl, Boolean> group = new LinkedHashMap<>();
+        while (nextPendingMigration < pendingMigrations.length) {
+            MigrationInfoImpl pendingMigration = pendingMigrations[nextPendingMigration++];
+            if (appliedResolvedMigrations.contains(pendingMigration.getResolvedMigration())) {
+                continue;
+            }
+
+            boolean isOutOfOrder = pendingMigration.getVersion() != null
+                    && pendingMigration.getVersion().compareTo(currentSchemaVersion) < 0;
+
+            group.put(pendingMigration, isOutOfOrder);
+
+            if (!configuration.isGroup()) {
+                // Only include one pending migration if group is disabled
+                break;
+            }
+        }
+
+        if (!group.isEmpty()) {
+            applyMigrations(group, configuration.isSkipExecutingMigrations());
+        }
+        return group.size();
+    }
+
+    /**
+     * Checks whether the schema history table contains rows that were not written by this run, in which case the info
+     * model has to be rebuilt from scratch.
+     */
+    private boolean isInfoServiceStale() {
+        return infoService == null || schemaHistory.allAppliedMigrations().size() != expectedAppliedMigrationCount;
+    }
+
+    private void refreshInfoService(boolean firstRun) {
+        if (infoService == null) {
+            infoService = new MigrationInfoServiceImpl(migrationResolver, schemaHistory, database, configuration,
+                                                       configuration.getTarget(), configuration.isOutOfOrder(), ValidatePatternUtils.getIgnoreAllPattern(), configuration.getCherryPick());
+        }
         infoService.refresh();
+        expectedAppliedMigrationCount = schemaHistory.allAppliedMigrations().size();
 
         MigrationInfo current = infoService.current();
-        MigrationVersion currentSchemaVersion = current == null ? MigrationVersion.EMPTY : current.getVersion();
+        currentSchemaVersion = current == null ? MigrationVersion.EMPTY : current.getVersion();
         if (firstRun) {
             LOG.info("Current version of schema " + schema + ": " + currentSchemaVersion);
 
@@ -232,29 +293,20 @@ public class DbMigrate {
             }
         }
 
-        Arrays.stream(infoService.pending()).forEach(migrateResult::putPendingMigration);
-
-        LinkedHashMap<MigrationInfoImpl, Boolean> group = new LinkedHashMap<>();
-        for (MigrationInfoImpl pendingMigration : infoService.pending()) {
-            if (appliedResolvedMigrations.contains(pendingMigration.getResolvedMigration())) {
-                continue;
-            }
-
-            boolean isOutOfOrder = pendingMigration.getVersion() != null
-                    && pendingMigration.getVersion().compareTo(currentSchemaVersion) < 0;
-
-            group.put(pendingMigration, isOutOfOrder);
-
-            if (!configuration.isGroup()) {
-                // Only include one pending migration if group is disabled
-                break;
-            }
-        }
+        pendingMigrations = infoService.pending();
+        nextPendingMigration = 0;
+        Arrays.stream(pendingMigrations).forEach(migrateResult::putPendingMigration);
+    }
 
-        if (!group.isEmpty()) {
-            applyMigrations(group, configuration.isSkipExecutingMigrations());
+    /**
+     * Advances the info model of this run to reflect a migration that has just been recorded in the schema history table.
+     */
+    private void advanceInfoService(MigrationInfoImpl migration) {
+        expectedAppliedMigrationCount++;
+        MigrationVersion version = migration.getVersion();
+        if (version != null && (currentSchemaVersion == null || version.compareTo(currentSchemaVersion) > 0)) {
+            currentSchemaVersion = version;
         }
-        return group.size();
     }
 
     private void logSummary(int migrationSuccessCount, long executionTime, String targetVersion) {
@@ -418,6 +470,7 @@ public class DbMigrate {
 
             schemaHistory.addAppliedMigration(migration.getVersion(), migration.getDescription(), migration.getType(),
                                               migration.getScript(), migration.getResolvedMigration().getChecksum(), executionTime, true);
+            advanceInfoService(migration);
         }
     }
 
@@ -0,0 +1,168 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.command;
+
+import lombok.CustomLog;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.output.MigrateAllResult;
+import org.flywaydb.core.api.output.MigrateErrorResult;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.flywaydb.core.internal.database.DatabaseTypeRegister;
+import org.flywaydb.core.internal.exception.FlywayMigrateException;
+import org.flywaydb.core.internal.util.TimeFormat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Migrates several independent targets, such as the schemas of a multi-tenant database, using a bounded pool of
+ * threads. Each target is migrated by its own Flyway instance with its own connection and schema history lock.
+ */
+@CustomLog
+public class DbMigrateAll {
+    private final List<? extends Configuration> targets;
+    private final int parallelism;
+    private final boolean failFast;
+
+    /**
+     * @param targets The configurations of the targets to migrate.
+     * @param parallelism The maximum number of targets migrated at the same time.
+     * @param failFast Whether to stop starting new targets once one of them failed.
+     */
+    public DbMigrateAll(List<? extends Configuration> targets, int parallelism, boolean failFast) {
+        if (parallelism < 1) {
+            throw new FlywayException("Invalid value for migrateAllParallelism: " + parallelism + " (must be at least 1)");
+        }
+        this.targets = targets;
+        this.parallelism = parallelism;
+        this.failFast = failFast;
+    }
+
+    /**
+     * Migrates all targets.
+     *
+     * @return The aggregated results of all targets.
+     * @throws FlywayException when the migration was interrupted.
+     */
+    public MigrateAllResult migrateAll() throws FlywayException {
+        MigrateAllResult result = new MigrateAllResult();
+        if (targets.isEmpty()) {
+            return result;
+        }
+
+        int threads = Math.min(parallelism, targets.size());
+        LOG.info("Migrating " + targets.size() + " targets using up to " + threads + " concurrent migrations"
+                         + (failFast ? " (fail fast)" : ""));
+
+        long start = System.currentTimeMillis();
+        MigrateResult[] results = new MigrateResult[targets.size()];
+        AtomicBoolean failed = new AtomicBoolean();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName("flyway-migrate-all-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(targets.size());
+            for (int i = 0; i < targets.size(); i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    if (failFast && failed.get()) {
+                        return;
+                    }
+                    MigrateResult targetResult = migrate(targets.get(index), index);
+                    results[index] = targetResult;
+                    if (!targetResult.success) {
+                        failed.set(true);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while migrating all targets", e);
+        } catch (ExecutionException e) {
+            throw new FlywayException("Unable to migrate all targets", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < results.length; i++) {
+            MigrateResult targetResult = results[i];
+            if (targetResult == null) {
+                result.skippedTargets.add(describe(targets.get(i), i));
+                continue;
+            }
+            result.individualResults.add(targetResult);
+            if (targetResult.success) {
+                result.targetsSucceeded++;
+            } else {
+                result.targetsFailed++;
+                result.success = false;
+            }
+        }
+        result.totalExecutionTime = System.currentTimeMillis() - start;
+
+        LOG.info("Migrated " + result.targetsSucceeded + " of " + targets.size() + " targets"
+                         + (result.targetsFailed > 0 ? ", " + result.targetsFailed + " failed" : "")
+                         + (result.skippedTargets.isEmpty() ? "" : ", " + result.skippedTargets.size() + " skipped")
+                         + " (execution time " + TimeFormat.format(result.totalExecutionTime) + ")");
+        return result;
+    }
+
+    private MigrateResult migrate(Configuration target, int index) {
+        try {
+            return new Flyway(target).migrate();
+        } catch (FlywayMigrateException e) {
+            LOG.error("Migration of " + describe(target, index) + " failed: " + e.getMessage());
+            return e.getErrorResult();
+        } catch (Exception e) {
+            LOG.error("Migration of " + describe(target, index) + " failed: " + e.getMessage());
+            MigrateResult partialResult = new MigrateResult();
+            partialResult.schemaName = target.getDefaultSchema();
+            return new MigrateErrorResult(partialResult, e);
+        }
+    }
+
+    private static String describe(Configuration target, int index) {
+        if (target.getDefaultSchema() != null) {
+            return "schema " + target.getDefaultSchema();
+        }
+        if (target.getSchemas().length > 0) {
+            return "schema " + target.getSchemas()[0];
+        }
+        if (target.getUrl() != null) {
+            return DatabaseTypeRegister.redactJdbcUrl(target.getUrl(), target);
+        }
+        return "target " + (index + 1);
+    }
+}
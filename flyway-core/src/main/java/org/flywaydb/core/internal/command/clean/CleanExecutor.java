@@ -37,6 +37,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @CustomLog
 public class CleanExecutor {
@@ -85,9 +95,7 @@ public class CleanExecutor {
                 i++;
             }
         }
-        cleanSchemas(schemaList.toArray(new Schema[0]), dropSchemas, cleanResult);
-        Collections.reverse(schemaList);
-        cleanSchemas(schemaList.toArray(new Schema[0]), dropSchemas, null);
+        cleanSchemas(schemaList, dropSchemas, cleanResult);
 
         dropDatabaseObjectsPostSchemas(schemas);
 
@@ -156,32 +164,156 @@ public class CleanExecutor {
         }
     }
 
-    private void cleanSchemas(Schema[] schemas, List<String> dropSchemas, CleanResult cleanResult) {
-        for (Schema schema : schemas) {
+    /**
+     * Cleans the schemas in a single pass, using up to {@code cleanParallelism} connections. Only the schemas that could
+     * not be cleaned, typically because of objects in other schemas depending on theirs, or that still contain objects
+     * afterwards are cleaned again, one after the other in reverse order on the main connection.
+     */
+    private void cleanSchemas(List<Schema> schemas, List<String> dropSchemas, CleanResult cleanResult) {
+        Map<String, Long> cleanTimes = new ConcurrentHashMap<>();
+        int parallelism = Math.min(database.getConfiguration().getCleanParallelism(), schemas.size());
+        List<Schema> remainingSchemas = parallelism > 1 && !database.useSingleConnection()
+                ? cleanSchemasInParallel(schemas, parallelism, cleanTimes)
+                : cleanSchemasInSequence(schemas, cleanTimes);
+
+        Collections.reverse(remainingSchemas);
+        for (Schema schema : remainingSchemas) {
             if (dropSchemas.contains(schema.getName())) {
                 try {
-                    cleanSchema(schema);
+                    cleanTimes.merge(schema.getName(), cleanSchema(connection, schema), Long::sum);
                 } catch (FlywayException ignored) {
                 }
             } else {
-                cleanSchema(schema);
-                if (cleanResult != null) {
-                    cleanResult.schemasCleaned.add(schema.getName());
+                cleanTimes.merge(schema.getName(), cleanSchema(connection, schema), Long::sum);
+            }
+        }
+
+        for (Schema schema : schemas) {
+            if (!dropSchemas.contains(schema.getName())) {
+                cleanResult.schemasCleaned.add(schema.getName());
+            }
+            Long cleanTime = cleanTimes.get(schema.getName());
+            if (cleanTime != null) {
+                cleanResult.schemaCleanTimes.put(schema.getName(), cleanTime);
+            }
+        }
+    }
+
+    /**
+     * @return The schemas that need to be cleaned again.
+     */
+    private List<Schema> cleanSchemasInSequence(List<Schema> schemas, Map<String, Long> cleanTimes) {
+        List<Schema> remainingSchemas = new ArrayList<>();
+        for (Schema schema : schemas) {
+            if (!cleanSchemaOnce(connection, schema, cleanTimes)) {
+                remainingSchemas.add(schema);
+            }
+        }
+        return remainingSchemas;
+    }
+
+    /**
+     * @return The schemas that need to be cleaned again.
+     */
+    private List<Schema> cleanSchemasInParallel(List<Schema> schemas, int parallelism, Map<String, Long> cleanTimes) {
+        LOG.info("Cleaning " + schemas.size() + " schemas using " + parallelism + " connections");
+
+        // Determined lazily from the main connection, so do it before it can be needed on several threads at once
+        database.getVersion();
+
+        Queue<Schema> pendingSchemas = new ConcurrentLinkedQueue<>(schemas);
+        Set<String> failedSchemas = ConcurrentHashMap.newKeySet();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName("flyway-clean-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < parallelism; i++) {
+                futures.add(executor.submit(() -> {
+                    try (Connection<?> workerConnection = database.openAdditionalConnection()) {
+                        Schema schema;
+                        while ((schema = pendingSchemas.poll()) != null) {
+                            // Counted as failed until cleaned, so a worker that dies halfway never loses its schema
+                            failedSchemas.add(schema.getName());
+                            if (cleanSchemaOnce(workerConnection, workerConnection.getSchema(schema.getName()), cleanTimes)) {
+                                failedSchemas.remove(schema.getName());
+                            }
+                        }
+                    }
+                }));
+            }
+            Throwable failure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
                 }
             }
+            if (failure instanceof FlywayException) {
+                throw (FlywayException) failure;
+            }
+            if (failure != null) {
+                throw new FlywayException("Unable to clean schemas on an additional connection: " + failure.getMessage(), failure);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while cleaning schemas", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Schema> remainingSchemas = new ArrayList<>();
+        for (Schema schema : schemas) {
+            if (failedSchemas.contains(schema.getName())) {
+                remainingSchemas.add(schema);
+            }
+        }
+        return remainingSchemas;
+    }
+
+    /**
+     * @return {@code true} if the schema was cleaned completely, {@code false} if it needs to be cleaned again.
+     */
+    private boolean cleanSchemaOnce(Connection<?> connection, Schema schema, Map<String, Long> cleanTimes) {
+        try {
+            cleanTimes.merge(schema.getName(), cleanSchema(connection, schema), Long::sum);
+            return isEmpty(schema);
+        } catch (RuntimeException e) {
+            LOG.debug("Unable to clean schema " + schema + " in the first pass: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isEmpty(Schema schema) {
+        try {
+            return schema.empty();
+        } catch (RuntimeException e) {
+            LOG.debug("Unable to check whether schema " + schema + " is empty: " + e.getMessage());
+            return false;
         }
     }
 
-    private void cleanSchema(Schema schema) {
+    /**
+     * @return The execution time in milliseconds.
+     */
+    private long cleanSchema(Connection<?> connection, Schema schema) {
         LOG.debug("Cleaning schema " + schema + "...");
         StopWatch stopWatch = new StopWatch();
         stopWatch.start();
-        doCleanSchema(schema);
+        doCleanSchema(connection, schema);
         stopWatch.stop();
         LOG.info(String.format("Successfully cleaned schema %s (execution time %s)", schema, TimeFormat.format(stopWatch.getTotalTimeMillis())));
+        return stopWatch.getTotalTimeMillis();
     }
 
-    protected void doCleanSchema(Schema schema) {
+    protected void doCleanSchema(Connection<?> connection, Schema schema) {
         ExecutionTemplateFactory.createExecutionTemplate(connection.getJdbcConnection(), database).execute(() -> {
             schema.clean();
             return null;
@@ -112,6 +112,15 @@ public class ConfigUtils {
     public static final String SCRIPT_PLACEHOLDER_SUFFIX = "flyway.scriptPlaceholderSuffix";
     public static final String PLACEHOLDERS_PROPERTY_PREFIX = "flyway.placeholders.";
     public static final String LOCK_RETRY_COUNT = "flyway.lockRetryCount";
+    public static final String CLEAN_PARALLELISM = "flyway.cleanParallelism";
+    public static final String PIPELINE_PARSING = "flyway.pipelineParsing";
+    public static final String LEGACY_PARSER_READERS = "flyway.legacyParserReaders";
+    public static final String MIGRATE_ALL_FAIL_FAST = "flyway.migrateAllFailFast";
+    public static final String MIGRATE_ALL_PARALLELISM = "flyway.migrateAllParallelism";
+    public static final String BATCH_SIZE = "flyway.batchSize";
+    public static final String ADAPTIVE_BATCH_SIZE = "flyway.adaptiveBatchSize";
+    public static final String MIGRATION_CACHE_FILE = "flyway.migrationCacheFile";
+    public static final String S3_CACHE_DIRECTORY = "flyway.s3CacheDirectory";
     public static final String JDBC_PROPERTIES_PREFIX = "flyway.jdbcProperties.";
     public static final String REPEATABLE_SQL_MIGRATION_PREFIX = "flyway.repeatableSqlMigrationPrefix";
     public static final String RESOLVERS = "flyway.resolvers";
@@ -137,6 +146,7 @@ public class ConfigUtils {
 
     public static final String REPORT_ENABLED = "flyway.reportEnabled";
     public static final String REPORT_FILENAME = "flyway.reportFilename";
+    public static final String REPORT_RETENTION = "flyway.reportRetention";
 
     // Command-line specific
     public static final String JAR_DIRS = "flyway.jarDirs";
@@ -270,6 +280,33 @@ public class ConfigUtils {
         if ("FLYWAY_LOCK_RETRY_COUNT".equals(key)) {
             return LOCK_RETRY_COUNT;
         }
+        if ("FLYWAY_CLEAN_PARALLELISM".equals(key)) {
+            return CLEAN_PARALLELISM;
+        }
+        if ("FLYWAY_PIPELINE_PARSING".equals(key)) {
+            return PIPELINE_PARSING;
+        }
+        if ("FLYWAY_LEGACY_PARSER_READERS".equals(key)) {
+            return LEGACY_PARSER_READERS;
+        }
+        if ("FLYWAY_MIGRATE_ALL_FAIL_FAST".equals(key)) {
+            return MIGRATE_ALL_FAIL_FAST;
+        }
+        if ("FLYWAY_MIGRATE_ALL_PARALLELISM".equals(key)) {
+            return MIGRATE_ALL_PARALLELISM;
+        }
+        if ("FLYWAY_BATCH_SIZE".equals(key)) {
+            return BATCH_SIZE;
+        }
+        if ("FLYWAY_ADAPTIVE_BATCH_SIZE".equals(key)) {
+            return ADAPTIVE_BATCH_SIZE;
+        }
+        if ("FLYWAY_MIGRATION_CACHE_FILE".equals(key)) {
+            return MIGRATION_CACHE_FILE;
+        }
+        if ("FLYWAY_S3_CACHE_DIRECTORY".equals(key)) {
+            return S3_CACHE_DIRECTORY;
+        }
         if ("FLYWAY_PLACEHOLDER_PREFIX".equals(key)) {
             return PLACEHOLDER_PREFIX;
         }
@@ -365,6 +402,9 @@ public class ConfigUtils {
         if ("FLYWAY_REPORT_FILENAME".equals(key)) {
             return REPORT_FILENAME;
         }
+        if ("FLYWAY_REPORT_RETENTION".equals(key)) {
+            return REPORT_RETENTION;
+        }
 
         // Command-line specific
         if ("FLYWAY_JAR_DIRS".equals(key)) {
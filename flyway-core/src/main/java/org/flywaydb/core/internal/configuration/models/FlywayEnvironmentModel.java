@@ -86,6 +86,15 @@ public class FlywayEnvironmentModel {
     private Boolean batch;
     private Boolean outputQueryResults;
     private Integer lockRetryCount;
+    private Integer cleanParallelism;
+    private Boolean pipelineParsing;
+    private Boolean legacyParserReaders;
+    private Boolean migrateAllFailFast;
+    private Integer migrateAllParallelism;
+    private Integer batchSize;
+    private Boolean adaptiveBatchSize;
+    private String migrationCacheFile;
+    private String s3CacheDirectory;
     private String kerberosConfigFile;
     private Boolean failOnMissingLocations;
     private List<String> loggers;
@@ -93,6 +102,7 @@ public class FlywayEnvironmentModel {
     private String defaultSchema;
     private Map<String, PropertyResolver> propertyResolvers;
     private Boolean reportEnabled;
+    private Integer reportRetention;
 
     @JsonAnySetter
     @Getter(onMethod = @__(@ClassUtils.DoNotMapForLogging))
@@ -101,6 +111,7 @@ public class FlywayEnvironmentModel {
     public FlywayEnvironmentModel merge(FlywayEnvironmentModel otherPojo) {
         FlywayEnvironmentModel result = new FlywayEnvironmentModel();
         result.reportFilename = reportFilename.merge(otherPojo.reportFilename);
+        result.reportRetention = reportRetention.merge(otherPojo.reportRetention);
         result.encoding = encoding.merge(otherPojo.encoding);
         result.detectEncoding = detectEncoding.merge(otherPojo.detectEncoding);
         result.placeholderPrefix = placeholderPrefix.merge(otherPojo.placeholderPrefix);
@@ -145,6 +156,15 @@ public class FlywayEnvironmentModel {
         result.batch = batch.merge(otherPojo.batch);
         result.outputQueryResults = outputQueryResults.merge(otherPojo.outputQueryResults);
         result.lockRetryCount = lockRetryCount.merge(otherPojo.lockRetryCount);
+        result.cleanParallelism = cleanParallelism.merge(otherPojo.cleanParallelism);
+        result.pipelineParsing = pipelineParsing.merge(otherPojo.pipelineParsing);
+        result.legacyParserReaders = legacyParserReaders.merge(otherPojo.legacyParserReaders);
+        result.migrateAllFailFast = migrateAllFailFast.merge(otherPojo.migrateAllFailFast);
+        result.migrateAllParallelism = migrateAllParallelism.merge(otherPojo.migrateAllParallelism);
+        result.batchSize = batchSize.merge(otherPojo.batchSize);
+        result.adaptiveBatchSize = adaptiveBatchSize.merge(otherPojo.adaptiveBatchSize);
+        result.migrationCacheFile = migrationCacheFile.merge(otherPojo.migrationCacheFile);
+        result.s3CacheDirectory = s3CacheDirectory.merge(otherPojo.s3CacheDirectory);
         result.kerberosConfigFile = kerberosConfigFile.merge(otherPojo.kerberosConfigFile);
         result.failOnMissingLocations = failOnMissingLocations.merge(otherPojo.failOnMissingLocations);
         result.loggers = loggers.merge(otherPojo.loggers);
@@ -46,6 +46,7 @@ public class FlywayModel extends FlywayEnvironmentModel {
         model.environment = "default";
         model.setOutputProgress(false);
         model.setReportFilename(DEFAULT_REPORT_FILENAME);
+        model.setReportRetention(0);
         model.setDetectEncoding(false);
         model.setEncoding("UTF-8");
         model.setExecuteInTransaction(true);
@@ -86,6 +87,13 @@ public class FlywayModel extends FlywayEnvironmentModel {
         model.setBatch(false);
         model.setOutputQueryResults(true);
         model.setLockRetryCount(50);
+        model.setCleanParallelism(1);
+        model.setPipelineParsing(false);
+        model.setLegacyParserReaders(false);
+        model.setMigrateAllFailFast(true);
+        model.setMigrateAllParallelism(4);
+        model.setBatchSize(100);
+        model.setAdaptiveBatchSize(false);
         model.setKerberosConfigFile("");
         model.setFailOnMissingLocations(false);
         model.setLoggers(Arrays.asList("auto"));
@@ -107,6 +115,7 @@ public class FlywayModel extends FlywayEnvironmentModel {
         result.outputType = outputType.merge(otherPojo.outputType);
         result.provisionMode = provisionMode.merge(otherPojo.provisionMode);
         result.setReportFilename(getReportFilename().merge(otherPojo.getReportFilename()));
+        result.setReportRetention(getReportRetention().merge(otherPojo.getReportRetention()));
         result.setEncoding(getEncoding().merge(otherPojo.getEncoding()));
         result.setDetectEncoding(getDetectEncoding().merge(otherPojo.getDetectEncoding()));
         result.setPlaceholderPrefix(getPlaceholderPrefix().merge(otherPojo.getPlaceholderPrefix()));
@@ -151,6 +160,15 @@ public class FlywayModel extends FlywayEnvironmentModel {
         result.setBatch(getBatch().merge(otherPojo.getBatch()));
         result.setOutputQueryResults(getOutputQueryResults().merge(otherPojo.getOutputQueryResults()));
         result.setLockRetryCount(getLockRetryCount().merge(otherPojo.getLockRetryCount()));
+        result.setCleanParallelism(getCleanParallelism().merge(otherPojo.getCleanParallelism()));
+        result.setPipelineParsing(getPipelineParsing().merge(otherPojo.getPipelineParsing()));
+        result.setLegacyParserReaders(getLegacyParserReaders().merge(otherPojo.getLegacyParserReaders()));
+        result.setMigrateAllFailFast(getMigrateAllFailFast().merge(otherPojo.getMigrateAllFailFast()));
+        result.setMigrateAllParallelism(getMigrateAllParallelism().merge(otherPojo.getMigrateAllParallelism()));
+        result.setBatchSize(getBatchSize().merge(otherPojo.getBatchSize()));
+        result.setAdaptiveBatchSize(getAdaptiveBatchSize().merge(otherPojo.getAdaptiveBatchSize()));
+        result.setMigrationCacheFile(getMigrationCacheFile().merge(otherPojo.getMigrationCacheFile()));
+        result.setS3CacheDirectory(getS3CacheDirectory().merge(otherPojo.getS3CacheDirectory()));
         result.setKerberosConfigFile(getKerberosConfigFile().merge(otherPojo.getKerberosConfigFile()));
         result.setFailOnMissingLocations(getFailOnMissingLocations().merge(otherPojo.getFailOnMissingLocations()));
         result.setLoggers(getLoggers().merge(otherPojo.getLoggers()));
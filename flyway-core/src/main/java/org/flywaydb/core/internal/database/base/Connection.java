@@ -34,6 +34,10 @@ public abstract class Connection<D extends Database> implements Closeable {
     private final java.sql.Connection jdbcConnection;
     protected final String originalSchemaNameOrSearchPath;
     private final boolean originalAutoCommit;
+    /**
+     * The time spent waiting for locks on this connection, in milliseconds.
+     */
+    private long lockWaitTime;
 
     protected Connection(D database, java.sql.Connection connection) {
         this.database = database;
@@ -106,6 +110,22 @@ public abstract class Connection<D extends Database> implements Closeable {
                 .execute(callable);
     }
 
+    /**
+     * Records time spent waiting for a lock on this connection.
+     *
+     * @param millis The time waited, in milliseconds.
+     */
+    protected final void recordLockWait(long millis) {
+        lockWaitTime += millis;
+    }
+
+    /**
+     * @return The total time spent waiting for locks on this connection, in milliseconds.
+     */
+    public final long getLockWaitTime() {
+        return lockWaitTime;
+    }
+
     public final JdbcTemplate getJdbcTemplate() {
         return jdbcTemplate;
     }
@@ -323,6 +323,14 @@ public abstract class Database<C extends Connection> implements Closeable {
         return eventConnection;
     }
 
+    /**
+     * @return A new connection for work done alongside the main connection, such as cleaning schemas in parallel. It
+     * must be closed by the caller.
+     */
+    public final C openAdditionalConnection() {
+        return getConnection(jdbcConnectionFactory.openConnection());
+    }
+
     public final boolean hasEventConnection(){
         return eventConnection != null;
     }
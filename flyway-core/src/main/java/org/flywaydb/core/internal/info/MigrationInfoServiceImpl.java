@@ -180,6 +180,8 @@ public class MigrationInfoServiceImpl implements MigrationInfoService, Operation
 
     private List<Pair<AppliedMigration, AppliedMigrationAttributes>> getAppliedVersionedMigrations(List<AppliedMigration> appliedMigrations, MigrationInfoContext context) {
         List<Pair<AppliedMigration, AppliedMigrationAttributes>> appliedVersionedMigrations = new ArrayList<>();
+        // The latest non-synthetic applied migration per version, which a DELETE entry refers to
+        Map<MigrationVersion, Pair<AppliedMigration, AppliedMigrationAttributes>> latestByVersion = new HashMap<>();
         for (AppliedMigration appliedMigration : appliedMigrations) {
             appliedMigration.updateAttributes(appliedVersionedMigrations);
 
@@ -196,22 +198,32 @@ public class MigrationInfoServiceImpl implements MigrationInfoService, Operation
                 }
             }
             if (appliedMigration.getType().equals(CoreMigrationType.DELETE) && appliedMigration.isSuccess()) {
-                markAsDeleted(version, appliedVersionedMigrations);
+                markAsDeleted(version, latestByVersion.get(version));
                 continue;
             }
 
-            appliedVersionedMigrations.add(Pair.of(appliedMigration, new AppliedMigrationAttributes()));
+            Pair<AppliedMigration, AppliedMigrationAttributes> av = Pair.of(appliedMigration, new AppliedMigrationAttributes());
+            appliedVersionedMigrations.add(av);
+            if (!appliedMigration.getType().isSynthetic()) {
+                latestByVersion.put(version, av);
+            }
         }
         return appliedVersionedMigrations;
     }
 
     private List<Pair<AppliedMigration, AppliedMigrationAttributes>> getAppliedRepeatableMigrations(List<AppliedMigration> appliedMigrations) {
         List<Pair<AppliedMigration, AppliedMigrationAttributes>> appliedRepeatableMigrations = new ArrayList<>();
+        // The latest non-synthetic applied migration per description, which a DELETE entry refers to
+        Map<String, Pair<AppliedMigration, AppliedMigrationAttributes>> latestByDescription = new HashMap<>();
         for (AppliedMigration appliedMigration : appliedMigrations) {
             if (appliedMigration.getVersion() == null) {
-                appliedRepeatableMigrations.add(Pair.of(appliedMigration, new AppliedMigrationAttributes()));
+                Pair<AppliedMigration, AppliedMigrationAttributes> ar = Pair.of(appliedMigration, new AppliedMigrationAttributes());
+                appliedRepeatableMigrations.add(ar);
+                if (!appliedMigration.getType().isSynthetic()) {
+                    latestByDescription.put(appliedMigration.getDescription(), ar);
+                }
                 if (appliedMigration.getType().equals(CoreMigrationType.DELETE) && appliedMigration.isSuccess()) {
-                    markRepeatableAsDeleted(appliedMigration.getDescription(), appliedRepeatableMigrations);
+                    markRepeatableAsDeleted(latestByDescription.get(appliedMigration.getDescription()));
                 }
             }
         }
@@ -336,18 +348,11 @@ public class MigrationInfoServiceImpl implements MigrationInfoService, Operation
     /**
      * Marks the latest applied migration with this description as deleted.
      *
-     * @param description The description to match
-     * @param appliedRepeatable The discovered applied migrations
+     * @param ar The latest non-synthetic applied migration with this description, if any.
      */
-    private void markRepeatableAsDeleted(String description, List<Pair<AppliedMigration, AppliedMigrationAttributes>> appliedRepeatable) {
-        for (int i = appliedRepeatable.size() - 1; i >= 0; i--) {
-            Pair<AppliedMigration, AppliedMigrationAttributes> ar = appliedRepeatable.get(i);
-            if (!ar.getLeft().getType().isSynthetic() && description.equals(ar.getLeft().getDescription())) {
-                if (!ar.getRight().deleted) {
-                    ar.getRight().deleted = true;
-                }
-                return;
-            }
+    private void markRepeatableAsDeleted(Pair<AppliedMigration, AppliedMigrationAttributes> ar) {
+        if (ar != null) {
+            ar.getRight().deleted = true;
         }
     }
 
@@ -355,21 +360,17 @@ public class MigrationInfoServiceImpl implements MigrationInfoService, Operation
      * Marks the latest applied migration with this version as deleted.
      *
      * @param version The version.
-     * @param appliedVersioned The applied migrations.
+     * @param av The latest non-synthetic applied migration with this version, if any.
      */
-    private void markAsDeleted(MigrationVersion version, List<Pair<AppliedMigration, AppliedMigrationAttributes>> appliedVersioned) {
-        for (int i = appliedVersioned.size() - 1; i >= 0; i--) {
-            Pair<AppliedMigration, AppliedMigrationAttributes> av = appliedVersioned.get(i);
-            if (!av.getLeft().getType().isSynthetic() && version.equals(av.getLeft().getVersion())) {
-                if (av.getRight().deleted) {
-                    throw new FlywayException("Corrupted schema history: multiple delete entries for version " + version,
-                                              CoreErrorCode.DUPLICATE_DELETED_MIGRATION);
-                } else {
-                    av.getRight().deleted = true;
-                    return;
-                }
-            }
+    private void markAsDeleted(MigrationVersion version, Pair<AppliedMigration, AppliedMigrationAttributes> av) {
+        if (av == null) {
+            return;
+        }
+        if (av.getRight().deleted) {
+            throw new FlywayException("Corrupted schema history: multiple delete entries for version " + version,
+                                      CoreErrorCode.DUPLICATE_DELETED_MIGRATION);
         }
+        av.getRight().deleted = true;
     }
 
     @Override
@@ -0,0 +1,434 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.parser;
+
+import org.flywaydb.core.internal.sqlscript.Delimiter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * A peeking reader which reads its source in large chunks into a single window of characters, and peeks, reads,
+ * records and tracks positions by moving cursors through it. This replaces the chain of readers each passing on one
+ * character at a time, and the copy of the next characters made for every peek.
+ */
+public class CharBufferPeekingReader extends PeekingReader {
+    private static final int CHUNK_SIZE = 8192;
+
+    private final Reader source;
+    private final Recorder recorder;
+    private final PositionTracker tracker;
+    private final boolean supportsPeekingMultipleLines;
+
+    private char[] buffer = new char[2 * CHUNK_SIZE];
+    /**
+     * The position of the next character to read in the buffer.
+     */
+    private int pos;
+    /**
+     * The position after the last character read from the source into the buffer.
+     */
+    private int limit;
+    private boolean eof;
+    /**
+     * The position from which characters passed by the cursor must stay in the buffer, or -1 if none need to.
+     */
+    private int retainFrom = -1;
+
+    CharBufferPeekingReader(Reader source, Recorder recorder, PositionTracker tracker, boolean supportsPeekingMultipleLines) {
+        super(source, supportsPeekingMultipleLines);
+        this.source = source;
+        this.recorder = recorder;
+        this.tracker = tracker;
+        this.supportsPeekingMultipleLines = supportsPeekingMultipleLines;
+    }
+
+    /**
+     * Makes sure the next characters are in the buffer.
+     *
+     * @param n The number of characters needed.
+     * @return The number of characters available, which is less than n only at the end of the source.
+     */
+    private int fill(int n) throws IOException {
+        while (limit - pos < n && !eof) {
+            if (buffer.length - limit < CHUNK_SIZE) {
+                int from = retainFrom >= 0 ? retainFrom : pos;
+                if (from > 0) {
+                    System.arraycopy(buffer, from, buffer, 0, limit - from);
+                    limit -= from;
+                    pos -= from;
+                    if (retainFrom >= 0) {
+                        retainFrom = 0;
+                    }
+                }
+                if (buffer.length - limit < CHUNK_SIZE) {
+                    buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+                }
+            }
+            int read = source.read(buffer, limit, buffer.length - limit);
+            if (read == -1) {
+                eof = true;
+            } else {
+                limit += read;
+            }
+        }
+        return Math.min(n, limit - pos);
+    }
+
+    /**
+     * @return The next character, or -1 at the end of the source.
+     */
+    private int peekChar() throws IOException {
+        if (pos < limit || fill(1) > 0) {
+            return buffer[pos];
+        }
+        return -1;
+    }
+
+    /**
+     * Moves past the next n characters, which must be in the buffer, recording them and tracking their positions.
+     */
+    private void consume(int n) {
+        recorder.record(buffer, pos, n);
+        int end = pos + n;
+        for (int i = pos; i < end; i++) {
+            char c = buffer[i];
+            tracker.nextPos();
+            if (c == '\n') {
+                tracker.linefeed();
+            } else if (c == '\r') {
+                tracker.carriageReturn();
+            } else {
+                if (!Character.isWhitespace(c)) {
+                    tracker.nextColIgnoringWhitespace();
+                }
+                tracker.nextCol();
+            }
+        }
+        pos = end;
+    }
+
+    /**
+     * Checks whether the next characters match this string, like {@link #peek(String)} does for the original readers,
+     * which never look past the end of a line for it.
+     */
+    private boolean matches(String str, boolean ignoreCase) throws IOException {
+        int length = str.length();
+        if (length == 0 || fill(length) < length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = buffer[pos + i];
+            char s = str.charAt(i);
+            if (c != s && !(ignoreCase && equalsIgnoreCase(c, s))) {
+                return false;
+            }
+            if (c == '\n' && i < length - 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equalsIgnoreCase(char c1, char c2) {
+        char u1 = Character.toUpperCase(c1);
+        char u2 = Character.toUpperCase(c2);
+        return u1 == u2 || Character.toLowerCase(u1) == Character.toLowerCase(u2);
+    }
+
+    private static boolean isNumeric(int r) {
+        return r != -1 && (char) r >= '0' && (char) r <= '9';
+    }
+
+    private static boolean isWhitespace(int r) {
+        return r != -1 && Character.isWhitespace((char) r);
+    }
+
+    private static boolean isKeywordPart(int r, ParserContext context) {
+        return r != -1 && ((char) r == '_' || (char) r == '$' || Character.isLetterOrDigit((char) r) || context.isLetter((char) r));
+    }
+
+    @Override
+    public int read() throws IOException {
+        int r = peekChar();
+        if (r != -1) {
+            consume(1);
+        }
+        return r;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        int available = fill(len);
+        if (available == 0) {
+            return len == 0 ? 0 : -1;
+        }
+        System.arraycopy(buffer, pos, cbuf, off, available);
+        consume(available);
+        return available;
+    }
+
+    @Override
+    public void swallow() throws IOException {
+        read();
+    }
+
+    @Override
+    public void swallow(int n) throws IOException {
+        consume(fill(n));
+    }
+
+    @Override
+    public boolean peek(char c) throws IOException {
+        return peekChar() == c;
+    }
+
+    @Override
+    public boolean peek(char c1, char c2) throws IOException {
+        int r = peekChar();
+        return r == c1 || r == c2;
+    }
+
+    @Override
+    public boolean peekNumeric() throws IOException {
+        return isNumeric(peekChar());
+    }
+
+    @Override
+    public boolean peekWhitespace() throws IOException {
+        return isWhitespace(peekChar());
+    }
+
+    @Override
+    public boolean peekKeywordPart(ParserContext context) throws IOException {
+        return isKeywordPart(peekChar(), context);
+    }
+
+    @Override
+    public boolean peekIgnoreCase(String str) throws IOException {
+        return matches(str, true);
+    }
+
+    @Override
+    public boolean peek(String str) throws IOException {
+        return matches(str, false);
+    }
+
+    @Override
+    public String peek(int numChars) throws IOException {
+        return peek(numChars, false);
+    }
+
+    @Override
+    public String peek(int numChars, boolean peekMultipleLines) throws IOException {
+        int available = fill(numChars);
+        int length = available;
+        if (!peekMultipleLines || !supportsPeekingMultipleLines) {
+            for (int i = 0; i < available; i++) {
+                if (buffer[pos + i] == '\n') {
+                    length = i + 1;
+                    break;
+                }
+            }
+        }
+        return length == 0 ? null : new String(buffer, pos, length);
+    }
+
+    /**
+     * @return The number of characters before the next occurrence of either of these characters in the buffer, or
+     * the number of characters in the buffer if neither occurs.
+     */
+    private int scanUntil(char delimiter1, char delimiter2) {
+        int end = pos;
+        while (end < limit && buffer[end] != delimiter1 && buffer[end] != delimiter2) {
+            end++;
+        }
+        return end - pos;
+    }
+
+    @Override
+    public void swallowUntilExcluding(char delimiter1, char delimiter2) throws IOException {
+        while (fill(1) > 0) {
+            int n = scanUntil(delimiter1, delimiter2);
+            boolean found = pos + n < limit;
+            consume(n);
+            if (found) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public String readUntilExcluding(char delimiter1, char delimiter2) throws IOException {
+        StringBuilder result = new StringBuilder();
+        while (fill(1) > 0) {
+            int n = scanUntil(delimiter1, delimiter2);
+            boolean found = pos + n < limit;
+            result.append(buffer, pos, n);
+            consume(n);
+            if (found) {
+                break;
+            }
+        }
+        return result.toString();
+    }
+
+    @Override
+    public void swallowUntilIncludingWithEscape(char delimiter, boolean selfEscape, char escape) throws IOException {
+        do {
+            int r = read();
+            if (r == -1) {
+                break;
+            }
+            char c = (char) r;
+            if (escape != 0 && c == escape) {
+                swallow();
+                continue;
+            }
+            if (c == delimiter) {
+                if (selfEscape && peek(delimiter)) {
+                    swallow();
+                    continue;
+                }
+                break;
+            }
+        } while (true);
+    }
+
+    @Override
+    public String readUntilExcludingWithEscape(char delimiter, boolean selfEscape, char escape) throws IOException {
+        StringBuilder result = new StringBuilder();
+        do {
+            int r = read();
+            if (r == -1) {
+                break;
+            }
+            char c = (char) r;
+            if (escape != 0 && c == escape) {
+                int r2 = read();
+                if (r2 == -1) {
+                    result.append(escape);
+                    break;
+                }
+                result.append((char) r2);
+                continue;
+            }
+            if (c == delimiter) {
+                if (selfEscape && peek(delimiter)) {
+                    result.append(delimiter);
+                    result.append(delimiter);
+                    swallow();
+                    continue;
+                }
+                break;
+            }
+            result.append(c);
+        } while (true);
+        return result.toString();
+    }
+
+    @Override
+    public void swallowUntilExcluding(String str) throws IOException {
+        while (!matches(str, false) && read() != -1) {
+            // Swallow
+        }
+    }
+
+    @Override
+    public String readUntilExcluding(String... strings) throws IOException {
+        // Move the cursor ahead without consuming, so the characters passed can be taken from the buffer all at once
+        retainFrom = pos;
+        try {
+            search:
+            while (peekChar() != -1) {
+                for (String str : strings) {
+                    if (matches(str, false)) {
+                        break search;
+                    }
+                }
+                pos++;
+            }
+            int end = pos;
+            pos = retainFrom;
+            String result = new String(buffer, pos, end - pos);
+            consume(end - pos);
+            return result;
+        } finally {
+            retainFrom = -1;
+        }
+    }
+
+    @Override
+    public String readUntilIncluding(char delimiter) throws IOException {
+        StringBuilder result = new StringBuilder();
+        while (fill(1) > 0) {
+            int n = scanUntil(delimiter, delimiter);
+            boolean found = pos + n < limit;
+            if (found) {
+                n++;
+            }
+            result.append(buffer, pos, n);
+            consume(n);
+            if (found) {
+                break;
+            }
+        }
+        return result.toString();
+    }
+
+    @Override
+    public String readKeywordPart(Delimiter delimiter, ParserContext context) throws IOException {
+        StringBuilder result = new StringBuilder();
+        do {
+            boolean isDelimiter = delimiter != null &&
+                    (result.length() == 0 || !delimiter.shouldBeAloneOnLine()) &&
+                    matches(delimiter.getDelimiter(), false);
+
+            if (!isDelimiter && isKeywordPart(peekChar(), context)) {
+                result.append(buffer[pos]);
+                consume(1);
+            } else {
+                break;
+            }
+        } while (true);
+        return result.toString();
+    }
+
+    @Override
+    public String readNumeric() throws IOException {
+        StringBuilder result = new StringBuilder();
+        while (isNumeric(peekChar())) {
+            result.append(buffer[pos]);
+            consume(1);
+        }
+        return result.toString();
+    }
+
+    @Override
+    public String readWhitespace() throws IOException {
+        StringBuilder result = new StringBuilder();
+        while (isWhitespace(peekChar())) {
+            result.append(buffer[pos]);
+            consume(1);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,132 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.parser;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The placeholder values available for replacement, keyed by their lower-cased names. The values are built once from
+ * the configuration and parsing context placeholders and shared by all readers for as long as those are unchanged.
+ * The filename placeholder, which changes with every script, is kept apart so it does not force a rebuild.
+ */
+final class CompiledPlaceholders {
+    static final CompiledPlaceholders EMPTY = new CompiledPlaceholders(Collections.emptyMap(), Collections.emptyMap(), null);
+
+    private final Map<String, String> configurationPlaceholders;
+    private final Map<String, String> contextPlaceholders;
+    private final String filenameKey;
+    private final Map<String, String> values;
+    private final boolean hasFilename;
+    private final String filename;
+
+    /**
+     * @param configurationPlaceholders The placeholders from the configuration.
+     * @param contextPlaceholders The placeholders from the parsing context, which take precedence.
+     * @param filenamePlaceholder The name of the filename placeholder, or {@code null} if there is none.
+     */
+    CompiledPlaceholders(Map<String, String> configurationPlaceholders, Map<String, String> contextPlaceholders,
+                         String filenamePlaceholder) {
+        this.configurationPlaceholders = new HashMap<>(configurationPlaceholders);
+        this.contextPlaceholders = new HashMap<>(contextPlaceholders);
+        if (filenamePlaceholder != null) {
+            this.contextPlaceholders.remove(filenamePlaceholder);
+        }
+        this.filenameKey = filenamePlaceholder == null ? null : filenamePlaceholder.toLowerCase();
+
+        Map<String, String> values = new HashMap<>();
+        for (Map.Entry<String, String> entry : this.configurationPlaceholders.entrySet()) {
+            values.put(entry.getKey().toLowerCase(), entry.getValue());
+        }
+        for (Map.Entry<String, String> entry : this.contextPlaceholders.entrySet()) {
+            values.put(entry.getKey().toLowerCase(), entry.getValue());
+        }
+        this.values = Collections.unmodifiableMap(values);
+        this.hasFilename = filenamePlaceholder != null && contextPlaceholders.containsKey(filenamePlaceholder);
+        this.filename = hasFilename ? contextPlaceholders.get(filenamePlaceholder) : null;
+    }
+
+    private CompiledPlaceholders(CompiledPlaceholders compiled, boolean hasFilename, String filename) {
+        this.configurationPlaceholders = compiled.configurationPlaceholders;
+        this.contextPlaceholders = compiled.contextPlaceholders;
+        this.filenameKey = compiled.filenameKey;
+        this.values = compiled.values;
+        this.hasFilename = hasFilename;
+        this.filename = filename;
+    }
+
+    /**
+     * @return Whether these values were built from these placeholders, ignoring the filename placeholder.
+     */
+    boolean isCompiledFrom(Map<String, String> configurationPlaceholders, Map<String, String> contextPlaceholders,
+                           String filenamePlaceholder) {
+        if (!Objects.equals(filenameKey, filenamePlaceholder == null ? null : filenamePlaceholder.toLowerCase())
+                || !this.configurationPlaceholders.equals(configurationPlaceholders)) {
+            return false;
+        }
+
+        int size = contextPlaceholders.size();
+        if (filenamePlaceholder != null && contextPlaceholders.containsKey(filenamePlaceholder)) {
+            size--;
+        }
+        if (size != this.contextPlaceholders.size()) {
+            return false;
+        }
+        for (Map.Entry<String, String> entry : this.contextPlaceholders.entrySet()) {
+            if (!Objects.equals(entry.getValue(), contextPlaceholders.get(entry.getKey()))
+                    || !contextPlaceholders.containsKey(entry.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return These values with the filename placeholder as it currently is in these parsing context placeholders.
+     */
+    CompiledPlaceholders withFilenameFrom(Map<String, String> contextPlaceholders, String filenamePlaceholder) {
+        boolean hasFilename = contextPlaceholders.containsKey(filenamePlaceholder);
+        String filename = hasFilename ? contextPlaceholders.get(filenamePlaceholder) : null;
+        if (hasFilename == this.hasFilename && Objects.equals(filename, this.filename)) {
+            return this;
+        }
+        return new CompiledPlaceholders(this, hasFilename, filename);
+    }
+
+    /**
+     * @param key The lower-cased name of the placeholder.
+     */
+    boolean containsKey(String key) {
+        return (hasFilename && key.equals(filenameKey)) || values.containsKey(key);
+    }
+
+    /**
+     * @param key The lower-cased name of the placeholder.
+     * @return The value of the placeholder, which may be {@code null}.
+     */
+    String get(String key) {
+        if (hasFilename && key.equals(filenameKey)) {
+            return filename;
+        }
+        return values.get(key);
+    }
+}
@@ -120,14 +120,21 @@ public abstract class Parser {
         ResourceName result = new ResourceNameParser(configuration).parse(filename);
         parsingContext.updateFilenamePlaceholder(result, configuration);
 
-        PeekingReader peekingReader = new PeekingReader(
-                new RecordingReader(recorder,
-                                    new PositionTrackingReader(tracker, replacePlaceholders(
-                                            new BomStrippingReader(
-                                                    new UnboundedReadAheadReader(
-                                                            new BufferedReader(resource.read(), 4096))),
-                                            metadata))),
-                supportsPeekingMultipleLines());
+        PeekingReader peekingReader;
+        if (configuration.isLegacyParserReaders()) {
+            peekingReader = new PeekingReader(
+                    new RecordingReader(recorder,
+                                        new PositionTrackingReader(tracker, replacePlaceholders(
+                                                new BomStrippingReader(
+                                                        new UnboundedReadAheadReader(
+                                                                new BufferedReader(resource.read(), 4096))),
+                                                metadata))),
+                    supportsPeekingMultipleLines());
+        } else {
+            peekingReader = new CharBufferPeekingReader(
+                    replacePlaceholders(new BomStrippingReader(new BufferedReader(resource.read(), 4096)), metadata),
+                    recorder, tracker, supportsPeekingMultipleLines());
+        }
 
         return new ParserSqlStatementIterator(peekingReader, resource, recorder, tracker, context);
     }
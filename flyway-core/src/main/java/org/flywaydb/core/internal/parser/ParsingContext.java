@@ -50,6 +50,10 @@ public class ParsingContext {
     @Getter
     @Setter
     private Database database;
+    /**
+     * The placeholder values built at the last call to {@link #getCompiledPlaceholders(Configuration)}.
+     */
+    private volatile CompiledPlaceholders compiledPlaceholders;
 
     private String generateName(String name, Configuration configuration) {
         return "flyway" + configuration.getPlaceholderSeparator() + name;
@@ -119,6 +123,22 @@ public class ParsingContext {
         }
     }
 
+    /**
+     * @return The configuration and parsing context placeholders for replacement, rebuilt only when any of them other
+     * than the filename placeholder has changed since the last call.
+     */
+    CompiledPlaceholders getCompiledPlaceholders(Configuration configuration) {
+        String filenamePlaceholder = generateName(FILENAME_PLACEHOLDER, configuration);
+        Map<String, String> configurationPlaceholders = configuration.getPlaceholders();
+
+        CompiledPlaceholders compiled = compiledPlaceholders;
+        if (compiled == null || !compiled.isCompiledFrom(configurationPlaceholders, placeholders, filenamePlaceholder)) {
+            compiled = new CompiledPlaceholders(configurationPlaceholders, placeholders, filenamePlaceholder);
+            compiledPlaceholders = compiled;
+        }
+        return compiled.withFilenameFrom(placeholders, filenamePlaceholder);
+    }
+
     private Schema getCurrentSchema(Database database) {
         try {
             return database.getMainConnection().getCurrentSchema();
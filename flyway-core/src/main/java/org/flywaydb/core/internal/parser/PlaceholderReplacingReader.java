@@ -26,46 +26,99 @@ import org.flywaydb.core.api.configuration.Configuration;
 import java.io.FilterReader;
 import java.io.IOException;
 import java.io.Reader;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
-
+import java.util.function.Function;
+
+/**
+ * Replaces placeholders while reading. The input is read in blocks, and everything up to the next possible start of
+ * a placeholder is copied to the caller in bulk.
+ * <p>
+ * A partially matched prefix is passed on as is together with the character that broke the match, which is not
+ * itself considered as the start of another prefix. Checksums of repeatable migrations depend on this, so it must
+ * not change.
+ */
 public class PlaceholderReplacingReader extends FilterReader {
-    private final String prefix;
-    private final String suffix;
-    private final String separator;
-    private final CaseInsensitiveMap placeholders = new CaseInsensitiveMap();
-
-    private final StringBuilder buffer = new StringBuilder();
-    private String markBuffer;
-
-    private String replacement;
-    private int replacementPos;
-
-    private String markReplacement;
-    private int markReplacementPos;
-
-    private static class CaseInsensitiveMap extends HashMap<String, String> {
-
-        @Override
-        public void putAll(Map<? extends String, ? extends String> m) {
-            for (Map.Entry<? extends String, ? extends String> e : m.entrySet()) {
-                put(e.getKey(), e.getValue());
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Syntax syntax;
+    private final CompiledPlaceholders placeholders;
+
+    private char[] buffer = new char[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private boolean eof;
+
+    /**
+     * The number of characters of the prefix matched so far.
+     */
+    private int matched;
+    /**
+     * Whether the next character broke a partial prefix match and is therefore passed on as is.
+     */
+    private boolean literalNext;
+
+    /**
+     * The text to return before reading on, such as the value of a placeholder, or {@code null} if there is none.
+     */
+    private String pending;
+    private int pendingPos;
+    private int pendingEnd;
+
+    private final StringBuilder name = new StringBuilder();
+    private final char[] single = new char[1];
+
+    private int markPos = -1;
+    private int markLimit;
+    private long readSinceMark;
+    private int markMatched;
+    private boolean markLiteralNext;
+    private String markPending;
+    private int markPendingPos;
+    private int markPendingEnd;
+
+    /**
+     * The placeholder syntax with the prefix and suffix precompiled for matching.
+     */
+    private static final class Syntax {
+        private final String prefix;
+        private final String suffix;
+        private final String separator;
+        private final char[] prefixChars;
+        private final char[] suffixChars;
+        /**
+         * For each position in the suffix, the length of the longest proper prefix of the suffix that is also a suffix
+         * of the suffix up to and including that position.
+         */
+        private final int[] suffixFallback;
+
+        private Syntax(String prefix, String suffix, String separator) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+            this.separator = separator;
+            this.prefixChars = prefix.toCharArray();
+            this.suffixChars = suffix.toCharArray();
+            this.suffixFallback = new int[suffixChars.length];
+            for (int i = 1, k = 0; i < suffixChars.length; i++) {
+                while (k > 0 && suffixChars[i] != suffixChars[k]) {
+                    k = suffixFallback[k - 1];
+                }
+                if (suffixChars[i] == suffixChars[k]) {
+                    k++;
+                }
+                suffixFallback[i] = k;
             }
         }
 
-        @Override
-        public String put(String key, String value) {
-            return super.put(key.toLowerCase(), value);
-        }
-
-        @Override
-        public String get(Object key) {
-            return super.get(key.toString().toLowerCase());
-        }
-
-        @Override
-        public boolean containsKey(Object key) {
-            return super.containsKey(key.toString().toLowerCase());
+        /**
+         * @return The number of suffix characters matched after this character, given the number matched before it.
+         */
+        private int advanceSuffix(int matched, char c) {
+            while (matched > 0 && c != suffixChars[matched]) {
+                matched = suffixFallback[matched - 1];
+            }
+            return c == suffixChars[matched] ? matched + 1 : matched;
         }
     }
 
@@ -74,191 +127,292 @@ public class PlaceholderReplacingReader extends FilterReader {
         final String separator,
         final Map<String, String> placeholders,
         final Reader in) {
+        this(new Syntax(prefix, suffix, separator),
+             new CompiledPlaceholders(Collections.emptyMap(), placeholders, null),
+             in);
+    }
+
+    private PlaceholderReplacingReader(Syntax syntax, CompiledPlaceholders placeholders, Reader in) {
         super(in);
-        this.prefix = prefix;
-        this.suffix = suffix;
-        this.separator = separator;
-        this.placeholders.putAll(placeholders);
+        this.syntax = syntax;
+        this.placeholders = placeholders;
     }
 
     public static PlaceholderReplacingReader create(Configuration configuration, ParsingContext parsingContext, Reader reader) {
-        Map<String, String> placeholders = new HashMap<>();
-        Map<String, String> configurationPlaceholders = configuration.getPlaceholders();
-        Map<String, String> parsingContextPlaceholders = parsingContext.getPlaceholders();
+        return createFactory(configuration, parsingContext).apply(reader);
+    }
 
-        placeholders.putAll(configurationPlaceholders);
-        placeholders.putAll(parsingContextPlaceholders);
+    /**
+     * Creates a factory for placeholder replacing readers using the placeholders as they are right now. Later changes
+     * to the parsing context, such as the filename placeholder moving on to the next resource, do not affect it.
+     */
+    public static Function<Reader, PlaceholderReplacingReader> createFactory(Configuration configuration, ParsingContext parsingContext) {
+        CompiledPlaceholders placeholders = parsingContext.getCompiledPlaceholders(configuration);
+        Syntax syntax = new Syntax(configuration.getPlaceholderPrefix(),
+                                   configuration.getPlaceholderSuffix(),
+                                   configuration.getPlaceholderSeparator());
+        return reader -> new PlaceholderReplacingReader(syntax, placeholders, reader);
+    }
 
+    public static PlaceholderReplacingReader create(Configuration configuration, ParsingContext parsingContext, LoadableMigrationInfo info) {
+        final boolean placeholderReplacement = info.isPlaceholderReplacement() == null
+            ? configuration.isPlaceholderReplacement()
+            : info.isPlaceholderReplacement();
+        CompiledPlaceholders placeholders = placeholderReplacement
+            ? parsingContext.getCompiledPlaceholders(configuration)
+            : CompiledPlaceholders.EMPTY;
         return new PlaceholderReplacingReader(
-            configuration.getPlaceholderPrefix(),
-            configuration.getPlaceholderSuffix(),
-            configuration.getPlaceholderSeparator(),
+            new Syntax(configuration.getPlaceholderPrefix(),
+                       configuration.getPlaceholderSuffix(),
+                       configuration.getPlaceholderSeparator()),
             placeholders,
-            reader);
+            info.getLoadableResource().read());
     }
-        public static PlaceholderReplacingReader create(Configuration configuration, ParsingContext parsingContext, LoadableMigrationInfo info) {
-            Map<String, String> placeholders = new HashMap<>();
-            Map<String, String> configurationPlaceholders = configuration.getPlaceholders();
-            Map<String, String> parsingContextPlaceholders = parsingContext.getPlaceholders();
-
-            final boolean placeholderReplacement = info.isPlaceholderReplacement() == null
-                ? configuration.isPlaceholderReplacement()
-                : info.isPlaceholderReplacement();
-            if (placeholderReplacement) {
-                placeholders.putAll(configurationPlaceholders);
-                placeholders.putAll(parsingContextPlaceholders);
-            }
-                return new PlaceholderReplacingReader(
-                    configuration.getPlaceholderPrefix(),
-                    configuration.getPlaceholderSuffix(),
-                    configuration.getPlaceholderSeparator(),
-                    placeholders,
-                    info.getLoadableResource().read());
-            }
 
     public static PlaceholderReplacingReader createForScriptMigration(Configuration configuration, ParsingContext parsingContext, Reader reader) {
-        Map<String, String> placeholders = new HashMap<>();
-        Map<String, String> configurationPlaceholders = configuration.getPlaceholders();
-        Map<String, String> parsingContextPlaceholders = parsingContext.getPlaceholders();
-
-        placeholders.putAll(configurationPlaceholders);
-        placeholders.putAll(parsingContextPlaceholders);
-
         return new PlaceholderReplacingReader(
-                configuration.getScriptPlaceholderPrefix(),
-                configuration.getScriptPlaceholderSuffix(),
-                "_",
-                placeholders,
+                new Syntax(configuration.getScriptPlaceholderPrefix(),
+                           configuration.getScriptPlaceholderSuffix(),
+                           "_"),
+                parsingContext.getCompiledPlaceholders(configuration),
                 reader);
     }
 
     @Override
     public int read() throws IOException {
-        if (replacement == null) {
+        return read(single, 0, 1) == -1 ? -1 : single[0];
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > cbuf.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
 
-            // if we have a previous read, then consume it
-            if (buffer.length() > 0) {
-                char c = buffer.charAt(0);
-                buffer.deleteCharAt(0);
-                return c;
+        char[] prefix = syntax.prefixChars;
+        int count = 0;
+        while (count < len) {
+            if (pending != null) {
+                int n = Math.min(len - count, pendingEnd - pendingPos);
+                pending.getChars(pendingPos, pendingPos + n, cbuf, off + count);
+                count += n;
+                pendingPos += n;
+                if (pendingPos == pendingEnd) {
+                    pending = null;
+                }
+                continue;
             }
 
-            // else read ahead by the prefix length
-            int r;
-            do {
-                r = super.read();
-                if (r == -1) {
-                    break;
+            if (pos == limit && !fill()) {
+                if (matched > 0) {
+                    // The input ended in the middle of what looked like a prefix
+                    setPending(syntax.prefix, matched);
+                    matched = 0;
+                    continue;
                 }
+                break;
+            }
 
-                buffer.append((char) r);
-            } while (buffer.length() < prefix.length() && endsWith(buffer, prefix.substring(0, buffer.length())));
+            if (literalNext) {
+                literalNext = false;
+                cbuf[off + count++] = buffer[pos++];
+                continue;
+            }
 
-            // if the buffer does not contain the prefix
-            if (!endsWith(buffer, prefix)) {
-                // if it contain data, return the first character of it
-                if (buffer.length() > 0) {
-                    char c = buffer.charAt(0);
-                    buffer.deleteCharAt(0);
-                    return c;
-                }
-                // else return -1
-                return -1;
+            if (prefix.length == 0) {
+                int n = Math.min(len - count, limit - pos);
+                System.arraycopy(buffer, pos, cbuf, off + count, n);
+                pos += n;
+                count += n;
+                continue;
             }
-            // if the buffer contained the prefix, wipe the buffer
-            buffer.delete(0, buffer.length());
-
-            // begin reading ahead until we get to the suffix
-            StringBuilder placeholderBuilder = new StringBuilder();
-            do {
-                int r1 = super.read();
-                if (r1 == -1) {
-                    break;
-                } else {
-                    placeholderBuilder.append((char) r1);
-                }
-            } while (!endsWith(placeholderBuilder, suffix));
 
-            // delete the suffix from the builder
-            for (int i = 0; i < suffix.length(); i++) {
-                placeholderBuilder.deleteCharAt(placeholderBuilder.length() - 1);
+            if (matched == 0) {
+                int start = pos;
+                int end = Math.min(limit, pos + len - count);
+                char first = prefix[0];
+                while (pos < end && buffer[pos] != first) {
+                    pos++;
+                }
+                System.arraycopy(buffer, start, cbuf, off + count, pos - start);
+                count += pos - start;
+                if (pos == end) {
+                    continue;
+                }
+                pos++;
+                matched = 1;
+            } else if (buffer[pos] == prefix[matched]) {
+                pos++;
+                matched++;
+            } else {
+                setPending(syntax.prefix, matched);
+                matched = 0;
+                literalNext = true;
+                continue;
             }
 
-            // look up the placeholder string
-            String placeholder = placeholderBuilder.toString();
-            if (!placeholders.containsKey(placeholder)) {
-                String canonicalPlaceholder = prefix + placeholder + suffix;
+            if (matched == prefix.length) {
+                matched = 0;
+                replacePlaceholder();
+            }
+        }
+        readSinceMark += count;
+        return count == 0 ? -1 : count;
+    }
 
-                if (placeholder.startsWith("flyway" + separator)) {
-                    throw new FlywayException("Failed to populate value for default placeholder: "
-                                                      + canonicalPlaceholder);
+    /**
+     * Reads the name of the placeholder following its prefix and queues its value to be returned next.
+     */
+    private void replacePlaceholder() throws IOException {
+        char[] suffix = syntax.suffixChars;
+        name.setLength(0);
+
+        int suffixMatched = 0;
+        while (pos < limit || fill()) {
+            if (suffix.length == 0) {
+                name.append(buffer[pos++]);
+                break;
+            }
+            if (suffixMatched == 0) {
+                // Copy everything up to the next possible start of the suffix in one go
+                int start = pos;
+                char first = suffix[0];
+                while (pos < limit && buffer[pos] != first) {
+                    pos++;
+                }
+                name.append(buffer, start, pos - start);
+                if (pos == limit) {
+                    continue;
                 }
+            }
+            char c = buffer[pos++];
+            name.append(c);
+            suffixMatched = syntax.advanceSuffix(suffixMatched, c);
+            if (suffixMatched == suffix.length) {
+                break;
+            }
+        }
+        name.setLength(Math.max(0, name.length() - suffix.length));
+
+        String placeholder = name.toString();
+        String key = placeholder.toLowerCase();
+        if (!placeholders.containsKey(key)) {
+            String canonicalPlaceholder = syntax.prefix + placeholder + syntax.suffix;
 
-                throw new FlywayException("No value provided for placeholder: "
-                                                  + canonicalPlaceholder
-                                                  + ".  Check your configuration!");
+            if (placeholder.startsWith("flyway" + syntax.separator)) {
+                throw new FlywayException("Failed to populate value for default placeholder: "
+                                                  + canonicalPlaceholder);
             }
 
-            // set the current placeholder replacement
-            replacement = placeholders.get(placeholder);
+            throw new FlywayException("No value provided for placeholder: "
+                                              + canonicalPlaceholder
+                                              + ".  Check your configuration!");
+        }
+
+        String replacement = placeholders.get(key);
+        if (replacement != null && !replacement.isEmpty()) {
+            setPending(replacement, replacement.length());
+        }
+    }
+
+    private void setPending(String text, int end) {
+        pending = text;
+        pendingPos = 0;
+        pendingEnd = end;
+    }
+
+    /**
+     * Reads more input into the buffer, keeping everything from the mark onwards unless more than the read-ahead limit
+     * has been read since.
+     *
+     * @return {@code false} if the input is exhausted.
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
 
-            // Empty placeholder value -> move to the next character
-            if (replacement == null || replacement.length() == 0) {
-                replacement = null;
-                return read();
+        if (markPos >= 0 && readSinceMark > markLimit) {
+            markPos = -1;
+        }
+        int keepFrom = markPos >= 0 ? markPos : pos;
+        if (keepFrom > 0) {
+            System.arraycopy(buffer, keepFrom, buffer, 0, limit - keepFrom);
+            limit -= keepFrom;
+            pos -= keepFrom;
+            if (markPos >= 0) {
+                markPos -= keepFrom;
             }
         }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
 
-        int result = replacement.charAt(replacementPos);
-        replacementPos++;
-        if (replacementPos >= replacement.length()) {
-            replacement = null;
-            replacementPos = 0;
+        int n = in.read(buffer, limit, buffer.length - limit);
+        if (n == -1) {
+            eof = true;
+            return false;
         }
-        return result;
+        limit += n;
+        return true;
     }
 
     @Override
-    public int read(char[] cbuf, int off, int len) throws IOException {
-        int count = 0;
-        for (int i = 0; i < len; i++) {
-            int r = read();
+    public long skip(long n) throws IOException {
+        if (n < 0) {
+            throw new IllegalArgumentException("skip value is negative");
+        }
+        char[] skipped = new char[(int) Math.min(n, BUFFER_SIZE)];
+        long remaining = n;
+        while (remaining > 0) {
+            int r = read(skipped, 0, (int) Math.min(remaining, skipped.length));
             if (r == -1) {
-                return count == 0 ? -1 : count;
+                break;
             }
-            cbuf[off + i] = (char) r;
-            count++;
+            remaining -= r;
         }
-        return count;
+        return n - remaining;
     }
 
     @Override
-    public void mark(int readAheadLimit) throws IOException {
-        markBuffer = buffer.toString();
-        markReplacement = replacement;
-        markReplacementPos = replacementPos;
-        super.mark(readAheadLimit);
+    public boolean ready() throws IOException {
+        return pending != null || pos < limit || in.ready();
     }
 
     @Override
-    public void reset() throws IOException {
-        super.reset();
-        buffer.delete(0, buffer.length());
-        buffer.append(markBuffer);
-        replacement = markReplacement;
-        replacementPos = markReplacementPos;
+    public boolean markSupported() {
+        return true;
     }
 
-    private boolean endsWith(StringBuilder result, String str) {
-        if (result.length() < str.length()) {
-            return false;
+    @Override
+    public void mark(int readAheadLimit) throws IOException {
+        if (readAheadLimit < 0) {
+            throw new IllegalArgumentException("Read-ahead limit < 0");
         }
+        markPos = pos;
+        markLimit = readAheadLimit;
+        readSinceMark = 0;
+        markMatched = matched;
+        markLiteralNext = literalNext;
+        markPending = pending;
+        markPendingPos = pendingPos;
+        markPendingEnd = pendingEnd;
+    }
 
-        for (int i = 0; i < str.length(); i++) {
-            if (result.charAt(result.length() - str.length() + i) != str.charAt(i)) {
-                return false;
-            }
+    @Override
+    public void reset() throws IOException {
+        if (markPos < 0) {
+            throw new IOException("Mark invalid");
         }
-        return true;
+        pos = markPos;
+        readSinceMark = 0;
+        matched = markMatched;
+        literalNext = markLiteralNext;
+        pending = markPending;
+        pendingPos = markPendingPos;
+        pendingEnd = markPendingEnd;
     }
 }
@@ -30,6 +30,12 @@ public class Recorder {
         }
     }
 
+    public void record(char[] chars, int offset, int length) {
+        if (isRunning()) {
+            recorder.append(chars, offset, length);
+        }
+    }
+
     public int length() {
         return recorder.length();
     }
@@ -19,7 +19,6 @@
  */
 package org.flywaydb.core.internal.plugin;
 
-import java.util.Collections;
 import lombok.CustomLog;
 import lombok.NoArgsConstructor;
 import org.flywaydb.core.api.configuration.Configuration;
@@ -27,96 +26,165 @@ import org.flywaydb.core.extensibility.Plugin;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+/**
+ * The plugins found on the classpath. Plugins are only instantiated once they are asked for, and the sorted plugins of
+ * each requested type are indexed so that repeated lookups don't have to filter and sort all plugins again.
+ */
 @SuppressWarnings("unchecked")
 @CustomLog
 @NoArgsConstructor
 public class PluginRegister {
-    private final List<Plugin> REGISTERED_PLUGINS = new ArrayList<>();
-    private final ClassLoader CLASS_LOADER = this.getClass().getClassLoader();
-    private boolean hasRegisteredPlugins;
+    /**
+     * Marks a plugin that was instantiated but is disabled.
+     */
+    private static final Plugin DISABLED = new Plugin() {};
+
+    /**
+     * The providers of all plugins. Finding them only loads their classes, and as they can't change for the lifetime
+     * of this class loader they are shared by all registers.
+     */
+    private static volatile List<ServiceLoader.Provider<Plugin>> providers;
+
+    /**
+     * The plugin of each provider, {@code null} while it hasn't been instantiated yet and {@link #DISABLED} if it is
+     * disabled.
+     */
+    private Plugin[] plugins;
+    private final Map<Class<?>, List<Plugin>> pluginsByType = new ConcurrentHashMap<>();
+    private final Map<String, List<Plugin>> pluginsBySimpleName = new ConcurrentHashMap<>();
 
     public <T extends Plugin> T getPlugin(final Class<T> clazz) {
-        return (T) getPlugins()
-                .stream()
-                .filter(p -> p.getClass().getCanonicalName().equals(clazz.getCanonicalName()))
-                .findFirst()
-                .orElse(null);
+        List<ServiceLoader.Provider<Plugin>> providers = getProviders();
+        for (int i = 0; i < providers.size(); i++) {
+            if (providers.get(i).type().getCanonicalName().equals(clazz.getCanonicalName())) {
+                Plugin plugin = getPlugin(i);
+                if (plugin != null) {
+                    return (T) plugin;
+                }
+            }
+        }
+        return null;
     }
 
     public <T extends Plugin> List<T> getPlugins(final Class<T> clazz) {
-        return (List<T>) getPlugins()
-                .stream()
-                .filter(clazz::isInstance)
-                .sorted()
-                .collect(Collectors.toList());
+        List<Plugin> result = pluginsByType.get(clazz);
+        if (result == null) {
+            result = findPlugins(clazz::isAssignableFrom);
+            List<Plugin> existing = pluginsByType.putIfAbsent(clazz, result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        return (List<T>) result;
     }
 
     public <T extends Plugin> List<T> getLicensedPlugins(final Class<T> clazz, final Configuration configuration) {
-        return (List<T>) getPlugins()
+        return getPlugins(clazz)
                 .stream()
-                .filter(clazz::isInstance)
                 .filter(p -> p.isLicensed(configuration))
-                .sorted()
                 .collect(Collectors.toList());
     }
 
     public <T extends Plugin> T getLicensedPlugin(final String className, final Configuration configuration) {
-        return (T) getPlugins()
+        return (T) getPluginsBySimpleName(className)
                 .stream()
                 .filter(p -> p.isLicensed(configuration))
-                .filter(p -> p.getClass().getSimpleName().equals(className))
-                .sorted()
                 .findFirst()
                 .orElse(null);
     }
 
     public <T extends Plugin> T getPlugin(final String className) {
-        return (T) getPlugins()
-            .stream()
-            .filter(p -> p.getClass().getSimpleName().equals(className))
-            .sorted()
-            .findFirst()
-            .orElse(null);
+        List<Plugin> result = getPluginsBySimpleName(className);
+        return result.isEmpty() ? null : (T) result.get(0);
     }
 
     public <T extends Plugin> T getPluginInstanceOf(final Class<T> clazz) {
-        return (T) getPlugins()
-            .stream()
-            .filter(clazz::isInstance)
-            .sorted()
-            .findFirst()
-            .orElse(null);
+        List<T> result = getPlugins(clazz);
+        return result.isEmpty() ? null : result.get(0);
     }
 
-    private List<Plugin> getPlugins() {
-        registerPlugins();
-        return Collections.unmodifiableList(REGISTERED_PLUGINS);
+    private List<Plugin> getPluginsBySimpleName(final String className) {
+        List<Plugin> result = pluginsBySimpleName.get(className);
+        if (result == null) {
+            result = findPlugins(type -> type.getSimpleName().equals(className));
+            List<Plugin> existing = pluginsBySimpleName.putIfAbsent(className, result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        return result;
     }
 
-    void registerPlugins() {
-        synchronized (REGISTERED_PLUGINS) {
-            if (hasRegisteredPlugins) {
-                return;
+    /**
+     * Instantiates the enabled plugins of the matching types.
+     *
+     * @return The plugins, sorted by priority.
+     */
+    private List<Plugin> findPlugins(final Predicate<Class<? extends Plugin>> typeFilter) {
+        List<ServiceLoader.Provider<Plugin>> providers = getProviders();
+        List<Plugin> result = new ArrayList<>();
+        for (int i = 0; i < providers.size(); i++) {
+            if (typeFilter.test(providers.get(i).type())) {
+                Plugin plugin = getPlugin(i);
+                if (plugin != null) {
+                    result.add(plugin);
+                }
             }
+        }
+        result.sort(null);
+        return List.copyOf(result);
+    }
 
-            for (final Plugin plugin : ServiceLoader.load(Plugin.class, CLASS_LOADER)) {
-                if (plugin.isEnabled()) {
-                    REGISTERED_PLUGINS.add(plugin);
-                }
+    /**
+     * @return The plugin of the provider with this index, or {@code null} if it is disabled.
+     */
+    private synchronized Plugin getPlugin(final int index) {
+        if (plugins == null) {
+            plugins = new Plugin[getProviders().size()];
+        }
+        Plugin plugin = plugins[index];
+        if (plugin == null) {
+            plugin = getProviders().get(index).get();
+            if (!plugin.isEnabled()) {
+                plugin = DISABLED;
             }
+            plugins[index] = plugin;
+        }
+        return plugin == DISABLED ? null : plugin;
+    }
 
-            hasRegisteredPlugins = true;
+    private static List<ServiceLoader.Provider<Plugin>> getProviders() {
+        List<ServiceLoader.Provider<Plugin>> result = providers;
+        if (result == null) {
+            synchronized (PluginRegister.class) {
+                if (providers == null) {
+                    providers = ServiceLoader.load(Plugin.class, PluginRegister.class.getClassLoader()).stream().toList();
+                }
+                result = providers;
+            }
         }
+        return result;
     }
 
-    public PluginRegister getCopy(){
+    /**
+     * Creates a copy of this register. Only the plugins this register has instantiated so far can carry state, so only
+     * those are copied; all others are instantiated by the copy once it needs them.
+     */
+    public synchronized PluginRegister getCopy() {
         final PluginRegister copy = new PluginRegister();
-        copy.REGISTERED_PLUGINS.clear();
-        copy.REGISTERED_PLUGINS.addAll(getPlugins().stream().map(Plugin::copy).toList());
-        copy.hasRegisteredPlugins = true;
+        if (plugins != null) {
+            copy.plugins = new Plugin[plugins.length];
+            for (int i = 0; i < plugins.length; i++) {
+                Plugin plugin = plugins[i];
+                copy.plugins[i] = plugin == null || plugin == DISABLED ? plugin : plugin.copy();
+            }
+        }
         return copy;
     }
 }
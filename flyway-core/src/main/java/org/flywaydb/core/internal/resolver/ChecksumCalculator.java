@@ -26,13 +26,18 @@ import org.flywaydb.core.api.resource.LoadableResource;
 import org.flywaydb.core.internal.util.BomFilter;
 import org.flywaydb.core.internal.util.IOUtils;
 
-import java.io.BufferedReader;
+import org.flywaydb.core.internal.util.Pair;
+
+import java.io.FilterReader;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.Reader;
+import java.util.function.Function;
 import java.util.zip.CRC32;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ChecksumCalculator {
+    private static final int BUFFER_SIZE = 8192;
+
     /**
      * Calculates the checksum of these resources. The checksum is encoding and line-ending independent.
      *
@@ -60,30 +65,189 @@ public class ChecksumCalculator {
         return checksum;
     }
 
+    /**
+     * Calculates the checksum of the transformed contents of these resources together with the checksum of their raw
+     * contents, reading each resource only once. Both checksums are encoding and line-ending independent.
+     *
+     * @param transformation The transformation to apply to the raw contents, such as placeholder replacement.
+     * @return The crc-32 checksum of the transformed contents (left) and of the raw contents (right).
+     */
+    public static Pair<Integer, Integer> calculateWithEquivalent(Function<Reader, ? extends Reader> transformation, LoadableResource... loadableResources) {
+        LoadableResource resource = loadableResources[0];
+        Crc32LineHasher rawHasher = new Crc32LineHasher();
+        Crc32LineHasher transformedHasher = new Crc32LineHasher();
+
+        Reader reader = null;
+        try {
+            HashingReader rawReader = new HashingReader(resource.read(), rawHasher);
+            reader = transformation.apply(rawReader);
+            char[] buffer = new char[BUFFER_SIZE];
+            hash(reader, buffer, transformedHasher);
+            // Ensure the raw checksum covers the whole resource, even if the transformation stopped reading early
+            hash(rawReader, buffer, null);
+        } catch (IOException e) {
+            throw checksumFailure(resource, e);
+        } finally {
+            IOUtils.close(reader);
+        }
+
+        return Pair.of(transformedHasher.getValue(), rawHasher.getValue());
+    }
+
     private static int calculateChecksumForResource(LoadableResource resource) {
-        final CRC32 crc32 = new CRC32();
+        Crc32LineHasher hasher = new Crc32LineHasher();
 
-        BufferedReader bufferedReader = null;
+        Reader reader = null;
         try {
-            bufferedReader = new BufferedReader(resource.read(), 4096);
-            String line = bufferedReader.readLine();
-
-            if (line != null) {
-                line = BomFilter.FilterBomFromString(line);
-                do {
-                    //noinspection Since15
-                    crc32.update(line.getBytes(StandardCharsets.UTF_8));
-                } while ((line = bufferedReader.readLine()) != null);
-            }
+            reader = resource.read();
+            hash(reader, new char[BUFFER_SIZE], hasher);
         } catch (IOException e) {
-            throw new FlywayException("Unable to calculate checksum of " + resource.getFilename() + "\n" +
-                                      "Please ensure you have configured the correct file encoding with 'flyway.encoding' " +
-                                      "or enable 'flyway.detectEncoding' to let Flyway detect it for you", e);
+            throw checksumFailure(resource, e);
         } finally {
-            IOUtils.close(bufferedReader);
+            IOUtils.close(reader);
+        }
+
+        return hasher.getValue();
+    }
+
+    private static void hash(Reader reader, char[] buffer, Crc32LineHasher hasher) throws IOException {
+        int read;
+        while ((read = reader.read(buffer, 0, buffer.length)) != -1) {
+            if (hasher != null) {
+                hasher.update(buffer, 0, read);
+            }
+        }
+    }
+
+    private static FlywayException checksumFailure(LoadableResource resource, IOException e) {
+        return new FlywayException("Unable to calculate checksum of " + resource.getFilename() + "\n" +
+                                   "Please ensure you have configured the correct file encoding with 'flyway.encoding' " +
+                                   "or enable 'flyway.detectEncoding' to let Flyway detect it for you", e);
+    }
+
+    /**
+     * Computes the crc-32 of the UTF-8 encoding of a stream of characters with all line terminators removed and a
+     * leading Byte Order Mark stripped. This yields exactly the same value as feeding every line returned by
+     * {@link java.io.BufferedReader#readLine()} through {@link String#getBytes(java.nio.charset.Charset)}, without
+     * materializing any of these lines.
+     */
+    private static final class Crc32LineHasher {
+        private final CRC32 crc32 = new CRC32();
+        private final byte[] bytes = new byte[BUFFER_SIZE];
+        private int length;
+        private boolean start = true;
+        private char highSurrogate;
+
+        void update(char[] chars, int offset, int count) {
+            for (int i = offset; i < offset + count; i++) {
+                char c = chars[i];
+                if (start) {
+                    start = false;
+                    if (BomFilter.isBom(c)) {
+                        continue;
+                    }
+                }
+
+                if (c == '\n' || c == '\r') {
+                    flushHighSurrogate();
+                } else if (Character.isHighSurrogate(c)) {
+                    flushHighSurrogate();
+                    highSurrogate = c;
+                } else if (Character.isLowSurrogate(c) && highSurrogate != 0) {
+                    int codePoint = Character.toCodePoint(highSurrogate, c);
+                    highSurrogate = 0;
+                    ensureCapacity(4);
+                    bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    flushHighSurrogate();
+                    encode(c);
+                }
+            }
         }
 
-        return (int) crc32.getValue();
+        int getValue() {
+            flushHighSurrogate();
+            crc32.update(bytes, 0, length);
+            length = 0;
+            return (int) crc32.getValue();
+        }
+
+        private void encode(char c) {
+            ensureCapacity(3);
+            if (c < 0x80) {
+                bytes[length++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[length++] = (byte) (0xC0 | (c >> 6));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogates are replaced the same way String.getBytes(UTF_8) does
+                bytes[length++] = '?';
+            } else {
+                bytes[length++] = (byte) (0xE0 | (c >> 12));
+                bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+
+        private void flushHighSurrogate() {
+            if (highSurrogate != 0) {
+                highSurrogate = 0;
+                ensureCapacity(1);
+                bytes[length++] = '?';
+            }
+        }
+
+        private void ensureCapacity(int required) {
+            if (length + required > bytes.length) {
+                crc32.update(bytes, 0, length);
+                length = 0;
+            }
+        }
+    }
+
+    /**
+     * Feeds every character read through it into a {@link Crc32LineHasher}.
+     */
+    private static final class HashingReader extends FilterReader {
+        private final Crc32LineHasher hasher;
+        private final char[] single = new char[1];
+
+        HashingReader(Reader in, Crc32LineHasher hasher) {
+            super(in);
+            this.hasher = hasher;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = in.read();
+            if (c != -1) {
+                single[0] = (char) c;
+                hasher.update(single, 0, 1);
+            }
+            return c;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            int read = in.read(cbuf, off, len);
+            if (read > 0) {
+                hasher.update(cbuf, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void mark(int readAheadLimit) throws IOException {
+            throw new IOException("mark() not supported");
+        }
     }
 
 
@@ -61,13 +61,40 @@ public class CompositeMigrationResolver implements MigrationResolver {
                                       ParsingContext parsingContext,
                                       StatementInterceptor statementInterceptor,
                                       MigrationResolver... customMigrationResolvers) {
+        this(resourceProvider, classProvider, configuration, sqlScriptExecutorFactory, sqlScriptFactory, parsingContext,
+             null, statementInterceptor, customMigrationResolvers);
+    }
+
+    public CompositeMigrationResolver(ResourceProvider resourceProvider,
+                                      ClassProvider<JavaMigration> classProvider,
+                                      Configuration configuration,
+                                      SqlScriptExecutorFactory sqlScriptExecutorFactory,
+                                      SqlScriptFactory sqlScriptFactory,
+                                      ParsingContext parsingContext,
+                                      MigrationMetadataCache migrationMetadataCache,
+                                      StatementInterceptor statementInterceptor,
+                                      MigrationResolver... customMigrationResolvers) {
+        this(resourceProvider, classProvider, configuration, sqlScriptExecutorFactory, sqlScriptFactory, parsingContext,
+             migrationMetadataCache, null, statementInterceptor, customMigrationResolvers);
+    }
+
+    public CompositeMigrationResolver(ResourceProvider resourceProvider,
+                                      ClassProvider<JavaMigration> classProvider,
+                                      Configuration configuration,
+                                      SqlScriptExecutorFactory sqlScriptExecutorFactory,
+                                      SqlScriptFactory sqlScriptFactory,
+                                      ParsingContext parsingContext,
+                                      MigrationMetadataCache migrationMetadataCache,
+                                      PrecalculatedChecksums precalculatedChecksums,
+                                      StatementInterceptor statementInterceptor,
+                                      MigrationResolver... customMigrationResolvers) {
         this.resourceProvider = resourceProvider;
         this.sqlScriptFactory = sqlScriptFactory;
         this.sqlScriptExecutorFactory = sqlScriptExecutorFactory;
         this.statementInterceptor = statementInterceptor;
 
         if (!configuration.isSkipDefaultResolvers()) {
-            migrationResolvers.add(new SqlMigrationResolver(resourceProvider, sqlScriptExecutorFactory, sqlScriptFactory, configuration, parsingContext));
+            migrationResolvers.add(new SqlMigrationResolver(resourceProvider, sqlScriptExecutorFactory, sqlScriptFactory, configuration, parsingContext, migrationMetadataCache, precalculatedChecksums));
             migrationResolvers.add(new ScanningJavaMigrationResolver(classProvider, configuration));
 
             migrationResolvers.addAll(configuration.getPluginRegister().getPlugins(MigrationResolver.class));
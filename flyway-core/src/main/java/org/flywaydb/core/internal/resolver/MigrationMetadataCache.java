@@ -0,0 +1,323 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.resolver;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.AccessLevel;
+import lombok.CustomLog;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.flywaydb.core.extensibility.ConfigurationExtension;
+import org.flywaydb.core.internal.database.base.Database;
+import org.flywaydb.core.internal.license.EncryptionUtils;
+import org.flywaydb.core.internal.license.VersionPrinter;
+import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.resource.filesystem.FileSystemResource;
+import org.flywaydb.core.internal.util.JsonUtils;
+import org.flywaydb.core.internal.util.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+
+/**
+ * On-disk cache of the checksums and parsing results of SQL migrations, so unchanged migrations do not have to be read
+ * and parsed again on every run.
+ *
+ * <p>Entries are keyed by the absolute path of the migration and are only reused while its size and modification time,
+ * as well as those of its script configuration file, are unchanged. When only the modification time differs, as happens
+ * after a fresh checkout, a hash of the contents decides. The parsed script configuration file is kept in the same
+ * entry. The whole cache is discarded whenever a setting that affects parsing changes, including the database version
+ * and the settings of database-specific extensions. Only migrations on the file system are cached.</p>
+ */
+@CustomLog
+public class MigrationMetadataCache {
+    private static final int FORMAT_VERSION = 2;
+
+    private final Path file;
+    private final String fingerprint;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+
+    private MigrationMetadataCache(Path file, String fingerprint) {
+        this.file = file;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Loads the cache configured with {@code migrationCacheFile}.
+     *
+     * @return The cache, or {@code null} if caching is disabled.
+     */
+    public static MigrationMetadataCache load(Configuration configuration, ParsingContext parsingContext) {
+        String migrationCacheFile = configuration.getMigrationCacheFile();
+        if (!StringUtils.hasText(migrationCacheFile)) {
+            return null;
+        }
+
+        if (migrationCacheFile.startsWith("~" + File.separator) || migrationCacheFile.startsWith("~/")) {
+            migrationCacheFile = System.getProperty("user.home") + migrationCacheFile.substring(1);
+        }
+        Path file = new File(migrationCacheFile).toPath().toAbsolutePath();
+
+        MigrationMetadataCache cache = new MigrationMetadataCache(file, calculateFingerprint(configuration, parsingContext));
+        if (Files.isRegularFile(file)) {
+            try {
+                CacheFile cacheFile = JsonUtils.getJsonMapper().readValue(file.toFile(), CacheFile.class);
+                if (cacheFile.getVersion() == FORMAT_VERSION && cache.fingerprint.equals(cacheFile.getFingerprint())
+                        && cacheFile.getEntries() != null) {
+                    cacheFile.getEntries().forEach((path, entry) -> {
+                        entry.cache = cache;
+                        cache.entries.put(path, entry);
+                    });
+                } else {
+                    LOG.debug("Discarding migration cache " + file + " as the configuration has changed");
+                }
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Unable to read migration cache " + file + ": " + e.getMessage());
+            }
+        }
+        LOG.debug("Using migration cache " + file + " with " + cache.entries.size() + " entries");
+        return cache;
+    }
+
+    /**
+     * Calculates a fingerprint of all the settings which affect the checksums and parsing results of migrations. The
+     * fingerprint is hashed as placeholder values may be sensitive.
+     *
+     * <p>Built-in placeholders such as {@code flyway:timestamp} are deliberately left out, as they change on every
+     * run. Checksums which depend on placeholder values are therefore never cached.</p>
+     */
+    private static String calculateFingerprint(Configuration configuration, ParsingContext parsingContext) {
+        Database database = parsingContext.getDatabase();
+        String databaseType = database == null ? "" : database.getDatabaseType().getName();
+        String databaseVersion = database == null ? "" : database.getVersion().toString();
+
+        String fingerprint = VersionPrinter.getVersion()
+                + "|" + databaseType
+                + "|" + databaseVersion
+                + "|" + configuration.getEncoding()
+                + "|" + configuration.isDetectEncoding()
+                + "|" + configuration.isPlaceholderReplacement()
+                + "|" + configuration.getPlaceholderPrefix()
+                + "|" + configuration.getPlaceholderSuffix()
+                + "|" + configuration.getPlaceholderSeparator()
+                + "|" + new TreeMap<>(configuration.getPlaceholders())
+                + "|" + configuration.isExecuteInTransaction()
+                + "|" + configuration.isMixed()
+                + "|" + getExtensionSettings(configuration);
+        return EncryptionUtils.hashString(fingerprint, "");
+    }
+
+    /**
+     * Describes the settings of all configuration extensions, as database-specific parsers may depend on any of them.
+     */
+    private static String getExtensionSettings(Configuration configuration) {
+        JsonMapper mapper = JsonUtils.getJsonMapper();
+        Map<String, String> settings = new TreeMap<>();
+        for (ConfigurationExtension extension : configuration.getPluginRegister().getPlugins(ConfigurationExtension.class)) {
+            String value;
+            try {
+                value = mapper.writeValueAsString(extension);
+            } catch (JsonProcessingException | RuntimeException e) {
+                value = String.valueOf(extension);
+            }
+            settings.put(extension.getClass().getName(), value);
+        }
+        return settings.toString();
+    }
+
+    /**
+     * Retrieves the entry for this migration. If there is no valid entry yet, a new empty one is created.
+     *
+     * @param resource         The migration.
+     * @param metadataResource The script configuration file of the migration, if any.
+     * @return The entry, or {@code null} if this migration cannot be cached.
+     */
+    public Entry get(LoadableResource resource, LoadableResource metadataResource) {
+        if (!(resource instanceof FileSystemResource)) {
+            return null;
+        }
+
+        Path path = new File(resource.getAbsolutePathOnDisk()).toPath();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String metadataStamp = getMetadataStamp(metadataResource);
+
+        String key = path.toAbsolutePath().toString();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.size == size && metadataStamp.equals(entry.metadataStamp)) {
+            if (entry.lastModified == lastModified) {
+                return entry;
+            }
+
+            Long contentHash = calculateContentHash(path);
+            if (contentHash != null && contentHash.equals(entry.contentHash)) {
+                entry.lastModified = lastModified;
+                dirty = true;
+                return entry;
+            }
+        }
+
+        Entry newEntry = new Entry();
+        newEntry.cache = this;
+        newEntry.size = size;
+        newEntry.lastModified = lastModified;
+        newEntry.contentHash = calculateContentHash(path);
+        newEntry.metadataStamp = metadataStamp;
+        if (newEntry.contentHash == null) {
+            return null;
+        }
+        if (entry != null && metadataStamp.equals(entry.metadataStamp)) {
+            // Only the migration itself changed
+            newEntry.scriptMetadata = entry.scriptMetadata;
+        }
+        entry = newEntry;
+        entries.put(key, entry);
+        dirty = true;
+        return entry;
+    }
+
+    private static String getMetadataStamp(LoadableResource metadataResource) {
+        if (metadataResource == null) {
+            return "";
+        }
+        if (!(metadataResource instanceof FileSystemResource)) {
+            return metadataResource.getAbsolutePath();
+        }
+        File metadataFile = new File(metadataResource.getAbsolutePathOnDisk());
+        return metadataFile.length() + ":" + metadataFile.lastModified();
+    }
+
+    private static Long calculateContentHash(Path path) {
+        CRC32C crc32c = new CRC32C();
+        byte[] buffer = new byte[65536];
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                crc32c.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return crc32c.getValue();
+    }
+
+    /**
+     * Writes the cache back to disk if anything changed. Failures are logged, but never fail the run.
+     */
+    public void save() {
+        if (!dirty) {
+            return;
+        }
+
+        CacheFile cacheFile = new CacheFile();
+        cacheFile.setVersion(FORMAT_VERSION);
+        cacheFile.setFingerprint(fingerprint);
+        cacheFile.setEntries(new TreeMap<>(entries));
+
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            JsonMapper mapper = JsonUtils.getJsonMapper();
+            mapper.writeValue(tempFile.toFile(), cacheFile);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+            LOG.debug("Saved migration cache " + file + " with " + entries.size() + " entries");
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Unable to write migration cache " + file + ": " + e.getMessage());
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    static class CacheFile {
+        private int version;
+        private String fingerprint;
+        private Map<String, Entry> entries;
+    }
+
+    /**
+     * The cached metadata of a single migration. Values which have not been calculated yet are {@code null}.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Entry {
+        @Getter(AccessLevel.NONE)
+        @Setter(AccessLevel.NONE)
+        private transient MigrationMetadataCache cache;
+        private long size;
+        private long lastModified;
+        private Long contentHash;
+        private String metadataStamp;
+        private Integer checksum;
+        private Integer equivalentChecksum;
+        private Integer sqlStatementCount;
+        private Boolean nonTransactionalStatementFound;
+        private Map<String, String> scriptMetadata;
+
+        public boolean hasChecksums() {
+            return checksum != null;
+        }
+
+        public boolean hasParseResult() {
+            return sqlStatementCount != null && nonTransactionalStatementFound != null;
+        }
+
+        public void recordChecksums(Integer checksum, Integer equivalentChecksum) {
+            this.checksum = checksum;
+            this.equivalentChecksum = equivalentChecksum;
+            cache.dirty = true;
+        }
+
+        public void recordParseResult(int sqlStatementCount, boolean nonTransactionalStatementFound) {
+            this.sqlStatementCount = sqlStatementCount;
+            this.nonTransactionalStatementFound = nonTransactionalStatementFound;
+            cache.dirty = true;
+        }
+
+        public void recordScriptMetadata(Map<String, String> scriptMetadata) {
+            this.scriptMetadata = new TreeMap<>(scriptMetadata);
+            cache.dirty = true;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.resolver;
+
+import lombok.CustomLog;
+import org.flywaydb.core.api.ResourceProvider;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.flywaydb.core.internal.resource.classpath.ClassPathResource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checksums of SQL migrations calculated in the background before they are resolved, so that reading the scripts
+ * overlaps with connecting to the database. Only checksums of the raw contents are calculated, which is all that a
+ * versioned migration needs. Resolving the migrations takes whatever has been calculated by then and stops the rest.
+ */
+@CustomLog
+public class PrecalculatedChecksums {
+    private final Map<LoadableResource, Integer> checksums = new ConcurrentHashMap<>();
+    private volatile boolean stopped;
+
+    /**
+     * Starts calculating the checksums of the SQL migrations of this resource provider on the common pool.
+     */
+    public void start(ResourceProvider resourceProvider, Configuration configuration) {
+        String[] suffixes = configuration.getSqlMigrationSuffixes();
+        List<LoadableResource> resources = new ArrayList<>(resourceProvider.getResources(configuration.getSqlMigrationPrefix(), suffixes));
+        if (!configuration.isPlaceholderReplacement()) {
+            // Otherwise the checksums of repeatable migrations depend on the placeholders
+            resources.addAll(resourceProvider.getResources(configuration.getRepeatableSqlMigrationPrefix(), suffixes));
+        }
+        if (!resources.isEmpty()) {
+            CompletableFuture.runAsync(() -> resources.parallelStream().forEach(this::calculate));
+        }
+    }
+
+    private void calculate(LoadableResource resource) {
+        if (stopped || resource instanceof ClassPathResource && ((ClassPathResource) resource).getIndexedChecksum() != null) {
+            return;
+        }
+        try {
+            checksums.put(resource, ChecksumCalculator.calculate(resource));
+        } catch (RuntimeException e) {
+            // Calculated again when resolving, which reports the failure
+            LOG.debug("Unable to calculate checksum of " + resource.getAbsolutePath() + " in advance: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops calculating checksums, as the migrations are being resolved.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * @return The checksum of the raw contents of this resource, or {@code null} if it hasn't been calculated.
+     */
+    public Integer get(LoadableResource resource) {
+        return checksums.get(resource);
+    }
+}
@@ -31,19 +31,30 @@ import org.flywaydb.core.api.resource.Resource;
 import org.flywaydb.core.extensibility.LicenseGuard;
 import org.flywaydb.core.extensibility.Tier;
 import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.parser.PlaceholderReplacingReader;
 import org.flywaydb.core.internal.resolver.ChecksumCalculator;
+import org.flywaydb.core.internal.resolver.MigrationMetadataCache;
+import org.flywaydb.core.internal.resolver.PrecalculatedChecksums;
 import org.flywaydb.core.internal.resolver.ResolvedMigrationComparator;
 import org.flywaydb.core.internal.resolver.ResolvedMigrationImpl;
 import org.flywaydb.core.internal.resource.ResourceName;
 import org.flywaydb.core.internal.resource.ResourceNameParser;
+import org.flywaydb.core.internal.resource.classpath.ClassPathResource;
+import org.flywaydb.core.internal.sqlscript.ParserSqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
 import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
+import org.flywaydb.core.internal.sqlscript.SqlScriptMetadata;
+import org.flywaydb.core.internal.util.ClassLoaderScopedCache;
+import org.flywaydb.core.internal.util.Pair;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -52,23 +63,54 @@ import java.util.stream.Collectors;
  */
 @CustomLog
 public class SqlMigrationResolver implements MigrationResolver {
+    /**
+     * Checksums of migrations inside archives on the classpath, shared by all resolvers in this JVM.
+     */
+    private static final ClassLoaderScopedCache<String, Integer> ARCHIVED_CHECKSUMS = new ClassLoaderScopedCache<>();
+
     private final SqlScriptExecutorFactory sqlScriptExecutorFactory;
     private final ResourceProvider resourceProvider;
     private final SqlScriptFactory sqlScriptFactory;
     private final Configuration configuration;
     private final ParsingContext parsingContext;
+    /**
+     * The cache of checksums and parsing results from previous runs, or {@code null} if caching is disabled.
+     */
+    private final MigrationMetadataCache migrationMetadataCache;
+    /**
+     * The checksums calculated while connecting to the database, or {@code null} if none were.
+     */
+    private final PrecalculatedChecksums precalculatedChecksums;
 
     public SqlMigrationResolver(ResourceProvider resourceProvider, SqlScriptExecutorFactory sqlScriptExecutorFactory,
                                 SqlScriptFactory sqlScriptFactory, Configuration configuration, ParsingContext parsingContext) {
+        this(resourceProvider, sqlScriptExecutorFactory, sqlScriptFactory, configuration, parsingContext, null);
+    }
+
+    public SqlMigrationResolver(ResourceProvider resourceProvider, SqlScriptExecutorFactory sqlScriptExecutorFactory,
+                                SqlScriptFactory sqlScriptFactory, Configuration configuration, ParsingContext parsingContext,
+                                MigrationMetadataCache migrationMetadataCache) {
+        this(resourceProvider, sqlScriptExecutorFactory, sqlScriptFactory, configuration, parsingContext, migrationMetadataCache, null);
+    }
+
+    public SqlMigrationResolver(ResourceProvider resourceProvider, SqlScriptExecutorFactory sqlScriptExecutorFactory,
+                                SqlScriptFactory sqlScriptFactory, Configuration configuration, ParsingContext parsingContext,
+                                MigrationMetadataCache migrationMetadataCache, PrecalculatedChecksums precalculatedChecksums) {
         this.sqlScriptExecutorFactory = sqlScriptExecutorFactory;
         this.resourceProvider = resourceProvider;
         this.sqlScriptFactory = sqlScriptFactory;
         this.configuration = configuration;
         this.parsingContext = parsingContext;
+        this.migrationMetadataCache = migrationMetadataCache;
+        this.precalculatedChecksums = precalculatedChecksums;
     }
 
     @Override
     public List<ResolvedMigration> resolveMigrations(Context context) {
+        if (precalculatedChecksums != null) {
+            precalculatedChecksums.stop();
+        }
+
         List<ResolvedMigration> migrations = new ArrayList<>();
         String[] suffixes = configuration.getSqlMigrationSuffixes();
 
@@ -79,34 +121,9 @@ public class SqlMigrationResolver implements MigrationResolver {
         return migrations;
     }
 
-    private LoadableResource[] createPlaceholderReplacingLoadableResources(List<LoadableResource> loadableResources) {
-        return loadableResources.stream()
-            .map(loadableResource -> LoadableResource.createPlaceholderReplacingLoadableResource(
-                loadableResource,
-                configuration,
-                parsingContext))
-            .toArray(LoadableResource[]::new);
-    }
-
-    private Integer getChecksumForLoadableResource(boolean repeatable, List<LoadableResource> loadableResources, ResourceName resourceName, boolean placeholderReplacement) {
-        if (repeatable && placeholderReplacement) {
-            parsingContext.updateFilenamePlaceholder(resourceName, configuration);
-            return ChecksumCalculator.calculate(createPlaceholderReplacingLoadableResources(loadableResources));
-        }
-
-        return ChecksumCalculator.calculate(loadableResources.toArray(new LoadableResource[0]));
-    }
-
-    private Integer getEquivalentChecksumForLoadableResource(boolean repeatable, List<LoadableResource> loadableResources) {
-        if (repeatable) {
-            return ChecksumCalculator.calculate(loadableResources.toArray(new LoadableResource[0]));
-        }
-
-        return null;
-    }
-
     private void addMigrations(List<ResolvedMigration> migrations, String prefix, String[] suffixes, boolean repeatable) {
         ResourceNameParser resourceNameParser = new ResourceNameParser(configuration);
+        List<Supplier<ResolvedMigration>> pendingMigrations = new ArrayList<>();
 
         for (LoadableResource resource : resourceProvider.getResources(prefix, suffixes)) {
             String filename = resource.getFilename();
@@ -133,20 +150,92 @@ public class SqlMigrationResolver implements MigrationResolver {
 
 
 
-            Integer checksum = getChecksumForLoadableResource(repeatable, resources, resourceName, sqlScript.placeholderReplacement());
-            Integer equivalentChecksum = getEquivalentChecksumForLoadableResource(repeatable, resources);
+            LoadableResource metadataResource = migrationMetadataCache == null ? null : SqlScriptMetadata.getMetadataResource(resourceProvider, resource);
+            // A script configuration file is loaded right below, so its cache entry is needed now rather than later
+            MigrationMetadataCache.Entry scriptMetadataCacheEntry = metadataResource == null ? null : migrationMetadataCache.get(resource, metadataResource);
+            if (scriptMetadataCacheEntry != null && sqlScript instanceof ParserSqlScript) {
+                ((ParserSqlScript) sqlScript).setCacheEntry(scriptMetadataCacheEntry);
+            }
+
+            // The placeholders must be captured now, as the filename placeholder moves on with the next resource
+            Function<Reader, ? extends Reader> placeholderReplacement = getPlaceholderReplacement(repeatable, resourceName, sqlScript.placeholderReplacement());
+
+            pendingMigrations.add(() -> {
+                MigrationMetadataCache.Entry cacheEntry = metadataResource != null || migrationMetadataCache == null
+                        ? scriptMetadataCacheEntry
+                        : migrationMetadataCache.get(resource, null);
+                if (cacheEntry != null && sqlScript instanceof ParserSqlScript) {
+                    ((ParserSqlScript) sqlScript).setCacheEntry(cacheEntry);
+                }
+
+                LoadableResource[] loadableResources = resources.toArray(new LoadableResource[0]);
+                Integer checksum;
+                Integer equivalentChecksum;
+                if (placeholderReplacement != null) {
+                    // Depends on placeholder values, so never cached
+                    Pair<Integer, Integer> checksums = ChecksumCalculator.calculateWithEquivalent(placeholderReplacement, loadableResources);
+                    checksum = checksums.getLeft();
+                    equivalentChecksum = checksums.getRight();
+                } else if (cacheEntry != null && cacheEntry.hasChecksums()) {
+                    checksum = cacheEntry.getChecksum();
+                    equivalentChecksum = cacheEntry.getEquivalentChecksum();
+                } else {
+                    checksum = calculateChecksum(loadableResources);
+                    equivalentChecksum = repeatable ? checksum : null;
+                    if (cacheEntry != null) {
+                        cacheEntry.recordChecksums(checksum, equivalentChecksum);
+                    }
+                }
+
+                return new ResolvedMigrationImpl(
+                        resourceName.getVersion(),
+                        resourceName.getDescription(),
+                        resource.getRelativePath(),
+                        checksum,
+                        equivalentChecksum,
+                        CoreMigrationType.SQL,
+                        resource.getAbsolutePathOnDisk(),
+                        new SqlMigrationExecutor(sqlScriptExecutorFactory, sqlScript, false,
+                                                 configuration.isBatch()));
+            });
+        }
+
+        // Reading and checksumming the scripts is independent per resource, so spread it across the fork-join pool
+        migrations.addAll(pendingMigrations.parallelStream().map(Supplier::get).toList());
+    }
 
-            migrations.add(new ResolvedMigrationImpl(
-                    resourceName.getVersion(),
-                    resourceName.getDescription(),
-                    resource.getRelativePath(),
-                    checksum,
-                    equivalentChecksum,
-                    CoreMigrationType.SQL,
-                    resource.getAbsolutePathOnDisk(),
-                    new SqlMigrationExecutor(sqlScriptExecutorFactory, sqlScript, false,
-                                             configuration.isBatch())));
+    private int calculateChecksum(LoadableResource[] loadableResources) {
+        if (loadableResources.length == 1 && precalculatedChecksums != null) {
+            Integer checksum = precalculatedChecksums.get(loadableResources[0]);
+            if (checksum != null) {
+                return checksum;
+            }
         }
+        if (loadableResources.length == 1 && loadableResources[0] instanceof ClassPathResource) {
+            ClassPathResource classPathResource = (ClassPathResource) loadableResources[0];
+            if (classPathResource.getIndexedChecksum() != null) {
+                return classPathResource.getIndexedChecksum();
+            }
+            String key = classPathResource.getArchiveCacheKey();
+            if (key != null) {
+                return ARCHIVED_CHECKSUMS.computeIfAbsent(classPathResource.getClassLoader(), key,
+                    k -> ChecksumCalculator.calculate(loadableResources));
+            }
+        }
+        return ChecksumCalculator.calculate(loadableResources);
+    }
+
+    /**
+     * @return The placeholder replacement to apply before calculating the checksum of a repeatable migration, or
+     * {@code null} if its checksum is calculated from the raw contents.
+     */
+    private Function<Reader, ? extends Reader> getPlaceholderReplacement(boolean repeatable, ResourceName resourceName, boolean placeholderReplacement) {
+        if (repeatable && placeholderReplacement) {
+            parsingContext.updateFilenamePlaceholder(resourceName, configuration);
+            return PlaceholderReplacingReader.createFactory(configuration, parsingContext);
+        }
+
+        return null;
     }
 
     /**
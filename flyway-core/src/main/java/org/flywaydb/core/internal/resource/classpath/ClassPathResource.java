@@ -46,6 +46,10 @@ public class ClassPathResource extends LoadableResource {
     private final String parentURL;
 
     private final boolean stream;
+    /**
+     * The checksum of this resource found in a classpath index, or {@code null} if it has to be calculated.
+     */
+    private final Integer indexedChecksum;
 
     public ClassPathResource(Location location, String fileNameWithAbsolutePath, ClassLoader classLoader,
                              Charset encoding) {
@@ -57,8 +61,19 @@ public class ClassPathResource extends LoadableResource {
         this(location, fileNameWithAbsolutePath, classLoader, encoding, false, parentURL, stream);
     }
 
+    public ClassPathResource(Location location, String fileNameWithAbsolutePath, ClassLoader classLoader,
+                             Charset encoding, String parentURL, boolean stream, Integer indexedChecksum) {
+        this(location, fileNameWithAbsolutePath, classLoader, encoding, false, parentURL, stream, indexedChecksum);
+    }
+
     public ClassPathResource(Location location, String fileNameWithAbsolutePath, ClassLoader classLoader,
                              Charset encoding, Boolean detectEncoding, String parentURL, boolean stream) {
+        this(location, fileNameWithAbsolutePath, classLoader, encoding, detectEncoding, parentURL, stream, null);
+    }
+
+    private ClassPathResource(Location location, String fileNameWithAbsolutePath, ClassLoader classLoader,
+                              Charset encoding, Boolean detectEncoding, String parentURL, boolean stream,
+                              Integer indexedChecksum) {
         this.fileNameWithAbsolutePath = fileNameWithAbsolutePath;
         this.fileNameWithRelativePath = location == null ? fileNameWithAbsolutePath : location.getPathRelativeToThis(fileNameWithAbsolutePath);
         this.classLoader = classLoader;
@@ -66,6 +81,7 @@ public class ClassPathResource extends LoadableResource {
         this.detectEncoding = detectEncoding;
         this.parentURL = parentURL;
         this.stream = stream;
+        this.indexedChecksum = detectEncoding ? null : indexedChecksum;
     }
 
     @Override
@@ -103,8 +119,12 @@ public class ClassPathResource extends LoadableResource {
         return null;
     }
 
-    @Override
-    public Reader read() {
+    /**
+     * Opens the raw contents of this resource.
+     *
+     * @return The stream, which the caller must close.
+     */
+    public InputStream openStream() {
         InputStream inputStream = null;
         try {
             Enumeration<URL> urls = classLoader.getResources(fileNameWithAbsolutePath);
@@ -122,6 +142,12 @@ public class ClassPathResource extends LoadableResource {
         if (inputStream == null) {
             throw new FlywayException("Unable to obtain inputstream for resource: " + fileNameWithAbsolutePath);
         }
+        return inputStream;
+    }
+
+    @Override
+    public Reader read() {
+        InputStream inputStream = openStream();
 
         Charset charset = encoding;
         if (detectEncoding) {
@@ -164,6 +190,30 @@ public class ClassPathResource extends LoadableResource {
         return Objects.hash(fileNameWithAbsolutePath, parentURL);
     }
 
+    /**
+     * @return The checksum of this resource found in a classpath index, or {@code null} if it has to be calculated.
+     */
+    public Integer getIndexedChecksum() {
+        return indexedChecksum;
+    }
+
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    /**
+     * @return A key identifying the contents of this resource for as long as its ClassLoader lives, or {@code null}
+     * if the resource is not inside an archive and may therefore still change on disk. An archive on disk may still be
+     * rebuilt in place, so its last modified time and size are part of the key.
+     */
+    public String getArchiveCacheKey() {
+        if (!parentURL.contains("!/") && !parentURL.contains("*/") && !parentURL.endsWith(".jar")) {
+            return null;
+        }
+        return parentURL + "|" + UrlUtils.getArchiveVersion(parentURL) + "|" + fileNameWithAbsolutePath + "|"
+                + encoding.name() + "|" + detectEncoding;
+    }
+
     @Override
     public boolean shouldStream() {
         return stream;
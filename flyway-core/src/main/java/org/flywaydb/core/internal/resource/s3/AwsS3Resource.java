@@ -20,41 +20,238 @@
 package org.flywaydb.core.internal.resource.s3;
 
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.configuration.S3ClientFactory;
 import org.flywaydb.core.api.resource.LoadableResource;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.nio.channels.Channels;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
+import static org.flywaydb.core.internal.util.DataUnits.MEGABYTE;
+
+/**
+ * An object in Amazon S3. The content of a small object is downloaded at most once, and kept in memory from then on.
+ * Larger objects, and objects that are streamed, are read from S3 each time instead. When a cache directory is set,
+ * the content of any object is also kept there between runs, keyed by bucket, key and ETag, so an object that hasn't
+ * changed is never downloaded again.
+ */
 @CustomLog
-@RequiredArgsConstructor
 public class AwsS3Resource extends LoadableResource {
+    /**
+     * The size up to which the content of an object is kept in memory, and from which it is streamed if requested.
+     */
+    private static final long IN_MEMORY_MAXIMUM_SIZE = MEGABYTE.toBytes(1);
+
     private final String bucketName;
     private final S3Object s3ObjectSummary;
     private final Charset encoding;
+    private final Path cacheDirectory;
+    private final boolean stream;
+    private volatile byte[] content;
+
+    public AwsS3Resource(String bucketName, S3Object s3ObjectSummary, Charset encoding) {
+        this(bucketName, s3ObjectSummary, encoding, null, false);
+    }
+
+    /**
+     * @param cacheDirectory The directory in which to cache the content between runs, or {@code null} to not cache it.
+     * @param stream         Whether large objects should be streamed.
+     */
+    public AwsS3Resource(String bucketName, S3Object s3ObjectSummary, Charset encoding, Path cacheDirectory, boolean stream) {
+        this.bucketName = bucketName;
+        this.s3ObjectSummary = s3ObjectSummary;
+        this.encoding = encoding;
+        this.cacheDirectory = cacheDirectory;
+        this.stream = stream;
+    }
 
     @Override
     public Reader read() {
-        S3Client s3 = S3ClientFactory.getClient();
+        InputStream inputStream = isKeptInMemory() ? new ByteArrayInputStream(getContent(null)) : openStream(null);
+        return Channels.newReader(Channels.newChannel(inputStream), encoding.name());
+    }
+
+    /**
+     * Loads the content of this object ahead of reading it, so that reading it doesn't need a request. Small objects
+     * are loaded into memory. Larger ones are only downloaded into the cache directory, if there is one.
+     *
+     * @param s3 The client to download it with.
+     */
+    public void prefetch(S3Client s3) {
+        if (isKeptInMemory()) {
+            getContent(s3);
+        } else if (cacheDirectory != null) {
+            try (InputStream inputStream = openStream(s3)) {
+                // Opening the object is enough to cache it
+            } catch (IOException e) {
+                LOG.debug("Unable to prefetch Amazon S3 resource " + getAbsolutePath() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private boolean isKeptInMemory() {
+        Long size = s3ObjectSummary.size();
+        return !shouldStream() && (size == null || size <= IN_MEMORY_MAXIMUM_SIZE);
+    }
+
+    @Override
+    public boolean shouldStream() {
+        Long size = s3ObjectSummary.size();
+        return stream && size != null && size > IN_MEMORY_MAXIMUM_SIZE;
+    }
+
+    /**
+     * Opens the content of this object without keeping it in memory, from the cache directory if it is cached there.
+     * Otherwise it is downloaded into the cache directory first, if there is one.
+     */
+    private InputStream openStream(S3Client s3) {
+        Path cacheFile = getCacheFile(s3ObjectSummary.eTag());
+        if (cacheFile != null && Files.isRegularFile(cacheFile)) {
+            try {
+                InputStream result = Files.newInputStream(cacheFile);
+                LOG.debug("Using cached Amazon S3 resource: " + getAbsolutePath());
+                return result;
+            } catch (IOException e) {
+                LOG.debug("Unable to read cached Amazon S3 resource " + cacheFile + ": " + e.getMessage());
+            }
+        }
+
+        ResponseInputStream<GetObjectResponse> response = downloadStream(s3 == null ? S3ClientFactory.getClient() : s3);
+        Path downloadedFile = getCacheFile(response.response().eTag());
+        if (downloadedFile == null) {
+            return response;
+        }
+        try (InputStream inputStream = response) {
+            writeCacheFile(downloadedFile, inputStream);
+            return Files.newInputStream(downloadedFile);
+        } catch (IOException e) {
+            LOG.debug("Unable to cache Amazon S3 resource " + getAbsolutePath() + ": " + e.getMessage());
+            return downloadStream(s3 == null ? S3ClientFactory.getClient() : s3);
+        }
+    }
+
+    private byte[] getContent(S3Client s3) {
+        byte[] result = content;
+        if (result == null) {
+            synchronized (this) {
+                if (content == null) {
+                    content = loadContent(s3);
+                }
+                result = content;
+            }
+        }
+        return result;
+    }
+
+    private byte[] loadContent(S3Client s3) {
+        Path cacheFile = getCacheFile(s3ObjectSummary.eTag());
+        if (cacheFile != null && Files.isRegularFile(cacheFile)) {
+            try {
+                byte[] result = Files.readAllBytes(cacheFile);
+                LOG.debug("Using cached Amazon S3 resource: " + getAbsolutePath());
+                return result;
+            } catch (IOException e) {
+                LOG.debug("Unable to read cached Amazon S3 resource " + cacheFile + ": " + e.getMessage());
+            }
+        }
+
+        ResponseBytes<GetObjectResponse> response = download(s3 == null ? S3ClientFactory.getClient() : s3);
+        byte[] result = response.asByteArray();
+        // The object may have changed since it was listed, so it is cached under the ETag it was downloaded with
+        writeCacheFile(getCacheFile(response.response().eTag()), result);
+        return result;
+    }
+
+    private ResponseBytes<GetObjectResponse> download(S3Client s3) {
         try {
-            GetObjectRequest.Builder builder = GetObjectRequest.builder().bucket(bucketName).key(s3ObjectSummary.key());
-            GetObjectRequest request = builder.build();
-            ResponseInputStream o = s3.getObject(request);
-            return Channels.newReader(Channels.newChannel(o), encoding.name());
+            return s3.getObjectAsBytes(getObjectRequest());
         } catch (AwsServiceException e) {
             LOG.error(e.getMessage(), e);
             throw new FlywayException("Failed to get object from s3: " + e.getMessage(), e);
         }
     }
 
+    private ResponseInputStream<GetObjectResponse> downloadStream(S3Client s3) {
+        try {
+            return s3.getObject(getObjectRequest());
+        } catch (AwsServiceException e) {
+            LOG.error(e.getMessage(), e);
+            throw new FlywayException("Failed to get object from s3: " + e.getMessage(), e);
+        }
+    }
+
+    private GetObjectRequest getObjectRequest() {
+        GetObjectRequest.Builder builder = GetObjectRequest.builder().bucket(bucketName).key(s3ObjectSummary.key());
+        return builder.build();
+    }
+
+    /**
+     * @return The file in which the content of this object with this ETag is cached, or {@code null} if it isn't.
+     */
+    private Path getCacheFile(String eTag) {
+        if (cacheDirectory == null || eTag == null) {
+            return null;
+        }
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] digest = md.digest((bucketName + "/" + s3ObjectSummary.key() + "@" + eTag).getBytes(StandardCharsets.UTF_8));
+            return cacheDirectory.resolve(HexFormat.of().formatHex(digest));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeCacheFile(Path cacheFile, byte[] content) {
+        if (cacheFile == null) {
+            return;
+        }
+        try {
+            writeCacheFile(cacheFile, new ByteArrayInputStream(content));
+        } catch (IOException e) {
+            LOG.debug("Unable to cache Amazon S3 resource " + getAbsolutePath() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Copies this content into the cache file without holding it in memory. Failures are thrown rather than logged
+     * only, as the content has been consumed by then and needs to be downloaded again.
+     */
+    private void writeCacheFile(Path cacheFile, InputStream content) throws IOException {
+        if (Files.isRegularFile(cacheFile)) {
+            return;
+        }
+        Files.createDirectories(cacheDirectory);
+        Path tempFile = Files.createTempFile(cacheDirectory, cacheFile.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(tempFile, StandardOpenOption.TRUNCATE_EXISTING)) {
+                content.transferTo(outputStream);
+            }
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
     @Override
     public String getAbsolutePath() {
         return bucketName.concat("/").concat(s3ObjectSummary.key());
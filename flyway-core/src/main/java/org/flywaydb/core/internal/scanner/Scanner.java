@@ -69,10 +69,13 @@ public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
 
         FileSystemScanner fileSystemScanner = new FileSystemScanner(stream, configuration);
 
+        List<Location> fileSystemLocations = Arrays.stream(configuration.getLocations()).filter(Location::isFileSystem).toList();
+        Iterator<Collection<LoadableResource>> fileSystemResources = fileSystemScanner.scanForResources(fileSystemLocations).iterator();
+
         FeatureDetector detector = new FeatureDetector(classLoader);
         for (Location location : configuration.getLocations()) {
             if (location.isFileSystem()) {
-                resources.addAll(fileSystemScanner.scanForResources(location));
+                resources.addAll(fileSystemResources.next());
             } else if (location.isGCS()) {
 
                  throw new FlywayEditionUpgradeRequiredException(Tier.TEAMS, LicenseGuard.getTier(configuration), "Google Cloud Storage");
@@ -88,7 +91,7 @@ public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
 
             } else if (location.isAwsS3()) {
                 if (detector.isAwsAvailable()) {
-                    Collection<LoadableResource> awsResources = new AwsS3Scanner(encoding, throwOnMissingLocations).scanForResources(location);
+                    Collection<LoadableResource> awsResources = new AwsS3Scanner(stream, configuration).scanForResources(location);
                     resources.addAll(awsResources);
                 } else {
                     LOG.error("Can't read location " + location + "; AWS SDK not found");
@@ -0,0 +1,145 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.scanner.classpath;
+
+import lombok.Getter;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The header of a class file: its access flags, its name and the names of its direct supertypes, read without
+ * loading the class. Names are internal names, such as {@code java/lang/Object}.
+ */
+@Getter
+public class ClassFileHeader {
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final int ACC_ANNOTATION = 0x2000;
+    private static final int ACC_ENUM = 0x4000;
+    private static final int ACC_MODULE = 0x8000;
+
+    private final int accessFlags;
+    private final String name;
+    /**
+     * The name of the super class, or {@code null} for {@code java/lang/Object}.
+     */
+    private final String superName;
+    private final List<String> interfaceNames;
+
+    private ClassFileHeader(int accessFlags, String name, String superName, List<String> interfaceNames) {
+        this.accessFlags = accessFlags;
+        this.name = name;
+        this.superName = superName;
+        this.interfaceNames = interfaceNames;
+    }
+
+    /**
+     * @return Whether instances of exactly this class can be created, that is whether it isn't an interface, an
+     * abstract class or an enum.
+     */
+    public boolean isInstantiable() {
+        return (accessFlags & (ACC_INTERFACE | ACC_ABSTRACT | ACC_ANNOTATION | ACC_ENUM | ACC_MODULE)) == 0;
+    }
+
+    /**
+     * Reads the header of a class file. Only the start of the stream up to the interfaces is read.
+     *
+     * @param inputStream The contents of the class file. It is not closed.
+     * @return The header.
+     * @throws IOException when the stream could not be read or doesn't contain a class file.
+     */
+    public static ClassFileHeader read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        // Minor and major version
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+
+        int constantPoolCount = in.readUnsignedShort();
+        String[] utf8s = new String[constantPoolCount];
+        int[] classNameIndexes = new int[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: // Utf8
+                    utf8s[i] = in.readUTF();
+                    break;
+                case 7: // Class
+                    classNameIndexes[i] = in.readUnsignedShort();
+                    break;
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    in.skipNBytes(2);
+                    break;
+                case 15: // MethodHandle
+                    in.skipNBytes(3);
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    in.skipNBytes(4);
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    in.skipNBytes(8);
+                    // These take up two entries
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+
+        int accessFlags = in.readUnsignedShort();
+        String name = getClassName(utf8s, classNameIndexes, in.readUnsignedShort());
+        String superName = getClassName(utf8s, classNameIndexes, in.readUnsignedShort());
+        int interfaceCount = in.readUnsignedShort();
+        List<String> interfaceNames = new ArrayList<>(interfaceCount);
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaceNames.add(getClassName(utf8s, classNameIndexes, in.readUnsignedShort()));
+        }
+        return new ClassFileHeader(accessFlags, name, superName, Collections.unmodifiableList(interfaceNames));
+    }
+
+    private static String getClassName(String[] utf8s, int[] classNameIndexes, int index) throws IOException {
+        if (index == 0) {
+            return null;
+        }
+        if (index >= classNameIndexes.length || utf8s[classNameIndexes[index]] == null) {
+            throw new IOException("Invalid class reference " + index);
+        }
+        return utf8s[classNameIndexes[index]];
+    }
+}
@@ -0,0 +1,99 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.scanner.classpath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Determines whether classes implement a type by walking their supertypes through the headers of their class files,
+ * so that neither the classes nor their supertypes have to be loaded.
+ */
+public class ClassFileHierarchy {
+    private final ClassLoader classLoader;
+    private final String typeName;
+    /**
+     * Whether each class or interface visited so far is a subtype of the type, or {@code null} if that is unknown.
+     */
+    private final Map<String, Boolean> subtypes = new HashMap<>();
+
+    /**
+     * @param classLoader The ClassLoader to find the class files of the supertypes with.
+     * @param type The type to check for.
+     */
+    public ClassFileHierarchy(ClassLoader classLoader, Class<?> type) {
+        this.classLoader = classLoader;
+        this.typeName = type.getName().replace('.', '/');
+    }
+
+    /**
+     * @param header The header of the class to check.
+     * @return {@code true} if it is a subtype of the type, {@code false} if it isn't, or {@code null} if this could not
+     * be determined because the class file of one of its supertypes could not be read.
+     */
+    public Boolean isSubtype(ClassFileHeader header) {
+        if (typeName.equals(header.getName())) {
+            return true;
+        }
+
+        boolean unknown = false;
+        for (String interfaceName : header.getInterfaceNames()) {
+            Boolean subtype = isSubtype(interfaceName);
+            if (Boolean.TRUE.equals(subtype)) {
+                return true;
+            }
+            unknown |= subtype == null;
+        }
+        if (header.getSuperName() != null) {
+            Boolean subtype = isSubtype(header.getSuperName());
+            if (Boolean.TRUE.equals(subtype)) {
+                return true;
+            }
+            unknown |= subtype == null;
+        }
+        return unknown ? null : false;
+    }
+
+    private Boolean isSubtype(String name) {
+        if (typeName.equals(name)) {
+            return true;
+        }
+        if (name.startsWith("java/")) {
+            // Platform classes can't implement any of our types
+            return false;
+        }
+        if (subtypes.containsKey(name)) {
+            return subtypes.get(name);
+        }
+
+        // Guards against cycles in broken class files
+        subtypes.put(name, null);
+        Boolean subtype;
+        try (InputStream inputStream = classLoader.getResourceAsStream(name + ".class")) {
+            subtype = inputStream == null ? null : isSubtype(ClassFileHeader.read(inputStream));
+        } catch (IOException e) {
+            subtype = null;
+        }
+        subtypes.put(name, subtype);
+        return subtype;
+    }
+}
@@ -0,0 +1,283 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.scanner.classpath;
+
+import lombok.CustomLog;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.flywaydb.core.internal.resolver.ChecksumCalculator;
+import org.flywaydb.core.internal.resource.filesystem.FileSystemResource;
+import org.flywaydb.core.internal.util.ClassUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * An index of the resources in a classpath root, generated at build time by the Maven and Gradle plugins, so that
+ * Flyway doesn't have to load classes or calculate checksums to find the migrations at runtime. Class files are only
+ * listed if they contain a {@link JavaMigration}. The number of files in each directory is recorded as well, so an
+ * index that doesn't describe all of its archive, such as one of several merged into a shaded jar, can be detected.
+ * <p>The index is a UTF-8 text file at {@link #INDEX_PATH} with one tab-separated entry per line:</p>
+ * <pre>
+ * encoding   &lt;the encoding the checksums were calculated with&gt;
+ * directory  &lt;number of files&gt;  &lt;directory name&gt;
+ * resource   &lt;checksum, or - if there is none&gt;  &lt;resource name&gt;
+ * class      &lt;class name of a Java migration&gt;
+ * </pre>
+ */
+@CustomLog
+public class ClassPathIndex {
+    public static final String INDEX_PATH = "META-INF/flyway/index";
+    private static final String HEADER = "# Flyway classpath index";
+    private static final String ENCODING = "encoding";
+    private static final String DIRECTORY = "directory";
+    private static final String RESOURCE = "resource";
+    private static final String CLASS = "class";
+    private static final String NO_CHECKSUM = "-";
+
+    private final String encoding;
+    /**
+     * The checksum of each resource, or {@code null} for the resources without one. Class files of Java migrations
+     * are included, without a checksum.
+     */
+    private final Map<String, Integer> resources;
+    /**
+     * The number of files in each directory of the classpath root when it was indexed, whether they were indexed or
+     * not.
+     */
+    private final Map<String, Integer> directories;
+
+    private ClassPathIndex(String encoding, Map<String, Integer> resources, Map<String, Integer> directories) {
+        this.encoding = encoding;
+        this.resources = resources;
+        this.directories = directories;
+    }
+
+    /**
+     * Finds the indexes in the archives on the classpath of this ClassLoader. Indexes in directories are ignored, as
+     * the contents of a directory may have changed since it was indexed.
+     *
+     * @return The URLs of the indexes, keyed by the URL of the classpath root they belong to.
+     */
+    public static Map<String, URL> findIndexUrls(ClassLoader classLoader) {
+        Map<String, URL> indexUrls = new HashMap<>();
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_PATH);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                if ("file".equals(url.getProtocol())) {
+                    continue;
+                }
+                String root = url.toExternalForm();
+                indexUrls.put(root.substring(0, root.length() - INDEX_PATH.length()), url);
+            }
+        } catch (IOException e) {
+            LOG.debug("Unable to find classpath indexes: " + e.getMessage());
+        }
+        return indexUrls;
+    }
+
+    /**
+     * @return The index at this URL, or {@code null} if it could not be read.
+     */
+    public static ClassPathIndex read(URL url) {
+        String encoding = null;
+        Map<String, Integer> resources = new HashMap<>();
+        Map<String, Integer> directories = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\t", 3);
+                if (ENCODING.equals(fields[0]) && fields.length == 2) {
+                    encoding = fields[1];
+                } else if (DIRECTORY.equals(fields[0]) && fields.length == 3) {
+                    directories.put(fields[2], Integer.valueOf(fields[1]));
+                } else if (RESOURCE.equals(fields[0]) && fields.length == 3) {
+                    resources.put(fields[2], NO_CHECKSUM.equals(fields[1]) ? null : Integer.valueOf(fields[1]));
+                } else if (CLASS.equals(fields[0]) && fields.length == 2) {
+                    resources.put(fields[1].replace('.', '/') + ".class", null);
+                } else {
+                    throw new IOException("Invalid entry: " + line);
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            LOG.warn("Skipping invalid classpath index " + url + " (" + e.getMessage() + ")");
+            return null;
+        }
+        LOG.debug("Using classpath index " + url + " with " + resources.size() + " entries");
+        return new ClassPathIndex(encoding, resources, directories);
+    }
+
+    /**
+     * Checks this index against the resources its archive actually contains below this path. An archive merging
+     * several classpath roots, such as a shaded jar, contains more than its surviving index describes.
+     *
+     * @param rootPath The path the resource names were listed below.
+     * @param archiveResourceNames The names of the entries of the archive below this path.
+     * @return {@code true} if every directory below this path holds as many files as when it was indexed.
+     */
+    public boolean matches(String rootPath, Collection<String> archiveResourceNames) {
+        String prefix = rootPath.isEmpty() || rootPath.endsWith("/") ? rootPath : rootPath + "/";
+        Map<String, Integer> fileCounts = new HashMap<>();
+        for (String resourceName : archiveResourceNames) {
+            if (!resourceName.endsWith("/") && !resourceName.equals(INDEX_PATH)) {
+                fileCounts.merge(getDirectory(resourceName), 1, Integer::sum);
+            }
+        }
+        Map<String, Integer> indexedFileCounts = new HashMap<>();
+        for (Map.Entry<String, Integer> directory : directories.entrySet()) {
+            if ((directory.getKey() + "/").startsWith(prefix)) {
+                indexedFileCounts.put(directory.getKey(), directory.getValue());
+            }
+        }
+        return fileCounts.equals(indexedFileCounts);
+    }
+
+    private static String getDirectory(String resourceName) {
+        int separator = resourceName.lastIndexOf('/');
+        return separator < 0 ? "" : resourceName.substring(0, separator);
+    }
+
+    /**
+     * @return The names of the indexed resources below this path.
+     */
+    public Set<String> getResourceNames(String rootPath) {
+        Set<String> resourceNames = new TreeSet<>();
+        for (String resourceName : resources.keySet()) {
+            if (resourceName.startsWith(rootPath)) {
+                resourceNames.add(resourceName);
+            }
+        }
+        return resourceNames;
+    }
+
+    /**
+     * @return The checksum of this resource, or {@code null} if it wasn't calculated with this encoding.
+     */
+    public Integer getChecksum(String resourceName, Charset encoding) {
+        if (!encoding.name().equals(this.encoding)) {
+            return null;
+        }
+        return resources.get(resourceName);
+    }
+
+    /**
+     * Indexes the resources in these directories, which together form a single classpath root, and writes the index
+     * into the output directory.
+     *
+     * @param directories The directories to index, such as the output directories of the classes and resources.
+     * @param outputDirectory The directory to write the index to, typically one of the indexed directories.
+     * @param encoding The encoding of the resources.
+     * @param classLoader The ClassLoader to find the Java migrations with. It must be able to load the classes in
+     *                    these directories.
+     * @return The number of entries written.
+     */
+    public static int write(Collection<Path> directories, Path outputDirectory, Charset encoding, ClassLoader classLoader) throws IOException {
+        Map<String, String> entries = new TreeMap<>();
+        Map<String, Integer> fileCounts = new TreeMap<>();
+        ClassFileHierarchy hierarchy = new ClassFileHierarchy(classLoader, JavaMigration.class);
+        for (Path directory : directories) {
+            if (!Files.isDirectory(directory)) {
+                continue;
+            }
+            List<Path> files;
+            try (Stream<Path> paths = Files.walk(directory)) {
+                files = paths.filter(Files::isRegularFile).toList();
+            }
+            for (Path file : files) {
+                String resourceName = directory.relativize(file).toString().replace('\\', '/');
+                if (resourceName.equals(INDEX_PATH)) {
+                    continue;
+                }
+                fileCounts.merge(getDirectory(resourceName), 1, Integer::sum);
+                if (resourceName.endsWith(".class")) {
+                    String className = resourceName.substring(0, resourceName.length() - ".class".length()).replace('/', '.');
+                    if (isJavaMigration(file, className, hierarchy, classLoader)) {
+                        entries.put(resourceName, CLASS + "\t" + className);
+                    }
+                } else {
+                    entries.put(resourceName, RESOURCE + "\t" + calculateChecksum(file, encoding) + "\t" + resourceName);
+                }
+            }
+        }
+
+        Path indexFile = outputDirectory.resolve(INDEX_PATH);
+        Files.createDirectories(indexFile.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(indexFile, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            writer.write(ENCODING + "\t" + encoding.name());
+            writer.newLine();
+            for (Map.Entry<String, Integer> directory : fileCounts.entrySet()) {
+                writer.write(DIRECTORY + "\t" + directory.getValue() + "\t" + directory.getKey());
+                writer.newLine();
+            }
+            for (String entry : entries.values()) {
+                writer.write(entry);
+                writer.newLine();
+            }
+        }
+        return entries.size();
+    }
+
+    private static boolean isJavaMigration(Path file, String className, ClassFileHierarchy hierarchy, ClassLoader classLoader) {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            ClassFileHeader header = ClassFileHeader.read(inputStream);
+            if (!header.isInstantiable() || Boolean.FALSE.equals(hierarchy.isSubtype(header))) {
+                return false;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        try {
+            return ClassUtils.loadClass(JavaMigration.class, className, classLoader) != null;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static String calculateChecksum(Path file, Charset encoding) {
+        try {
+            return String.valueOf(ChecksumCalculator.calculate(new FileSystemResource(null, file.toString(), encoding, false)));
+        } catch (RuntimeException e) {
+            // Not readable with this encoding, so the checksum is calculated at runtime like for any other resource
+            return NO_CHECKSUM;
+        }
+    }
+}
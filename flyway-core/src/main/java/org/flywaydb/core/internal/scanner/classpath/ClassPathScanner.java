@@ -23,6 +23,7 @@ import lombok.CustomLog;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.Location;
 import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.migration.JavaMigration;
 import org.flywaydb.core.api.resource.LoadableResource;
 import org.flywaydb.core.internal.resource.classpath.ClassPathResource;
 import org.flywaydb.core.internal.scanner.LocationScannerCache;
@@ -32,6 +33,7 @@ import org.flywaydb.core.internal.scanner.classpath.jboss.JBossVFSv3ClassPathLoc
 import org.flywaydb.core.internal.util.*;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -43,10 +45,30 @@ import java.util.regex.Pattern;
 
 @CustomLog
 public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
+    /**
+     * Resource names found in archives, shared by all scanners in this JVM. Unlike directories, the contents of an
+     * archive don't change for the lifetime of the ClassLoader that loaded it, unless it is rebuilt in place, which the
+     * key accounts for with the archive's last modified time and size.
+     */
+    private static final ClassLoaderScopedCache<String, Set<String>> ARCHIVE_RESOURCE_NAMES = new ClassLoaderScopedCache<>();
+    /**
+     * The build-time indexes of the archives on the classpath, keyed by the URL of the index and the last modified time
+     * and size of its archive.
+     */
+    private static final ClassLoaderScopedCache<String, Optional<ClassPathIndex>> INDEXES = new ClassLoaderScopedCache<>();
     private final Class<I> implementedInterface;
     private final ClassLoader classLoader;
     private final Location location;
+    private final Charset encoding;
     private final Set<LoadableResource> resources = new HashSet<>();
+    /**
+     * The checksums of the resources found in a classpath index.
+     */
+    private final Map<Pair<String, String>, Integer> indexedChecksums = new HashMap<>();
+    /**
+     * The URLs of the build-time indexes on the classpath, keyed by the URL of their classpath root. Found lazily.
+     */
+    private Map<String, URL> indexUrls;
     /**
      * Cache location lookups.
      */
@@ -73,6 +95,7 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
         this.implementedInterface = implementedInterface;
         this.classLoader = classLoader;
         this.location = location;
+        this.encoding = encoding;
         this.resourceNameCache = resourceNameCache;
         this.locationScannerCache = locationScannerCache;
         this.throwOnMissingLocations = throwOnMissingLocations;
@@ -81,7 +104,8 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
         for (Pair<String, String> resourceNameAndParentURL : findResourceNamesAndParentURLs()) {
             String resourceName = resourceNameAndParentURL.getLeft();
             String parentURL = resourceNameAndParentURL.getRight();
-            resources.add(new ClassPathResource(location, resourceName, classLoader, encoding, parentURL, stream));
+            resources.add(new ClassPathResource(location, resourceName, classLoader, encoding, parentURL, stream,
+                                                indexedChecksums.get(resourceNameAndParentURL)));
             LOG.debug("Found resource: " + resourceNameAndParentURL.getLeft());
         }
     }
@@ -96,9 +120,13 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
         LOG.debug("Scanning for classes at " + location);
 
         List<Class<? extends I>> classes = new ArrayList<>();
+        ClassFileHierarchy hierarchy = new ClassFileHierarchy(classLoader, implementedInterface);
 
         for (LoadableResource resource : resources) {
             if (resource.getAbsolutePath().endsWith(".class")) {
+                if (!isCandidate(resource, hierarchy)) {
+                    continue;
+                }
                 Class<? extends I> clazz;
                 try {
                     clazz = ClassUtils.loadClass(
@@ -124,6 +152,26 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
         return classes;
     }
 
+    /**
+     * Checks the header of this class file, so that only classes that may implement the interface are loaded. Loading
+     * a class would initialize it and load its dependencies.
+     *
+     * @return {@code false} if the class certainly can't be instantiated as the interface, {@code true} otherwise.
+     */
+    private boolean isCandidate(LoadableResource resource, ClassFileHierarchy hierarchy) {
+        if (!(resource instanceof ClassPathResource)) {
+            return true;
+        }
+        ClassFileHeader header;
+        try (InputStream inputStream = ((ClassPathResource) resource).openStream()) {
+            header = ClassFileHeader.read(inputStream);
+        } catch (IOException | FlywayException e) {
+            LOG.debug("Unable to read class file header of " + resource.getAbsolutePath() + ": " + e.getMessage());
+            return true;
+        }
+        return header.isInstantiable() && !Boolean.FALSE.equals(hierarchy.isSubtype(header));
+    }
+
     /**
      * Converts this resource name to a fully qualified class name.
      *
@@ -151,9 +199,19 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
                 String scanRoot = UrlUtils.toFilePath(resolvedUrl);
                 LOG.warn("Unable to scan location: " + scanRoot + " (unsupported protocol: " + protocol + ")");
             } else {
-                Set<String> names = resourceNameCache.get(classPathLocationScanner, resolvedUrl);
+                ClassPathIndex index = isArchive(protocol) ? findIndex(resolvedUrl) : null;
+                if (index != null && !index.matches(location.getRootPath(), findArchiveResourceNames(classPathLocationScanner, resolvedUrl))) {
+                    LOG.warn("Ignoring the Flyway classpath index of " + resolvedUrl + " as it doesn't match the contents of the archive."
+                                     + " This happens when several indexed modules are merged into a single jar. Scanning the archive instead.");
+                    index = null;
+                }
+                Set<String> names = index != null ? index.getResourceNames(location.getRootPath()) : resourceNameCache.get(classPathLocationScanner, resolvedUrl);
                 if (names == null) {
-                    names = classPathLocationScanner.findResourceNames(location.getRootPath(), resolvedUrl);
+                    if (isArchive(protocol)) {
+                        names = findArchiveResourceNames(classPathLocationScanner, resolvedUrl);
+                    } else {
+                        names = classPathLocationScanner.findResourceNames(location.getRootPath(), resolvedUrl);
+                    }
                     resourceNameCache.put(classPathLocationScanner, resolvedUrl, names);
                 }
                 Set<String> filteredNames = new HashSet<>();
@@ -164,7 +222,12 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
                 }
 
                 for (String filteredName : filteredNames) {
-                    resourceNamesAndParentURLs.add(Pair.of(filteredName, resolvedUrl.getPath()));
+                    Pair<String, String> resourceNameAndParentURL = Pair.of(filteredName, resolvedUrl.getPath());
+                    resourceNamesAndParentURLs.add(resourceNameAndParentURL);
+                    Integer checksum = index == null ? null : index.getChecksum(filteredName, encoding);
+                    if (checksum != null) {
+                        indexedChecksums.put(resourceNameAndParentURL, checksum);
+                    }
                 }
             }
         }
@@ -185,34 +248,14 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
                             && url.getPath().endsWith(".jar")
                             && !url.getPath().matches(".*" + Pattern.quote("/jre/lib/") + ".*")) {
                         // All non-system jars on disk
-                        JarFile jarFile;
-                        try {
-                            try {
-                                jarFile = new JarFile(url.toURI().getSchemeSpecificPart());
-                            } catch (URISyntaxException ex) {
-                                // Fallback for URLs that are not valid URIs (should hardly ever happen).
-                                jarFile = new JarFile(url.getPath().substring("file:".length()));
-                            }
-                        } catch (IOException | SecurityException e) {
-                            LOG.warn("Skipping unloadable jar file: " + url + " (" + e.getMessage() + ")");
-                            continue;
+                        Set<String> entryNames = ARCHIVE_RESOURCE_NAMES.computeIfAbsent(classLoader,
+                            url.toExternalForm() + "|" + UrlUtils.getArchiveVersion(url.getPath()) + "|" + location.getRootPath(),
+                            k -> findJarEntryNames(url));
+                        if (!entryNames.isEmpty()) {
+                            locationResolved = true;
                         }
-
-                        try {
-                            Enumeration<JarEntry> entries = jarFile.entries();
-                            while (entries.hasMoreElements()) {
-                                String entryName = entries.nextElement().getName();
-                                if (entryName.startsWith(location.getRootPath())) {
-                                    locationResolved = true;
-                                    resourceNamesAndParentURLs.add(Pair.of(entryName, url.getPath()));
-                                }
-                            }
-                        } finally {
-                            try {
-                                jarFile.close();
-                            } catch (IOException e) {
-                                // Ignore
-                            }
+                        for (String entryName : entryNames) {
+                            resourceNamesAndParentURLs.add(Pair.of(entryName, url.getPath()));
                         }
                     }
                 }
@@ -232,6 +275,88 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
         return resourceNamesAndParentURLs;
     }
 
+    /**
+     * Lists the resources of the archive at this URL below the root path of the location.
+     */
+    private Set<String> findArchiveResourceNames(ClassPathLocationScanner classPathLocationScanner, URL resolvedUrl) {
+        return ARCHIVE_RESOURCE_NAMES.computeIfAbsent(classLoader,
+            resolvedUrl.toExternalForm() + "|" + UrlUtils.getArchiveVersion(resolvedUrl.getPath()) + "|" + location.getRootPath(),
+            k -> Set.copyOf(classPathLocationScanner.findResourceNames(location.getRootPath(), resolvedUrl)));
+    }
+
+    /**
+     * Finds the build-time index of the classpath root containing the location at this URL. Only Java migrations are
+     * indexed, so the index is ignored when scanning for any other kind of class.
+     *
+     * @return The index, or {@code null} if there is none.
+     */
+    private ClassPathIndex findIndex(URL locationUrl) {
+        if (!JavaMigration.class.equals(implementedInterface)) {
+            return null;
+        }
+        if (indexUrls == null) {
+            indexUrls = ClassPathIndex.findIndexUrls(classLoader);
+        }
+        if (indexUrls.isEmpty()) {
+            return null;
+        }
+
+        String root = locationUrl.toExternalForm();
+        if (root.endsWith("/")) {
+            root = root.substring(0, root.length() - 1);
+        }
+        String rootPath = location.getRootPath();
+        if (rootPath.endsWith("/")) {
+            rootPath = rootPath.substring(0, rootPath.length() - 1);
+        }
+        if (!root.endsWith(rootPath)) {
+            return null;
+        }
+        URL indexUrl = indexUrls.get(root.substring(0, root.length() - rootPath.length()));
+        if (indexUrl == null) {
+            return null;
+        }
+        return INDEXES.computeIfAbsent(classLoader,
+            indexUrl.toExternalForm() + "|" + UrlUtils.getArchiveVersion(indexUrl.getPath()),
+            k -> Optional.ofNullable(ClassPathIndex.read(indexUrl))).orElse(null);
+    }
+
+    /**
+     * Lists the entries of this jar file below the root path of the location.
+     */
+    private Set<String> findJarEntryNames(URL url) {
+        JarFile jarFile;
+        try {
+            try {
+                jarFile = new JarFile(url.toURI().getSchemeSpecificPart());
+            } catch (URISyntaxException ex) {
+                // Fallback for URLs that are not valid URIs (should hardly ever happen).
+                jarFile = new JarFile(url.getPath().substring("file:".length()));
+            }
+        } catch (IOException | SecurityException e) {
+            LOG.warn("Skipping unloadable jar file: " + url + " (" + e.getMessage() + ")");
+            return Collections.emptySet();
+        }
+
+        Set<String> entryNames = new HashSet<>();
+        try {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String entryName = entries.nextElement().getName();
+                if (entryName.startsWith(location.getRootPath())) {
+                    entryNames.add(entryName);
+                }
+            }
+        } finally {
+            try {
+                jarFile.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+        return Set.copyOf(entryNames);
+    }
+
     /**
      * Gets the physical location urls for this logical path on the classpath.
      *
@@ -338,6 +463,10 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
         return null;
     }
 
+    private boolean isArchive(String protocol) {
+        return "jar".equals(protocol) || isTomcat(protocol) || isWebLogic(protocol) || isWebSphere(protocol);
+    }
+
     private boolean isEquinox(String protocol) {
         return "bundleresource".equals(protocol);
     }
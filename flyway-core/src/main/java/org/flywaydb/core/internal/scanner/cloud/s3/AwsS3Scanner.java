@@ -22,22 +22,44 @@ package org.flywaydb.core.internal.scanner.cloud.s3;
 import lombok.CustomLog;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.api.configuration.S3ClientFactory;
 import org.flywaydb.core.api.resource.LoadableResource;
+import org.flywaydb.core.internal.resource.ResourceName;
+import org.flywaydb.core.internal.resource.ResourceNameParser;
 import org.flywaydb.core.internal.resource.s3.AwsS3Resource;
 import org.flywaydb.core.internal.scanner.cloud.CloudScanner;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
-import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
 
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @CustomLog
 public class AwsS3Scanner extends CloudScanner {
+    /**
+     * The maximum number of objects that are downloaded at the same time.
+     */
+    private static final int MAX_PREFETCH_THREADS = 8;
+
     private final boolean throwOnMissingLocations;
+    private final Path cacheDirectory;
+    private final boolean stream;
+    /**
+     * Recognises the names of migrations and callbacks, or {@code null} if nothing is prefetched.
+     */
+    private final ResourceNameParser resourceNameParser;
 
     /**
      * Creates a new AWS S3 scanner.
@@ -48,11 +70,29 @@ public class AwsS3Scanner extends CloudScanner {
     public AwsS3Scanner(Charset encoding, boolean throwOnMissingLocations) {
         super(encoding);
         this.throwOnMissingLocations = throwOnMissingLocations;
+        this.cacheDirectory = null;
+        this.stream = false;
+        this.resourceNameParser = null;
+    }
+
+    /**
+     * Creates a new AWS S3 scanner which prefetches the migrations and callbacks it finds.
+     *
+     * @param stream Whether large objects should be streamed.
+     * @param configuration The configuration providing the encoding, the cache directory and the migration names.
+     */
+    public AwsS3Scanner(boolean stream, Configuration configuration) {
+        super(configuration.getEncoding());
+        this.throwOnMissingLocations = configuration.isFailOnMissingLocations();
+        this.cacheDirectory = configuration.getS3CacheDirectory() == null ? null : Paths.get(configuration.getS3CacheDirectory());
+        this.stream = stream;
+        this.resourceNameParser = new ResourceNameParser(configuration);
     }
 
     /**
      * Scans S3 for the resources. In AWS SDK v2, only the region that the client is configured with can be used.
-     * The format of the path is expected to be {@code s3:{bucketName}/{optional prefix}}.
+     * The format of the path is expected to be {@code s3:{bucketName}/{optional prefix}}. All pages of the listing
+     * are read, and the contents of the migrations and callbacks that were found are downloaded concurrently.
      *
      * @param location The location in S3 to start searching. Subdirectories are also searched.
      * @return The resources that were found.
@@ -62,11 +102,11 @@ public class AwsS3Scanner extends CloudScanner {
         String bucketName = getBucketName(location);
         String prefix = getPrefix(bucketName, location.getPath());
         S3Client s3Client = S3ClientFactory.getClient();
+        List<AwsS3Resource> resources;
         try {
             ListObjectsV2Request.Builder builder = ListObjectsV2Request.builder().bucket(bucketName).prefix(prefix);
             ListObjectsV2Request request = builder.build();
-            ListObjectsV2Response listObjectResult = s3Client.listObjectsV2(request);
-            return getLoadableResources(bucketName, listObjectResult);
+            resources = getLoadableResources(bucketName, s3Client.listObjectsV2Paginator(request));
         } catch (SdkClientException e) {
 
             if (throwOnMissingLocations) {
@@ -76,15 +116,80 @@ public class AwsS3Scanner extends CloudScanner {
             LOG.error("Skipping s3 location:" + bucketName + prefix + " due to error: " + e.getMessage());
             return Collections.emptyList();
         }
+
+        if (resourceNameParser != null) {
+            prefetch(s3Client, resources.stream().filter(this::isMigrationOrCallback).toList());
+        }
+        return new TreeSet<>(resources);
     }
 
-    private Collection<LoadableResource> getLoadableResources(String bucketName, final ListObjectsV2Response listObjectResult) {
-        List<S3Object> objectSummaries = listObjectResult.contents();
-        Set<LoadableResource> resources = new TreeSet<>();
-        for (S3Object objectSummary : objectSummaries) {
+    private List<AwsS3Resource> getLoadableResources(String bucketName, final ListObjectsV2Iterable listObjectResults) {
+        List<AwsS3Resource> resources = new ArrayList<>();
+        for (S3Object objectSummary : listObjectResults.contents()) {
+            if (objectSummary.key().endsWith("/")) {
+                // Folder placeholder without content
+                continue;
+            }
             LOG.debug("Found Amazon S3 resource: " + bucketName.concat("/").concat(objectSummary.key()));
-            resources.add(new AwsS3Resource(bucketName, objectSummary, encoding));
+            resources.add(new AwsS3Resource(bucketName, objectSummary, encoding, cacheDirectory, stream));
         }
         return resources;
     }
+
+    /**
+     * Whether this resource is a SQL migration or callback, or the configuration file of one, and so certain to be read.
+     */
+    private boolean isMigrationOrCallback(AwsS3Resource resource) {
+        String filename = resource.getFilename();
+        if (filename.endsWith(".conf")) {
+            filename = filename.substring(0, filename.length() - ".conf".length());
+        }
+        ResourceName resourceName = resourceNameParser.parse(filename);
+        return resourceName.isValid() && !resourceName.getSuffix().isEmpty();
+    }
+
+    /**
+     * Downloads the contents of these resources, with at most {@link #MAX_PREFETCH_THREADS} requests at the same time.
+     * A resource that fails to download is downloaded again once it is read, so that the failure is reported there.
+     */
+    private void prefetch(S3Client s3Client, List<AwsS3Resource> resources) {
+        int parallelism = Math.min(MAX_PREFETCH_THREADS, resources.size());
+        if (parallelism < 1) {
+            return;
+        }
+
+        Queue<AwsS3Resource> pendingResources = new ConcurrentLinkedQueue<>(resources);
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName("flyway-s3-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < parallelism; i++) {
+                futures.add(executor.submit(() -> {
+                    AwsS3Resource resource;
+                    while ((resource = pendingResources.poll()) != null) {
+                        try {
+                            resource.prefetch(s3Client);
+                        } catch (RuntimeException e) {
+                            LOG.debug("Unable to prefetch Amazon S3 resource " + resource.getAbsolutePath() + ": " + e.getMessage());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            LOG.debug("Unable to prefetch Amazon S3 resources: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while downloading Amazon S3 resources", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
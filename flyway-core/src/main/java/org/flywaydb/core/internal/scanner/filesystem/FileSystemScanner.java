@@ -28,9 +28,20 @@ import org.flywaydb.core.internal.resource.filesystem.FileSystemResource;
 import org.flywaydb.core.internal.sqlscript.SqlScriptMetadata;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -50,6 +61,19 @@ public class FileSystemScanner {
         this.config = config;
     }
 
+    /**
+     * Scans several locations in the FileSystem concurrently.
+     *
+     * @param locations The locations in the filesystem to search.
+     * @return The resources that were found, per location, in the order of the locations.
+     */
+    public List<Collection<LoadableResource>> scanForResources(List<Location> locations) {
+        if (locations.size() < 2) {
+            return locations.stream().map(this::scanForResources).toList();
+        }
+        return locations.parallelStream().map(this::scanForResources).toList();
+    }
+
     /**
      * Scans the FileSystem for resources under the specified location, starting with the specified prefix and ending with
      * the specified suffix.
@@ -74,14 +98,18 @@ public class FileSystemScanner {
             return Collections.emptyList();
         }
 
+        List<String> resourceNames = findResourceNamesFromFileSystem(path, dir.toPath(), true);
+        // Sidecar .conf files are looked up in the listing rather than with an additional stat per resource
+        Set<String> resourceNameSet = new HashSet<>(resourceNames);
+
         Set<LoadableResource> resources = new TreeSet<>();
 
-        for (String resourceName : findResourceNamesFromFileSystem(path, dir)) {
+        for (String resourceName : resourceNames) {
             boolean detectEncodingForThisResource = detectEncoding;
-            if (location.matchesPath(resourceName)) {
+            if (location.matchesPath(resourceName) && Files.isReadable(Paths.get(resourceName))) {
                 Charset encoding = defaultEncoding;
                 String encodingBlurb = "";
-                if (new File(resourceName + ".conf").exists()) {
+                if (resourceNameSet.contains(resourceName + ".conf")) {
                     LoadableResource metadataResource = new FileSystemResource(location, resourceName + ".conf", defaultEncoding, false);
                     SqlScriptMetadata metadata = SqlScriptMetadata.fromResource(metadataResource, null, config);
                     if (metadata.encoding() != null) {
@@ -112,38 +140,68 @@ public class FileSystemScanner {
         return DirectoryValidationResult.VALID;
     }
 
-    private Set<String> findResourceNamesFromFileSystem(String scanRootLocation, File folder) {
-        String path = folder.getPath();
-        LOG.debug("Scanning for resources in path: " + folder.getPath() + " (" + scanRootLocation + ")");
-
-        Set<String> resourceNames = new TreeSet<>();
-
-        File[] files = folder.listFiles();
-
-        if (files == null) {
-            if (throwOnMissingLocations) {
-                throw new FlywayException("Failed to find filesystem location: " + path + " (" + DirectoryValidationResult.UNABLE_TO_ACCESS_FOLDER + ")");
-            }
-
-            LOG.error("Skipping filesystem location: " + path + " (" + DirectoryValidationResult.UNABLE_TO_ACCESS_FOLDER + ")");
-            return Collections.emptySet();
-        }
-
-        for (File file : files) {
-            if (file.canRead()) {
-                if (file.isDirectory()) {
-                    if (file.isHidden()) {
+    /**
+     * Lists all files below this folder. The attributes of each entry are read only once, and subfolders are scanned
+     * in parallel. The names are returned in no particular order.
+     */
+    private List<String> findResourceNamesFromFileSystem(String scanRootLocation, Path folder, boolean root) {
+        LOG.debug("Scanning for resources in path: " + folder + " (" + scanRootLocation + ")");
+
+        List<String> resourceNames = new ArrayList<>();
+        List<Path> subfolders = new ArrayList<>();
+
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(folder)) {
+            for (Path entry : entries) {
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+                    if (attributes.isDirectory() && Files.isHidden(entry)) {
                         // #1807: Skip hidden directories to avoid issues with Kubernetes
-                        LOG.debug("Skipping hidden directory: " + file.getAbsolutePath());
-                    } else {
-                        resourceNames.addAll(findResourceNamesFromFileSystem(scanRootLocation, file));
+                        LOG.debug("Skipping hidden directory: " + entry.toAbsolutePath());
+                        continue;
                     }
+                } catch (IOException e) {
+                    // Broken symbolic links and entries we may not access are skipped, as they can't be read anyway
+                    LOG.debug("Skipping unreadable path: " + entry.toAbsolutePath() + " (" + e.getMessage() + ")");
+                    continue;
+                }
+
+                if (attributes.isDirectory()) {
+                    subfolders.add(entry);
                 } else {
-                    resourceNames.add(file.getPath());
+                    resourceNames.add(entry.toString());
                 }
             }
+        } catch (AccessDeniedException e) {
+            if (root) {
+                return handleInaccessibleFolder(folder);
+            }
+            LOG.debug("Skipping unreadable directory: " + folder.toAbsolutePath());
+            return Collections.emptyList();
+        } catch (IOException | DirectoryIteratorException e) {
+            return handleInaccessibleFolder(folder);
+        }
+
+        if (subfolders.size() > 1) {
+            subfolders.parallelStream()
+                      .map(subfolder -> findResourceNamesFromFileSystem(scanRootLocation, subfolder, false))
+                      .toList()
+                      .forEach(resourceNames::addAll);
+        } else {
+            for (Path subfolder : subfolders) {
+                resourceNames.addAll(findResourceNamesFromFileSystem(scanRootLocation, subfolder, false));
+            }
         }
 
         return resourceNames;
     }
+
+    private List<String> handleInaccessibleFolder(Path folder) {
+        if (throwOnMissingLocations) {
+            throw new FlywayException("Failed to find filesystem location: " + folder + " (" + DirectoryValidationResult.UNABLE_TO_ACCESS_FOLDER + ")");
+        }
+
+        LOG.error("Skipping filesystem location: " + folder + " (" + DirectoryValidationResult.UNABLE_TO_ACCESS_FOLDER + ")");
+        return Collections.emptyList();
+    }
 }
@@ -39,7 +39,6 @@ import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
 import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
 
-import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Timestamp;
@@ -69,9 +68,19 @@ class JdbcTableSchemaHistory extends SchemaHistory {
     private final JdbcTemplate jdbcTemplate;
 
     /**
-     * Applied migration cache.
+     * Applied migration cache. Rows are only ever appended in installed rank order, or the cache is cleared.
      */
-    private final LinkedList<AppliedMigration> cache = new LinkedList<>();
+    private final ArrayList<AppliedMigration> cache = new ArrayList<>();
+
+    /**
+     * Read-only view of the cache handed out to callers.
+     */
+    private final List<AppliedMigration> cacheView = Collections.unmodifiableList(cache);
+
+    /**
+     * The applied migration factory to use for each migration type found in the schema history table.
+     */
+    private final Map<String, AppliedMigration> appliedMigrationFactories = new HashMap<>();
 
     private final Configuration configuration;
 
@@ -149,6 +158,11 @@ class JdbcTableSchemaHistory extends SchemaHistory {
         return connection.lock(table, callable);
     }
 
+    @Override
+    public long getLockWaitTime() {
+        return connection.getLockWaitTime();
+    }
+
     @Override
     protected void doAddAppliedMigration(int installedRank, MigrationVersion version, String description,
                                          MigrationType type, String script, Integer checksum,
@@ -196,63 +210,103 @@ class JdbcTableSchemaHistory extends SchemaHistory {
         }
 
         refreshCache();
-        return cache;
+        return cacheView;
     }
 
     private void refreshCache() {
-        int maxCachedInstalledRank = cache.isEmpty() ? -1 : cache.getLast().getInstalledRank();
+        int maxCachedInstalledRank = cache.isEmpty() ? -1 : cache.get(cache.size() - 1).getInstalledRank();
         String query = database.getSelectStatement(table);
 
+        // All rows come from the same result set, so its column ordinals only need to be resolved once
+        ColumnOrdinals[] columnOrdinals = new ColumnOrdinals[1];
         try {
             cache.addAll(jdbcTemplate.query(query, rs -> {
-                // Construct a map of lower-cased column names to ordinals. This is useful for databases that
-                // upper-case them - e.g. Snowflake with QUOTED-IDENTIFIERS-IGNORE-CASE turned on
-                HashMap<String, Integer> columnOrdinalMap = constructColumnOrdinalMap(rs);
+                if (columnOrdinals[0] == null) {
+                    columnOrdinals[0] = new ColumnOrdinals(rs.getMetaData());
+                }
+                ColumnOrdinals ordinals = columnOrdinals[0];
 
                 Integer checksum = null;
                 try {
-                    checksum = rs.getInt(columnOrdinalMap.get("checksum"));
+                    checksum = rs.getInt(ordinals.checksum);
                 } catch (NumberFormatException ignore) {
                 }
                 if (rs.wasNull()) {
                     checksum = null;
                 }
 
-                int installedRank = rs.getInt(columnOrdinalMap.get("installed_rank"));
-                MigrationVersion version = rs.getString(columnOrdinalMap.get("version")) != null ? MigrationVersion.fromVersion(rs.getString(columnOrdinalMap.get("version"))) : null;
-                String description = rs.getString(columnOrdinalMap.get("description"));
-                String type = rs.getString(columnOrdinalMap.get("type"));
-                String script = rs.getString(columnOrdinalMap.get("script"));
-                String installedBy = rs.getString(columnOrdinalMap.get("installed_by"));
-                int executionTime = rs.getInt(columnOrdinalMap.get("execution_time"));
-                boolean success = rs.getBoolean(columnOrdinalMap.get("success"));
-                Timestamp installedOn = rs.getTimestamp(columnOrdinalMap.get("installed_on"));
+                int installedRank = rs.getInt(ordinals.installedRank);
+                String versionStr = rs.getString(ordinals.version);
+                MigrationVersion version = versionStr != null ? MigrationVersion.fromVersion(versionStr) : null;
+                String description = rs.getString(ordinals.description);
+                String type = rs.getString(ordinals.type);
+                String script = rs.getString(ordinals.script);
+                String installedBy = rs.getString(ordinals.installedBy);
+                int executionTime = rs.getInt(ordinals.executionTime);
+                boolean success = rs.getBoolean(ordinals.success);
+                Timestamp installedOn = rs.getTimestamp(ordinals.installedOn);
                 if (installedOn == null) {
-                    installedOn = Timestamp.valueOf(rs.getString(columnOrdinalMap.get("installed_on")));
+                    installedOn = Timestamp.valueOf(rs.getString(ordinals.installedOn));
                 }
 
-                return configuration.getPluginRegister().getPlugins(AppliedMigration.class).stream()
-                                    .filter(am -> am.handlesType(type))
-                                    .findFirst()
-                                    .orElse(new BaseAppliedMigration())
-                                    .create(installedRank, version, description, type, script, checksum, installedOn, installedBy, executionTime, success);
+                return getAppliedMigrationFactory(type)
+                        .create(installedRank, version, description, type, script, checksum, installedOn, installedBy, executionTime, success);
             }, maxCachedInstalledRank));
         } catch (SQLException e) {
             throw new FlywaySqlException("Error while retrieving the list of applied migrations from Schema History table " + table, e);
         }
     }
 
-    private HashMap<String, Integer> constructColumnOrdinalMap(ResultSet rs) throws SQLException {
-        HashMap<String, Integer> columnOrdinalMap = new HashMap<>();
-        ResultSetMetaData metadata = rs.getMetaData();
+    private AppliedMigration getAppliedMigrationFactory(String type) {
+        return appliedMigrationFactories.computeIfAbsent(type, t -> configuration.getPluginRegister().getPlugins(AppliedMigration.class).stream()
+                                                                                 .filter(am -> am.handlesType(t))
+                                                                                 .findFirst()
+                                                                                 .orElse(new BaseAppliedMigration()));
+    }
+
+    /**
+     * The ordinals of the columns of the schema history table in a result set.
+     */
+    private static class ColumnOrdinals {
+        private final int installedRank;
+        private final int version;
+        private final int description;
+        private final int type;
+        private final int script;
+        private final int checksum;
+        private final int installedBy;
+        private final int installedOn;
+        private final int executionTime;
+        private final int success;
+
+        private ColumnOrdinals(ResultSetMetaData metadata) throws SQLException {
+            // Construct a map of lower-cased column names to ordinals. This is useful for databases that
+            // upper-case them - e.g. Snowflake with QUOTED-IDENTIFIERS-IGNORE-CASE turned on
+            HashMap<String, Integer> columnOrdinalMap = new HashMap<>();
+            for (int i = 1; i <= metadata.getColumnCount(); i++) {
+                // Careful - column ordinals in JDBC start at 1
+                columnOrdinalMap.put(metadata.getColumnName(i).toLowerCase(), i);
+            }
 
-        for (int i = 1; i <= metadata.getColumnCount(); i++) {
-            // Careful - column ordinals in JDBC start at 1
-            String columnNameLower = metadata.getColumnName(i).toLowerCase();
-            columnOrdinalMap.put(columnNameLower, i);
+            installedRank = getOrdinal(columnOrdinalMap, "installed_rank");
+            version = getOrdinal(columnOrdinalMap, "version");
+            description = getOrdinal(columnOrdinalMap, "description");
+            type = getOrdinal(columnOrdinalMap, "type");
+            script = getOrdinal(columnOrdinalMap, "script");
+            checksum = getOrdinal(columnOrdinalMap, "checksum");
+            installedBy = getOrdinal(columnOrdinalMap, "installed_by");
+            installedOn = getOrdinal(columnOrdinalMap, "installed_on");
+            executionTime = getOrdinal(columnOrdinalMap, "execution_time");
+            success = getOrdinal(columnOrdinalMap, "success");
         }
 
-        return columnOrdinalMap;
+        private static int getOrdinal(Map<String, Integer> columnOrdinalMap, String column) throws SQLException {
+            Integer ordinal = columnOrdinalMap.get(column);
+            if (ordinal == null) {
+                throw new SQLException("Column " + column + " not found in Schema History table");
+            }
+            return ordinal;
+        }
     }
 
     @Override
@@ -172,6 +172,13 @@ public abstract class SchemaHistory {
      */
     public abstract void delete(AppliedMigration appliedMigration);
 
+    /**
+     * @return The total time spent waiting for the lock on the schema history table, in milliseconds.
+     */
+    public long getLockWaitTime() {
+        return 0;
+    }
+
     /**
      * Clears the applied migration cache.
      */
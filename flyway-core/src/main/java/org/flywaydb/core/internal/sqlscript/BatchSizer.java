@@ -0,0 +1,114 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.sqlscript;
+
+import lombok.CustomLog;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.configuration.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides how many statements go into a single JDBC batch.
+ * <p>By default the configured {@code batchSize} is used as is. In adaptive mode it is only the starting point: the
+ * batch doubles while round trips stay well below {@link #TARGET_ROUND_TRIP_NANOS} and is halved as soon as a round trip
+ * takes much longer, bounded by {@link #MAX_ADAPTIVE_BATCH_SIZE} statements and {@link #MAX_ADAPTIVE_BATCH_PAYLOAD}
+ * characters of SQL so that drivers with packet or message size limits (such as MySQL's {@code max_allowed_packet})
+ * are not overrun.</p>
+ */
+@CustomLog
+public class BatchSizer {
+    /**
+     * The largest batch the adaptive mode grows to, unless a larger {@code batchSize} was configured explicitly.
+     */
+    static final int MAX_ADAPTIVE_BATCH_SIZE = 10000;
+
+    /**
+     * The maximum number of characters of SQL the adaptive mode puts in a single batch.
+     */
+    static final long MAX_ADAPTIVE_BATCH_PAYLOAD = 4L * 1024 * 1024;
+
+    /**
+     * The round-trip time the adaptive mode aims for. Longer batches hold locks and memory on both sides for longer
+     * without saving a meaningful share of the network overhead.
+     */
+    static final long TARGET_ROUND_TRIP_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final boolean adaptive;
+    private final int maxBatchSize;
+    private int batchSize;
+
+    public BatchSizer(int batchSize, boolean adaptive) {
+        if (batchSize < 1) {
+            throw new FlywayException("Invalid batch size: " + batchSize + ". The batch size must be at least 1.");
+        }
+        this.batchSize = batchSize;
+        this.adaptive = adaptive;
+        this.maxBatchSize = Math.max(batchSize, MAX_ADAPTIVE_BATCH_SIZE);
+    }
+
+    public static BatchSizer forConfiguration(Configuration configuration) {
+        return new BatchSizer(configuration.getBatchSize(), configuration.isAdaptiveBatchSize());
+    }
+
+    /**
+     * @return The number of statements after which the current batch should be sent.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param statementCount The number of statements in the current batch.
+     * @param payloadLength The total length of the SQL in the current batch.
+     * @return Whether the current batch should be sent now.
+     */
+    public boolean isFull(int statementCount, long payloadLength) {
+        return statementCount >= batchSize || (adaptive && payloadLength >= MAX_ADAPTIVE_BATCH_PAYLOAD);
+    }
+
+    /**
+     * Records a successful round trip and adjusts the batch size for the next one in adaptive mode.
+     *
+     * @param statementCount The number of statements that were sent.
+     * @param payloadLength The total length of the SQL that was sent.
+     * @param elapsedNanos How long the round trip took.
+     */
+    public void recordRoundTrip(int statementCount, long payloadLength, long elapsedNanos) {
+        if (!adaptive || statementCount == 0) {
+            return;
+        }
+
+        int newBatchSize = batchSize;
+        if (elapsedNanos > 2 * TARGET_ROUND_TRIP_NANOS) {
+            newBatchSize = Math.max(1, statementCount / 2);
+        } else if (statementCount >= batchSize && elapsedNanos < TARGET_ROUND_TRIP_NANOS / 2) {
+            long averageStatementLength = Math.max(1, payloadLength / statementCount);
+            long fittingStatements = Math.max(1, MAX_ADAPTIVE_BATCH_PAYLOAD / averageStatementLength);
+            newBatchSize = (int) Math.min(Math.min((long) batchSize * 2, maxBatchSize), fittingStatements);
+        }
+
+        if (newBatchSize != batchSize) {
+            LOG.debug("Adjusting batch size from " + batchSize + " to " + newBatchSize + " statements (last round trip: "
+                              + statementCount + " statements in " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms)");
+            batchSize = newBatchSize;
+        }
+    }
+}
@@ -60,11 +60,6 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
 
 
-    /**
-     * The maximum number of statements to include in a batch.
-     */
-    private static final int MAX_BATCH_SIZE = 100;
-
     /**
      * Whether to batch SQL statements.
      */
@@ -100,9 +95,11 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
 
 
+        BatchSizer batchSizer = batch ? BatchSizer.forConfiguration(config) : null;
         List<SqlStatement> batchStatements = new ArrayList<>();
+        long batchPayloadLength = 0;
 
-        try (SqlStatementIterator sqlStatementIterator = sqlScript.getSqlStatements()) {
+        try (SqlStatementIterator sqlStatementIterator = getSqlStatements(sqlScript, config)) {
             SqlStatement sqlStatement;
             while ((sqlStatement = sqlStatementIterator.next()) != null) {
 
@@ -122,14 +119,17 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
                     if (sqlStatement.isBatchable()) {
                         logStatementExecution(sqlStatement);
                         batchStatements.add(sqlStatement);
-                        if (batchStatements.size() >= MAX_BATCH_SIZE) {
-                            results.add(executeBatch(jdbcTemplate, sqlScript, batchStatements, config));
+                        batchPayloadLength += sqlStatement.getSql().length();
+                        if (batchSizer.isFull(batchStatements.size(), batchPayloadLength)) {
+                            results.add(executeBatch(jdbcTemplate, sqlScript, batchStatements, batchSizer, config));
                             batchStatements = new ArrayList<>();
+                            batchPayloadLength = 0;
                         }
                     } else {
                         // Execute the batch up to this point
-                        results.add(executeBatch(jdbcTemplate, sqlScript, batchStatements, config));
+                        results.add(executeBatch(jdbcTemplate, sqlScript, batchStatements, batchSizer, config));
                         batchStatements = new ArrayList<>();
+                        batchPayloadLength = 0;
                         // Now execute this non-batchable statement. We'll resume batching after this one.
                         results.add(executeStatement(jdbcTemplate, sqlScript, sqlStatement, config));
                     }
@@ -141,11 +141,18 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
         if (batch) {
             // Execute any remaining batch statements that haven't yet been sent to the database
-            results.add(executeBatch(jdbcTemplate, sqlScript, batchStatements, config));
+            results.add(executeBatch(jdbcTemplate, sqlScript, batchStatements, batchSizer, config));
         }
         return results;
     }
 
+    /**
+     * @return The statements of this script to execute. Database-specific executors can override this to rewrite them.
+     */
+    protected SqlStatementIterator getSqlStatements(SqlScript sqlScript, Configuration config) {
+        return sqlScript.getSqlStatements();
+    }
+
     protected void logStatementExecution(SqlStatement sqlStatement) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Executing "
@@ -154,13 +161,16 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
         }
     }
 
-    private Results executeBatch(JdbcTemplate jdbcTemplate, SqlScript sqlScript, List<SqlStatement> batchStatements, Configuration config) {
+    private Results executeBatch(JdbcTemplate jdbcTemplate, SqlScript sqlScript, List<SqlStatement> batchStatements, BatchSizer batchSizer, Configuration config) {
         if (batchStatements.isEmpty()) {
             return null;
         }
 
-        LOG.debug("Sending batch of " + batchStatements.size() + " statements to database ...");
-        List<String> sqlBatch = new ArrayList<>();
+        // Statements skipped by a callback are not sent, so keep track of the ones that are to map the update counts
+        // the driver returns back to the statements they belong to.
+        List<SqlStatement> sentStatements = new ArrayList<>(batchStatements.size());
+        List<String> sqlBatch = new ArrayList<>(batchStatements.size());
+        long payloadLength = 0;
         for (SqlStatement sqlStatement : batchStatements) {
             try {
                 handleEachMigrateOrUndoStatementCallback(Event.BEFORE_EACH_UNDO_STATEMENT, Event.BEFORE_EACH_MIGRATE_STATEMENT, sqlStatement.getSql() + sqlStatement.getDelimiter(), null, null);
@@ -168,20 +178,27 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
                 LOG.debug("Statement on line " + sqlStatement.getLineNumber() + " + skipped due to " + e.getMessage());
                 continue;
             }
+            sentStatements.add(sqlStatement);
             sqlBatch.add(sqlStatement.getSql());
+            payloadLength += sqlStatement.getSql().length();
+        }
+        if (sqlBatch.isEmpty()) {
+            return null;
         }
 
+        LOG.debug("Sending batch of " + sqlBatch.size() + " statements to database ...");
+        long start = System.nanoTime();
         Results results = jdbcTemplate.executeBatch(sqlBatch, config);
 
         if (results.getException() != null) {
-            handleException(results, sqlScript, batchStatements.get(0), config);
+            handleException(results, sqlScript, getFailedStatement(results, sentStatements), config);
 
-            for (int i = 0; i < results.getResults().size(); i++) {
-                SqlStatement sqlStatement = batchStatements.get(i);
+            for (int i = 0; i < results.getResults().size() && i < sentStatements.size(); i++) {
+                SqlStatement sqlStatement = sentStatements.get(i);
                 long updateCount = results.getResults().get(i).updateCount();
                 if (updateCount == Statement.EXECUTE_FAILED) {
                     handleEachMigrateOrUndoStatementCallback(Event.AFTER_EACH_UNDO_STATEMENT_ERROR, Event.AFTER_EACH_MIGRATE_STATEMENT_ERROR, sqlStatement.getSql() + sqlStatement.getDelimiter(), results.getWarnings(), results.getErrors());
-                    handleException(results, sqlScript, batchStatements.get(i), config);
+                    handleException(results, sqlScript, sqlStatement, config);
                 } else if (updateCount != Statement.SUCCESS_NO_INFO) {
                     handleEachMigrateOrUndoStatementCallback(Event.AFTER_EACH_UNDO_STATEMENT, Event.AFTER_EACH_MIGRATE_STATEMENT, sqlStatement.getSql() + sqlStatement.getDelimiter(), results.getWarnings(), results.getErrors());
                     handleUpdateCount(updateCount);
@@ -190,14 +207,30 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
             return results;
         }
 
-        for (int i = 0; i < results.getResults().size(); i++) {
-            SqlStatement sqlStatement = batchStatements.get(i);
+        batchSizer.recordRoundTrip(sqlBatch.size(), payloadLength, System.nanoTime() - start);
+
+        for (int i = 0; i < results.getResults().size() && i < sentStatements.size(); i++) {
+            SqlStatement sqlStatement = sentStatements.get(i);
             handleEachMigrateOrUndoStatementCallback(Event.AFTER_EACH_UNDO_STATEMENT, Event.AFTER_EACH_MIGRATE_STATEMENT, sqlStatement.getSql() + sqlStatement.getDelimiter(), results.getWarnings(), results.getErrors());
         }
         handleResults(results);
         return results;
     }
 
+    /**
+     * Determines which statement of a batch failed. Drivers either report {@link Statement#EXECUTE_FAILED} for it or
+     * stop processing the batch at it, in which case only the update counts of the statements before it are returned.
+     */
+    private static SqlStatement getFailedStatement(Results results, List<SqlStatement> sentStatements) {
+        List<Result> batchResults = results.getResults();
+        for (int i = 0; i < batchResults.size() && i < sentStatements.size(); i++) {
+            if (batchResults.get(i).updateCount() == Statement.EXECUTE_FAILED) {
+                return sentStatements.get(i);
+            }
+        }
+        return sentStatements.get(Math.min(batchResults.size(), sentStatements.size() - 1));
+    }
+
     protected Results executeStatement(JdbcTemplate jdbcTemplate, SqlScript sqlScript, SqlStatement sqlStatement, Configuration config) {
         logStatementExecution(sqlStatement);
         String sql = sqlStatement.getSql() + sqlStatement.getDelimiter();
@@ -260,7 +293,7 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
     }
 
-    private void printWarnings(Results results) {
+    protected void printWarnings(Results results) {
         for (Warning warning : results.getWarnings()) {
 
 
@@ -277,7 +310,7 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
         }
     }
 
-    private void handleEachMigrateOrUndoStatementCallback(Event eventUndo, Event eventMigrate, String sql, List<Warning> warnings, List<Error> errors) {
+    protected void handleEachMigrateOrUndoStatementCallback(Event eventUndo, Event eventMigrate, String sql, List<Warning> warnings, List<Error> errors) {
 
 
 
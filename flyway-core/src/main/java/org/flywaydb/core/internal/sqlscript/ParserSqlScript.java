@@ -23,6 +23,7 @@ import lombok.CustomLog;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.resource.LoadableResource;
 import org.flywaydb.core.internal.parser.Parser;
+import org.flywaydb.core.internal.resolver.MigrationMetadataCache;
 
 import java.util.*;
 
@@ -45,7 +46,11 @@ public class ParserSqlScript implements SqlScript {
      */
     protected final LoadableResource resource;
 
-    private final SqlScriptMetadata metadata;
+    private final LoadableResource metadataResource;
+    /**
+     * The script configuration, loaded on first use so that it can come from the cache entry if there is one.
+     */
+    private SqlScriptMetadata metadata;
     protected final Parser parser;
     private final boolean mixed;
     private boolean parsed;
@@ -53,6 +58,11 @@ public class ParserSqlScript implements SqlScript {
     private final boolean stream;
     private final Set<SqlScript> referencedSqlScripts = new TreeSet<>();
 
+    /**
+     * The cached results of parsing this script in a previous run, if any.
+     */
+    private MigrationMetadataCache.Entry cacheEntry;
+
     /**
      * Creates a new sql script from this source.
      *
@@ -62,13 +72,21 @@ public class ParserSqlScript implements SqlScript {
      */
     public ParserSqlScript(Parser parser, LoadableResource resource, LoadableResource metadataResource, boolean mixed) {
         this.resource = resource;
-        this.metadata = SqlScriptMetadata.fromResource(metadataResource, parser, parser.configuration);
+        this.metadataResource = metadataResource;
         this.parser = parser;
         this.stream = resource.shouldStream();
         this.mixed = mixed;
     }
 
+    private SqlScriptMetadata getMetadata() {
+        if (metadata == null) {
+            metadata = SqlScriptMetadata.fromResource(metadataResource, parser, parser.configuration, cacheEntry);
+        }
+        return metadata;
+    }
+
     protected void parse() {
+        SqlScriptMetadata metadata = getMetadata();
         try (SqlStatementIterator sqlStatementIterator = parser.parse(resource, metadata)) {
             boolean transactionalStatementFound = false;
             SqlStatement sqlStatement;
@@ -108,6 +126,27 @@ public class ParserSqlScript implements SqlScript {
             }
         }
         parsed = true;
+
+        if (cacheEntry != null) {
+            cacheEntry.recordParseResult(sqlStatementCount, nonTransactionalStatementFound);
+        }
+    }
+
+    /**
+     * Uses this cache entry to avoid parsing this script merely to count its statements or to find out whether it can
+     * be executed in a transaction, and to avoid loading its script configuration file if that hasn't happened yet.
+     * The entry is updated whenever either does get parsed.
+     */
+    public void setCacheEntry(MigrationMetadataCache.Entry cacheEntry) {
+        if (parser.supportsReferencedSqlScripts()) {
+            // Referenced scripts can only be discovered by parsing
+            return;
+        }
+        this.cacheEntry = cacheEntry;
+    }
+
+    private boolean isCachedParseResultAvailable() {
+        return !parsed && cacheEntry != null && cacheEntry.hasParseResult();
     }
 
     @Override
@@ -117,12 +156,33 @@ public class ParserSqlScript implements SqlScript {
         }
     }
 
+    /**
+     * Whether the statements can be parsed while they are being executed. This requires that nothing else needs the
+     * script to be parsed in full first: whether it can be executed in a transaction must be known without parsing it,
+     * and it must not be able to reference other scripts.
+     */
+    private boolean canPipelineParsing() {
+        if (!parser.configuration.isPipelineParsing() || parser.supportsReferencedSqlScripts()) {
+            return false;
+        }
+        if (parsed) {
+            // Unless streaming, the statements are already in memory
+            return stream;
+        }
+        return isCachedParseResultAvailable() || getMetadata().executeInTransaction() != null || !parser.configuration.isExecuteInTransaction();
+    }
+
     @Override
     public SqlStatementIterator getSqlStatements() {
+        if (canPipelineParsing()) {
+            // Opening the parser here captures the filename and other placeholders before parsing moves to the background
+            return PipelinedSqlStatementIterator.pipeline(parser.parse(resource, getMetadata()));
+        }
+
         validate();
 
         if (stream) {
-            return parser.parse(resource, metadata);
+            return parser.parse(resource, getMetadata());
         }
 
         final Iterator<SqlStatement> iterator = sqlStatements.iterator();
@@ -150,6 +210,10 @@ public class ParserSqlScript implements SqlScript {
 
     @Override
     public int getSqlStatementCount() {
+        if (isCachedParseResultAvailable()) {
+            return cacheEntry.getSqlStatementCount();
+        }
+
         validate();
 
         return sqlStatementCount;
@@ -172,12 +236,16 @@ public class ParserSqlScript implements SqlScript {
 
     @Override
     public boolean executeInTransaction() {
-        Boolean executeInTransactionOverride = metadata.executeInTransaction();
+        Boolean executeInTransactionOverride = getMetadata().executeInTransaction();
         if (executeInTransactionOverride != null) {
             LOG.debug("Using executeInTransaction=" + executeInTransactionOverride + " from script configuration");
             return executeInTransactionOverride;
         }
 
+        if (isCachedParseResultAvailable()) {
+            return !cacheEntry.getNonTransactionalStatementFound() && parser.configuration.isExecuteInTransaction();
+        }
+
         validate();
 
         return !nonTransactionalStatementFound && parser.configuration.isExecuteInTransaction();
@@ -185,17 +253,17 @@ public class ParserSqlScript implements SqlScript {
 
     @Override
     public boolean shouldExecute() {
-        return metadata.shouldExecute();
+        return getMetadata().shouldExecute();
     }
 
     @Override
     public String shouldExecuteExpression() {
-        return metadata.shouldExecuteExpression();
+        return getMetadata().shouldExecuteExpression();
     }
 
     @Override
     public boolean placeholderReplacement() {
-        Boolean placeholderReplacementOverride = metadata.placeholderReplacement();
+        Boolean placeholderReplacementOverride = getMetadata().placeholderReplacement();
         if (placeholderReplacementOverride != null) {
             LOG.debug("Using placeholderReplacement=" + placeholderReplacementOverride + " from script configuration");
             return placeholderReplacementOverride;
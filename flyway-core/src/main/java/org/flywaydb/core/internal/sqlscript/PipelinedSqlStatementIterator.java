@@ -0,0 +1,156 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.sqlscript;
+
+import org.flywaydb.core.api.FlywayException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Iterates over statements that are parsed on a background thread, ahead of the consumer, so that parsing overlaps
+ * with executing the statements already returned. At most {@link #CAPACITY} statements are parsed ahead, which caps
+ * the memory used by large scripts. Parsing errors are rethrown to the consumer once it reaches them.
+ * <p>
+ * The parsers run on a pool shared by all scripts in this JVM. When all of its threads are busy, the script is simply
+ * parsed on the consumer's thread instead.
+ */
+public class PipelinedSqlStatementIterator implements SqlStatementIterator {
+    /**
+     * The maximum number of statements parsed ahead of the consumer.
+     */
+    static final int CAPACITY = 256;
+
+    private static final Object END = new Object();
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ThreadPoolExecutor PRODUCERS = new ThreadPoolExecutor(
+            0, Math.max(2, Runtime.getRuntime().availableProcessors()), 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "flyway-parser-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private volatile boolean closed;
+
+    /**
+     * The element taken from the queue but not returned yet, or {@code null} if there is none.
+     */
+    private Object next;
+
+    private PipelinedSqlStatementIterator() {
+    }
+
+    /**
+     * Iterates over these statements ahead of the consumer.
+     *
+     * @param source The iterator doing the actual parsing. It must have been opened on the calling thread, so that
+     *               anything it takes from the shared parsing context, such as the placeholders, is captured before
+     *               parsing moves to the background. From here on it is iterated and closed on the background thread.
+     * @return The pipelined iterator, or the source itself if no background thread is available.
+     */
+    public static SqlStatementIterator pipeline(SqlStatementIterator source) {
+        PipelinedSqlStatementIterator pipelined = new PipelinedSqlStatementIterator();
+        try {
+            PRODUCERS.execute(() -> pipelined.produce(source));
+        } catch (RejectedExecutionException e) {
+            return source;
+        }
+        return pipelined;
+    }
+
+    private void produce(SqlStatementIterator source) {
+        Object last = END;
+        try (SqlStatementIterator sqlStatementIterator = source) {
+            SqlStatement sqlStatement;
+            while (!closed && (sqlStatement = sqlStatementIterator.next()) != null) {
+                if (!offer(sqlStatement)) {
+                    return;
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            last = e;
+        }
+        offer(last);
+    }
+
+    /**
+     * Waits for space in the queue, giving up once the consumer is gone.
+     */
+    private boolean offer(Object element) {
+        try {
+            while (!closed) {
+                if (queue.offer(element, 100, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private Object peek() {
+        if (next == null) {
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FlywayException("Interrupted while waiting for the next SQL statement to be parsed", e);
+            }
+            if (next instanceof Throwable) {
+                Throwable t = (Throwable) next;
+                next = END;
+                if (t instanceof Error) {
+                    throw (Error) t;
+                }
+                throw (RuntimeException) t;
+            }
+        }
+        return next;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return peek() != END;
+    }
+
+    @Override
+    public SqlStatement next() {
+        Object element = peek();
+        if (element == END) {
+            return null;
+        }
+        next = null;
+        return (SqlStatement) element;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        queue.clear();
+    }
+}
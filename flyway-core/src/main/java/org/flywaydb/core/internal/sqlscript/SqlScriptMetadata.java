@@ -29,6 +29,7 @@ import org.flywaydb.core.internal.configuration.ConfigUtils;
 import org.flywaydb.core.internal.license.FlywayEditionUpgradeRequiredException;
 import org.flywaydb.core.internal.parser.Parser;
 import org.flywaydb.core.internal.parser.PlaceholderReplacingReader;
+import org.flywaydb.core.internal.resolver.MigrationMetadataCache;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -102,7 +103,24 @@ public class SqlScriptMetadata {
     }
 
     public static SqlScriptMetadata fromResource(LoadableResource resource, Parser parser, Configuration config) {
+        return fromResource(resource, parser, config, null);
+    }
+
+    /**
+     * Loads the script configuration from this resource, or from this cache entry if it was loaded before.
+     *
+     * @param cacheEntry The cache entry of the migration this configuration belongs to, or {@code null} if there is
+     *                   none. Configurations which contain placeholders or environment variables are never cached, as
+     *                   their values may differ between runs.
+     */
+    public static SqlScriptMetadata fromResource(LoadableResource resource, Parser parser, Configuration config,
+                                                 MigrationMetadataCache.Entry cacheEntry) {
         if (resource != null) {
+            if (parser != null && cacheEntry != null && cacheEntry.getScriptMetadata() != null) {
+                LOG.debug("Using cached script configuration: " + resource.getFilename());
+                return new SqlScriptMetadata(cacheEntry.getScriptMetadata(), cacheEntry.getScriptMetadata(), parser.configuration);
+            }
+
             LOG.debug("Found script configuration: " + resource.getFilename());
             var unmappedMetadata = ConfigUtils.loadConfigurationFromReader(resource.read(), true);
             if (parser == null) {
@@ -111,7 +129,11 @@ public class SqlScriptMetadata {
 
             var mappedMetadata = ConfigUtils.loadConfigurationFromReader(
                 PlaceholderReplacingReader.create(parser.configuration, parser.parsingContext, resource.read()));
-            return new SqlScriptMetadata(mappedMetadata, unmappedMetadata, parser.configuration);
+            SqlScriptMetadata metadata = new SqlScriptMetadata(mappedMetadata, unmappedMetadata, parser.configuration);
+            if (cacheEntry != null && mappedMetadata.equals(unmappedMetadata)) {
+                cacheEntry.recordScriptMetadata(unmappedMetadata);
+            }
+            return metadata;
         }
         return new SqlScriptMetadata(new HashMap<>(), new HashMap<>(), config);
     }
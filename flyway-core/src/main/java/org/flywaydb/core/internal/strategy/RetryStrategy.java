@@ -23,49 +23,75 @@ import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.internal.util.SqlCallable;
 
 import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A class that retries a Callable a given number of times until success is obtained.
  */
 public class RetryStrategy {
+    private static final int INITIAL_WAIT_IN_MILLISECONDS = 50;
+    private static final int MAX_WAIT_IN_MILLISECONDS = 1000;
 
+    private final boolean unlimitedRetries;
+    private int numberOfRetriesRemaining;
     /**
-     * We hard-code a default of 50 retries here, but this may be overridden by configuration.
+     * The time left to wait between attempts with a backoff, in milliseconds.
      */
-    private static int numberOfRetries = 50;
-    private static boolean unlimitedRetries;
+    private long waitRemainingInMilliseconds;
 
-    private int numberOfRetriesRemaining;
+    /**
+     * The backoff between attempts, or {@code null} if the attempts wait by themselves.
+     */
+    private final BackoffStrategy backoffStrategy;
 
     /**
-     * A class that retries a Callable a given number of times until success is obtained.
+     * A class that retries a Callable until success is obtained, waiting with a jittered exponential backoff between
+     * attempts. It gives up after about as long as waiting a second before each of this number of retries would take,
+     * but may retry more often within that time.
+     *
+     * @param numberOfRetries The number of one second retries to spend waiting. To try forever, use -1.
      */
-    public RetryStrategy() {
-        numberOfRetriesRemaining = numberOfRetries;
+    public RetryStrategy(int numberOfRetries) {
+        this(numberOfRetries, new BackoffStrategy(INITIAL_WAIT_IN_MILLISECONDS, 2, MAX_WAIT_IN_MILLISECONDS));
+    }
+
+    private RetryStrategy(int numberOfRetries, BackoffStrategy backoffStrategy) {
+        this.numberOfRetriesRemaining = numberOfRetries;
+        this.waitRemainingInMilliseconds = (long) numberOfRetries * MAX_WAIT_IN_MILLISECONDS;
+        this.unlimitedRetries = numberOfRetries < 0;
+        this.backoffStrategy = backoffStrategy;
     }
 
     /**
-     * Set the number of retries that are to be attempted before giving up.
+     * Creates a strategy which retries immediately, for callables which already wait on the server before giving up.
      *
-     * @param retries The number of retries to attempt. To try forever, use -1.
+     * @param numberOfRetries The number of retries to attempt. To try forever, use -1.
      */
-    public static void setNumberOfRetries(int retries) {
-        numberOfRetries = retries;
-        unlimitedRetries = (retries < 0);
+    public static RetryStrategy withoutWaits(int numberOfRetries) {
+        return new RetryStrategy(numberOfRetries, null);
     }
 
     private boolean hasMoreRetries() {
+        if (backoffStrategy != null) {
+            return unlimitedRetries || waitRemainingInMilliseconds > 0;
+        }
         return (unlimitedRetries || numberOfRetriesRemaining > 0);
     }
 
-    private void nextRetry() {
+    private void nextRetry(int wait) {
         if (!unlimitedRetries) {
             numberOfRetriesRemaining--;
+            waitRemainingInMilliseconds -= wait;
         }
     }
 
     private int nextWaitInMilliseconds() {
-        return 1000;
+        if (backoffStrategy == null) {
+            return 0;
+        }
+        // Spread the waits out, so that callers released at the same time don't all retry at the same time again
+        int wait = backoffStrategy.next();
+        return wait / 2 + ThreadLocalRandom.current().nextInt(wait / 2 + 1);
     }
 
     /**
@@ -81,8 +107,13 @@ public class RetryStrategy {
      */
     public void doWithRetries(SqlCallable<Boolean> callable, String interruptionMessage, String retriesExceededMessage) throws SQLException {
         while (!callable.call()) {
+            int wait = nextWaitInMilliseconds();
             try {
-                Thread.sleep(nextWaitInMilliseconds());
+                if (wait > 0) {
+                    Thread.sleep(wait);
+                } else if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
             } catch (InterruptedException e) {
                 throw new FlywayException(interruptionMessage, e);
             }
@@ -90,7 +121,7 @@ public class RetryStrategy {
             if (!hasMoreRetries()) {
                 throw new FlywayException(retriesExceededMessage);
             }
-            nextRetry();
+            nextRetry(wait);
         }
     }
 }
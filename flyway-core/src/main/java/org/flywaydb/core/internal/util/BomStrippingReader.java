@@ -48,4 +48,23 @@ public class BomStrippingReader extends FilterReader {
         }
         return c;
     }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        int count;
+        do {
+            int read = super.read(cbuf, off, len);
+            if (read <= 0) {
+                return read;
+            }
+            count = 0;
+            for (int i = off; i < off + read; i++) {
+                if (!BomFilter.isBom(cbuf[i])) {
+                    cbuf[off + count++] = cbuf[i];
+                }
+            }
+            // A chunk made up only of BOMs must not be reported as an empty read
+        } while (count == 0);
+        return count;
+    }
 }
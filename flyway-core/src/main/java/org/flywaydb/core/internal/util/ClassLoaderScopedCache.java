@@ -0,0 +1,67 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.util;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A JVM-wide, thread-safe cache whose entries are scoped to a ClassLoader. The entries of a ClassLoader are dropped
+ * once it is garbage collected, so the values must not reference the ClassLoader or anything loaded by it.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+public class ClassLoaderScopedCache<K, V> {
+    private final Map<ClassLoader, Map<K, V>> caches = new WeakHashMap<>();
+
+    /**
+     * Returns the value cached for this key and ClassLoader, computing it first if there is none yet. Values of
+     * concurrent callers may be computed more than once, but only the first one is kept.
+     *
+     * @param classLoader The ClassLoader the value belongs to. Nothing is cached for {@code null}.
+     * @param key The key.
+     * @param mappingFunction The function computing the value. It must not return {@code null}.
+     * @return The value.
+     */
+    public V computeIfAbsent(ClassLoader classLoader, K key, Function<? super K, ? extends V> mappingFunction) {
+        if (classLoader == null) {
+            return mappingFunction.apply(key);
+        }
+
+        Map<K, V> cache;
+        synchronized (caches) {
+            cache = caches.computeIfAbsent(classLoader, c -> new ConcurrentHashMap<>());
+        }
+
+        V value = cache.get(key);
+        if (value == null) {
+            // Not computed inside the map, as the computation may be slow and may itself use this cache
+            value = mappingFunction.apply(key);
+            V existing = cache.putIfAbsent(key, value);
+            if (existing != null) {
+                value = existing;
+            }
+        }
+        return value;
+    }
+}
@@ -65,4 +65,24 @@ public class UrlUtils {
     public static String decodeURLSafe(String url) {
        return decodeURL(url.replace("+", "%2b"));
     }
+
+    /**
+     * Identifies the current version of the archive on disk containing this path, so that results cached for it are
+     * not reused once it has been rebuilt in place.
+     *
+     * @param path The path of an archive, or of an entry in one, such as {@code file:/libs/app.jar!/db/migration}.
+     * @return The last modified time and the size of the archive, or an empty string if it is not on disk.
+     */
+    public static String getArchiveVersion(String path) {
+        int separator = path.indexOf("!/");
+        String archivePath = separator < 0 ? path : path.substring(0, separator);
+        if (archivePath.startsWith("file:")) {
+            archivePath = archivePath.substring("file:".length());
+        }
+        File archive = new File(decodeURLSafe(archivePath));
+        if (!archive.isFile()) {
+            return "";
+        }
+        return archive.lastModified() + ":" + archive.length();
+    }
 }
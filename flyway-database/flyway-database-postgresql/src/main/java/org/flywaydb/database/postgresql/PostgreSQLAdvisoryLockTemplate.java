@@ -20,6 +20,7 @@
 package org.flywaydb.database.postgresql;
 
 import lombok.CustomLog;
+import lombok.Getter;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
@@ -29,7 +30,9 @@ import org.flywaydb.core.internal.strategy.RetryStrategy;
 import org.flywaydb.core.internal.util.FlywayDbWebsiteLinks;
 import org.flywaydb.core.internal.util.SqlCallable;
 
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.util.List;
 import java.util.concurrent.Callable;
 
@@ -43,9 +46,24 @@ public class PostgreSQLAdvisoryLockTemplate {
                     + (0x61 << 8) // a
                     + 0x79; // y
 
+    /**
+     * How long a single attempt waits on the server for the lock, in milliseconds.
+     */
+    private static final int LOCK_WAIT_IN_MILLISECONDS = 1000;
+
+    /**
+     * The SQL state reported when lock_timeout expires.
+     */
+    private static final String LOCK_NOT_AVAILABLE = "55P03";
+
     private final Configuration configuration;
     private final JdbcTemplate jdbcTemplate;
     private final long lockNum;
+    /**
+     * The time spent waiting for the lock, in milliseconds.
+     */
+    @Getter
+    private long lockWaitTime;
 
     PostgreSQLAdvisoryLockTemplate(Configuration configuration, JdbcTemplate jdbcTemplate, int discriminator) {
         this.configuration = configuration;
@@ -57,11 +75,12 @@ public class PostgreSQLAdvisoryLockTemplate {
         PostgreSQLConfigurationExtension configurationExtension = configuration.getPluginRegister().getPlugin(PostgreSQLConfigurationExtension.class);
 
         if (configurationExtension.isTransactionalLock()) {
-            return new TransactionalExecutionTemplate(jdbcTemplate.getConnection(), true).execute(() -> execute(callable, this::tryLockTransactional));
+            // A lock wait that times out would abort the transaction, so only try the lock and back off in between
+            return new TransactionalExecutionTemplate(jdbcTemplate.getConnection(), true).execute(() -> execute(callable, this::tryLockTransactional, new RetryStrategy(configuration.getLockRetryCount())));
         } else {
             RuntimeException rethrow = null;
             try {
-                return execute(callable, this::tryLock);
+                return execute(callable, this::waitForLock, RetryStrategy.withoutWaits(configuration.getLockRetryCount()));
             } catch (RuntimeException e) {
                 rethrow = e;
                 throw rethrow;
@@ -71,9 +90,9 @@ public class PostgreSQLAdvisoryLockTemplate {
         }
     }
 
-    private <T> T execute(Callable<T> callable, SqlCallable<Boolean> tryLock) {
+    private <T> T execute(Callable<T> callable, SqlCallable<Boolean> tryLock, RetryStrategy strategy) {
         try {
-            lock(tryLock);
+            lock(tryLock, strategy);
             return callable.call();
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to acquire PostgreSQL advisory lock", e);
@@ -85,11 +104,16 @@ public class PostgreSQLAdvisoryLockTemplate {
         }
     }
 
-    private void lock(SqlCallable<Boolean> tryLock) throws SQLException {
-        RetryStrategy strategy = new RetryStrategy();
-        strategy.doWithRetries(tryLock, "Interrupted while attempting to acquire PostgreSQL advisory lock",
-                               "Number of retries exceeded while attempting to acquire PostgreSQL advisory lock. " +
-                                       "Configure the number of retries with the 'lockRetryCount' configuration option: " + FlywayDbWebsiteLinks.LOCK_RETRY_COUNT);
+    private void lock(SqlCallable<Boolean> tryLock, RetryStrategy strategy) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            strategy.doWithRetries(tryLock, "Interrupted while attempting to acquire PostgreSQL advisory lock",
+                                   "Number of retries exceeded while attempting to acquire PostgreSQL advisory lock. " +
+                                           "Configure the number of retries with the 'lockRetryCount' configuration option: " + FlywayDbWebsiteLinks.LOCK_RETRY_COUNT);
+        } finally {
+            lockWaitTime += (System.nanoTime() - start) / 1_000_000;
+        }
+        LOG.debug("Acquired PostgreSQL advisory lock after " + lockWaitTime + " ms");
     }
 
     private boolean tryLockTransactional() throws SQLException {
@@ -97,9 +121,35 @@ public class PostgreSQLAdvisoryLockTemplate {
         return results.size() == 1 && results.get(0);
     }
 
-    private boolean tryLock() throws SQLException {
-        List<Boolean> results = jdbcTemplate.query("SELECT pg_try_advisory_lock(" + lockNum + ")", rs -> rs.getBoolean("pg_try_advisory_lock"));
-        return results.size() == 1 && results.get(0);
+    /**
+     * Waits on the server for the lock, so that it is acquired as soon as it is released, but no longer than
+     * lock_timeout allows.
+     *
+     * @return {@code true} if the lock was acquired, {@code false} if the wait timed out.
+     */
+    private boolean waitForLock() throws SQLException {
+        Connection connection = jdbcTemplate.getConnection();
+        String lockTimeout = jdbcTemplate.queryForString("SELECT current_setting('lock_timeout')");
+        jdbcTemplate.execute("SELECT set_config('lock_timeout', ?, false)", LOCK_WAIT_IN_MILLISECONDS + "ms");
+        // Inside a transaction, a timed out wait must not take the transaction down with it
+        Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+        try {
+            jdbcTemplate.execute("SELECT pg_advisory_lock(" + lockNum + ")");
+            if (savepoint != null) {
+                connection.releaseSavepoint(savepoint);
+            }
+            return true;
+        } catch (SQLException e) {
+            if (savepoint != null) {
+                connection.rollback(savepoint);
+            }
+            if (!LOCK_NOT_AVAILABLE.equals(e.getSQLState())) {
+                throw e;
+            }
+            return false;
+        } finally {
+            jdbcTemplate.execute("SELECT set_config('lock_timeout', ?, false)", lockTimeout);
+        }
     }
 
     private void unlock(RuntimeException rethrow) throws FlywaySqlException {
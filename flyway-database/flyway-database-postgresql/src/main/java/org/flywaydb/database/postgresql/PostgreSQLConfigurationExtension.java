@@ -25,9 +25,15 @@ import org.flywaydb.core.extensibility.ConfigurationExtension;
 @Data
 public class PostgreSQLConfigurationExtension implements ConfigurationExtension {
     private static final String TRANSACTIONAL_LOCK = "flyway.postgresql.transactional.lock";
+    private static final String COALESCE_INSERTS = "flyway.postgresql.coalesceInserts";
 
     private TransactionalModel transactional = null;
 
+    /**
+     * Whether to combine runs of single-row inserts into the same table into multi-row inserts.
+     */
+    private Boolean coalesceInserts = null;
+
     public boolean isTransactionalLock() {
         // null is default, default is true, done this way for merge reasons.
         return transactional == null || transactional.getLock() == null || transactional.getLock();
@@ -37,11 +43,20 @@ public class PostgreSQLConfigurationExtension implements ConfigurationExtension
         transactional = new TransactionalModel();
         transactional.setLock(transactionalLock);
     }
+
+    public boolean shouldCoalesceInserts() {
+        // null is default, default is false, done this way for merge reasons.
+        return coalesceInserts != null && coalesceInserts;
+    }
+
     @Override
     public String getConfigurationParameterFromEnvironmentVariable(String environmentVariable) {
         if ("FLYWAY_POSTGRESQL_TRANSACTIONAL_LOCK".equals(environmentVariable)) {
             return TRANSACTIONAL_LOCK;
         }
+        if ("FLYWAY_POSTGRESQL_COALESCE_INSERTS".equals(environmentVariable)) {
+            return COALESCE_INSERTS;
+        }
         return null;
     }
 
@@ -102,7 +102,12 @@ public class PostgreSQLConnection extends Connection<PostgreSQLDatabase> {
 
     @Override
     public <T> T lock(Table table, Callable<T> callable) {
-        return new PostgreSQLAdvisoryLockTemplate(database.getConfiguration(), jdbcTemplate, table.toString().hashCode()).execute(callable);
+        PostgreSQLAdvisoryLockTemplate lockTemplate = new PostgreSQLAdvisoryLockTemplate(database.getConfiguration(), jdbcTemplate, table.toString().hashCode());
+        try {
+            return lockTemplate.execute(callable);
+        } finally {
+            recordLockWait(lockTemplate.getLockWaitTime());
+        }
     }
 
     private boolean rdsAdminExists() {
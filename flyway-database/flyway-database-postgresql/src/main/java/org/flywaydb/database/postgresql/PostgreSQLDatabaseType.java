@@ -24,14 +24,18 @@ import org.flywaydb.core.api.ResourceProvider;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.extensibility.Tier;
 import org.flywaydb.core.internal.authentication.postgres.PgpassFileReader;
+import org.flywaydb.core.internal.callback.CallbackExecutor;
+import org.flywaydb.core.internal.database.DatabaseType;
 
 import org.flywaydb.core.internal.database.base.BaseDatabaseType;
 import org.flywaydb.core.internal.database.base.Database;
 import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 import org.flywaydb.core.internal.license.FlywayEditionUpgradeRequiredException;
 import org.flywaydb.core.internal.parser.Parser;
 import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
 import org.flywaydb.core.internal.util.StringUtils;
 import lombok.CustomLog;
 
@@ -101,6 +105,16 @@ public class PostgreSQLDatabaseType extends BaseDatabaseType {
         return new PostgreSQLParser(configuration, parsingContext);
     }
 
+    @Override
+    public SqlScriptExecutorFactory createSqlScriptExecutorFactory(final JdbcConnectionFactory jdbcConnectionFactory,
+                                                                   final CallbackExecutor callbackExecutor,
+                                                                   final StatementInterceptor statementInterceptor) {
+        final DatabaseType thisRef = this;
+
+        return (connection, undo, batch, outputQueryResults) -> new PostgreSQLSqlScriptExecutor(new JdbcTemplate(connection, thisRef),
+            callbackExecutor, undo, jdbcConnectionFactory.isSupportsBatch() && batch, outputQueryResults, statementInterceptor);
+    }
+
     @Override
     public void setDefaultConnectionProps(String url, Properties props, ClassLoader classLoader) {
         props.put("applicationName", BaseDatabaseType.APPLICATION_NAME);
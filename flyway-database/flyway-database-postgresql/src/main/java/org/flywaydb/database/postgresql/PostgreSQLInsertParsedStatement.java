@@ -0,0 +1,159 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-database-postgresql
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.postgresql;
+
+import org.flywaydb.core.internal.parser.Token;
+import org.flywaydb.core.internal.parser.TokenType;
+import org.flywaydb.core.internal.sqlscript.Delimiter;
+import org.flywaydb.core.internal.sqlscript.ParsedSqlStatement;
+
+import java.util.List;
+
+/**
+ * A PostgreSQL {@code INSERT INTO ... VALUES (...)} statement with a single row of values, which can be combined with
+ * neighbouring inserts into the same table into a single multi-row insert.
+ */
+public class PostgreSQLInsertParsedStatement extends ParsedSqlStatement {
+    /**
+     * Everything up to and including the VALUES keyword.
+     */
+    private final String insertPrefix;
+
+    /**
+     * The parenthesized row of values.
+     */
+    private final String row;
+
+    /**
+     * The number of values in the row.
+     */
+    private final int rowArity;
+
+    private final Delimiter delimiter;
+
+    private PostgreSQLInsertParsedStatement(int pos, int line, int col, String sql, Delimiter delimiter,
+                                            boolean canExecuteInTransaction, String insertPrefix, String row, int rowArity) {
+        super(pos, line, col, sql, delimiter, canExecuteInTransaction, true);
+        this.insertPrefix = insertPrefix;
+        this.row = row;
+        this.rowArity = rowArity;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Creates a new single-row insert statement if this statement is one.
+     *
+     * @return The statement, or {@code null} if this isn't a plain single-row {@code INSERT ... VALUES} statement.
+     */
+    static PostgreSQLInsertParsedStatement detect(int pos, int line, int col, String sql, Delimiter delimiter,
+                                                  boolean canExecuteInTransaction, List<Token> tokens) {
+        int first = -1;
+        int values = -1;
+        int rowArity = 1;
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            TokenType type = token.getType();
+            if (type == TokenType.COMMENT || type == TokenType.BLANK_LINES) {
+                continue;
+            }
+            if (first < 0) {
+                if (!"INSERT".equalsIgnoreCase(token.getText())) {
+                    return null;
+                }
+                first = i;
+            } else if (values < 0) {
+                if (token.getParensDepth() == 0 && "VALUES".equalsIgnoreCase(token.getText())) {
+                    values = i;
+                } else if (token.getParensDepth() == 0 && type == TokenType.KEYWORD
+                        && ("SELECT".equalsIgnoreCase(token.getText()) || "DEFAULT".equalsIgnoreCase(token.getText()))) {
+                    return null;
+                }
+            } else if (token.getParensDepth() == 0) {
+                // Anything outside the row, such as a second row, ON CONFLICT or RETURNING, rules out combining.
+                if (type != TokenType.DELIMITER) {
+                    return null;
+                }
+            } else if (token.getParensDepth() == 1 && type == TokenType.SYMBOL && ",".equals(token.getText())) {
+                rowArity++;
+            }
+        }
+        if (values < 0 || values == tokens.size() - 1) {
+            return null;
+        }
+
+        // The statement text starts at its first token, which may be a comment preceding the insert itself.
+        int sqlPos = tokens.get(0).getPos();
+        int statementStart = tokens.get(first).getPos() - sqlPos;
+        int valuesStart = tokens.get(values).getPos() - sqlPos;
+        int rowStart = valuesStart + "VALUES".length();
+        if (statementStart < 0 || rowStart > sql.length()
+                || !sql.regionMatches(true, statementStart, "INSERT", 0, "INSERT".length())
+                || !sql.regionMatches(true, valuesStart, "VALUES", 0, "VALUES".length())) {
+            return null;
+        }
+        String row = stripDelimiter(sql.substring(rowStart).trim(), delimiter);
+        if (!row.startsWith("(") || !row.endsWith(")")) {
+            return null;
+        }
+
+        String insertPrefix = sql.substring(statementStart, rowStart).trim();
+        return new PostgreSQLInsertParsedStatement(pos, line, col, sql, delimiter, canExecuteInTransaction,
+                                                   insertPrefix, row, rowArity);
+    }
+
+    private static String stripDelimiter(String sql, Delimiter delimiter) {
+        String delimiterText = delimiter.toString();
+        if (sql.endsWith(delimiterText)) {
+            return sql.substring(0, sql.length() - delimiterText.length()).trim();
+        }
+        return sql;
+    }
+
+    /**
+     * @return Whether this statement and the other one insert the same shape of row into the same table.
+     */
+    boolean canBeCombinedWith(PostgreSQLInsertParsedStatement other) {
+        return insertPrefix.equals(other.insertPrefix)
+                && rowArity == other.rowArity
+                && delimiter.equals(other.delimiter)
+                && canExecuteInTransaction() == other.canExecuteInTransaction();
+    }
+
+    int getRowLength() {
+        return row.length();
+    }
+
+    /**
+     * Combines these single-row inserts into one multi-row insert, reported at the position of the first one.
+     */
+    static ParsedSqlStatement combine(List<PostgreSQLInsertParsedStatement> inserts) {
+        PostgreSQLInsertParsedStatement first = inserts.get(0);
+        if (inserts.size() == 1) {
+            return first;
+        }
+
+        StringBuilder sql = new StringBuilder(first.insertPrefix);
+        for (int i = 0; i < inserts.size(); i++) {
+            sql.append(i == 0 ? "\n" : ",\n").append(inserts.get(i).row);
+        }
+        return new ParsedSqlStatement(first.getPos(), first.getLine(), first.getCol(), sql.toString(),
+                                      first.delimiter, first.canExecuteInTransaction(), true);
+    }
+}
@@ -42,8 +42,17 @@ public class PostgreSQLParser extends Parser {
 
     private static final StatementType COPY = new StatementType();
 
+    /**
+     * Whether to detect single-row inserts so that they can be combined by the {@link PostgreSQLSqlScriptExecutor}.
+     */
+    private final boolean coalesceInserts;
+
     public PostgreSQLParser(Configuration configuration, ParsingContext parsingContext) {
         super(configuration, parsingContext, 3);
+        PostgreSQLConfigurationExtension configurationExtension = configuration == null || configuration.getPluginRegister() == null
+            ? null
+            : configuration.getPluginRegister().getPlugin(PostgreSQLConfigurationExtension.class);
+        this.coalesceInserts = configurationExtension != null && configurationExtension.shouldCoalesceInserts();
     }
 
     @Override
@@ -62,6 +71,13 @@ public class PostgreSQLParser extends Parser {
                                                      sql.substring(nonCommentPartPos - statementPos),
                                                      readCopyData(reader, recorder));
         }
+        if (coalesceInserts && batchable) {
+            PostgreSQLInsertParsedStatement insert = PostgreSQLInsertParsedStatement.detect(statementPos, statementLine,
+                statementCol, sql, delimiter, canExecuteInTransaction, tokens);
+            if (insert != null) {
+                return insert;
+            }
+        }
         return super.createStatement(reader, recorder, statementPos, statementLine, statementCol, nonCommentPartPos,
             nonCommentPartLine, nonCommentPartCol, statementType, canExecuteInTransaction, delimiter, sql, tokens,
             batchable);
@@ -0,0 +1,116 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-database-postgresql
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.postgresql;
+
+import lombok.CustomLog;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.internal.callback.CallbackExecutor;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.StatementInterceptor;
+import org.flywaydb.core.internal.sqlscript.DefaultSqlScriptExecutor;
+import org.flywaydb.core.internal.sqlscript.SqlScript;
+import org.flywaydb.core.internal.sqlscript.SqlStatement;
+import org.flywaydb.core.internal.sqlscript.SqlStatementIterator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL script executor for PostgreSQL which, when {@code flyway.postgresql.coalesceInserts} is enabled, combines runs
+ * of single-row inserts into the same table into multi-row inserts.
+ */
+@CustomLog
+public class PostgreSQLSqlScriptExecutor extends DefaultSqlScriptExecutor {
+    /**
+     * The maximum number of rows combined into a single insert.
+     */
+    private static final int MAX_COALESCED_ROWS = 1000;
+
+    /**
+     * The maximum length of the values combined into a single insert.
+     */
+    private static final int MAX_COALESCED_LENGTH = 1024 * 1024;
+
+    public PostgreSQLSqlScriptExecutor(JdbcTemplate jdbcTemplate, CallbackExecutor callbackExecutor, boolean undo,
+                                       boolean batch, boolean outputQueryResults, StatementInterceptor statementInterceptor) {
+        super(jdbcTemplate, callbackExecutor, undo, batch, outputQueryResults, statementInterceptor);
+    }
+
+    @Override
+    protected SqlStatementIterator getSqlStatements(SqlScript sqlScript, Configuration config) {
+        SqlStatementIterator sqlStatements = super.getSqlStatements(sqlScript, config);
+        PostgreSQLConfigurationExtension configurationExtension = config.getPluginRegister().getPlugin(PostgreSQLConfigurationExtension.class);
+        if (configurationExtension == null || !configurationExtension.shouldCoalesceInserts()) {
+            return sqlStatements;
+        }
+        return new CoalescingSqlStatementIterator(sqlStatements);
+    }
+
+    private static class CoalescingSqlStatementIterator implements SqlStatementIterator {
+        private final SqlStatementIterator delegate;
+
+        /**
+         * The statement read past the end of the last run of inserts, if any.
+         */
+        private SqlStatement pending;
+
+        private CoalescingSqlStatementIterator(SqlStatementIterator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pending != null || delegate.hasNext();
+        }
+
+        @Override
+        public SqlStatement next() {
+            SqlStatement sqlStatement = pending != null ? pending : delegate.next();
+            pending = null;
+            if (!(sqlStatement instanceof PostgreSQLInsertParsedStatement first)) {
+                return sqlStatement;
+            }
+
+            List<PostgreSQLInsertParsedStatement> inserts = new ArrayList<>();
+            inserts.add(first);
+            int length = first.getRowLength();
+            while (inserts.size() < MAX_COALESCED_ROWS && length < MAX_COALESCED_LENGTH) {
+                SqlStatement next = delegate.next();
+                if (next instanceof PostgreSQLInsertParsedStatement insert && first.canBeCombinedWith(insert)) {
+                    inserts.add(insert);
+                    length += insert.getRowLength();
+                } else {
+                    pending = next;
+                    break;
+                }
+            }
+
+            if (inserts.size() > 1) {
+                LOG.debug("Combining " + inserts.size() + " inserts starting at line " + first.getLineNumber() + " into a single statement");
+            }
+            return PostgreSQLInsertParsedStatement.combine(inserts);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
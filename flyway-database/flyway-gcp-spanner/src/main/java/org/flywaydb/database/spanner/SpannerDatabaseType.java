@@ -23,12 +23,15 @@ import java.util.List;
 import lombok.CustomLog;
 import org.flywaydb.core.api.ResourceProvider;
 import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.internal.callback.CallbackExecutor;
+import org.flywaydb.core.internal.database.DatabaseType;
 import org.flywaydb.core.internal.database.base.BaseDatabaseType;
 import org.flywaydb.core.internal.database.base.Database;
 import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 import org.flywaydb.core.internal.parser.Parser;
 import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
 import org.flywaydb.core.internal.util.FlywayDbWebsiteLinks;
 
 
@@ -95,6 +98,16 @@ public class SpannerDatabaseType extends BaseDatabaseType {
         return new SpannerParser(configuration, parsingContext);
     }
 
+    @Override
+    public SqlScriptExecutorFactory createSqlScriptExecutorFactory(final JdbcConnectionFactory jdbcConnectionFactory,
+                                                                   final CallbackExecutor callbackExecutor,
+                                                                   final StatementInterceptor statementInterceptor) {
+        final DatabaseType thisRef = this;
+
+        return (connection, undo, batch, outputQueryResults) -> new SpannerSqlScriptExecutor(new SpannerJdbcTemplate(connection, thisRef),
+            callbackExecutor, undo, jdbcConnectionFactory.isSupportsBatch() && batch, outputQueryResults, statementInterceptor);
+    }
+
     @Override
     public boolean detectUserRequiredByUrl(String url) {
         return !url.contains("credentials=");
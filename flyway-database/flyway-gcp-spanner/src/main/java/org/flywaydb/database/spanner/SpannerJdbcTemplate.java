@@ -19,13 +19,18 @@
  */
 package org.flywaydb.database.spanner;
 
+import lombok.Getter;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.internal.database.DatabaseType;
 import org.flywaydb.core.internal.database.DatabaseTypeRegister;
 import org.flywaydb.core.internal.jdbc.JdbcNullTypes;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.JdbcUtils;
+import org.flywaydb.core.internal.jdbc.Result;
+import org.flywaydb.core.internal.jdbc.Results;
 
 import java.sql.*;
+import java.util.List;
 
 public class SpannerJdbcTemplate extends JdbcTemplate {
 
@@ -60,4 +65,73 @@ public class SpannerJdbcTemplate extends JdbcTemplate {
 
         return statement;
     }
+
+    /**
+     * Executes these DDL statements as a single schema change between {@code START BATCH DDL} and {@code RUN BATCH},
+     * instead of waiting for a separate schema change for each of them.
+     *
+     * @return The results, with one result for each statement that was applied. If a statement failed, the results
+     * hold the exception and the index of the statement that failed. A statement rejected before {@code RUN BATCH}
+     * aborts the whole batch, so none of the statements are applied.
+     */
+    public DdlBatchResults executeDdlBatch(List<String> ddlStatements) {
+        DdlBatchResults results = new DdlBatchResults();
+        Statement statement = null;
+        boolean batchStarted = false;
+        int buffered = 0;
+        try {
+            statement = connection.createStatement();
+            statement.execute("START BATCH DDL");
+            batchStarted = true;
+            for (String sql : ddlStatements) {
+                // Only validated and buffered by the driver, the statements are sent together by RUN BATCH
+                statement.execute(sql);
+                buffered++;
+            }
+            batchStarted = false;
+            statement.execute("RUN BATCH");
+            for (String sql : ddlStatements) {
+                results.addResult(new Result(-1, null, null, sql));
+            }
+            extractWarnings(results, statement);
+        } catch (BatchUpdateException e) {
+            // The update counts are those of the statements applied before the one that failed
+            int applied = Math.min(e.getUpdateCounts().length, ddlStatements.size());
+            for (int i = 0; i < applied; i++) {
+                results.addResult(new Result(-1, null, null, ddlStatements.get(i)));
+            }
+            results.failedStatementIndex = Math.min(applied, ddlStatements.size() - 1);
+            extractErrors(results, e);
+        } catch (SQLException e) {
+            if (batchStarted) {
+                // None of the statements were sent, so the one that couldn't be buffered is the one that failed
+                results.failedStatementIndex = buffered;
+                abortBatch(statement);
+            } else {
+                results.failedStatementIndex = 0;
+            }
+            extractErrors(results, e);
+        } finally {
+            JdbcUtils.closeStatement(statement);
+        }
+        return results;
+    }
+
+    private static void abortBatch(Statement statement) {
+        try {
+            statement.execute("ABORT BATCH");
+        } catch (SQLException ignored) {
+        }
+    }
+
+    /**
+     * The results of a DDL batch, along with the statement that failed, if any.
+     */
+    public static class DdlBatchResults extends Results {
+        /**
+         * The index of the statement that failed, or {@code -1} if none did.
+         */
+        @Getter
+        private int failedStatementIndex = -1;
+    }
 }
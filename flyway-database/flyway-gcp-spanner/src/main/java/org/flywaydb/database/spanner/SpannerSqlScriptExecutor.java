@@ -0,0 +1,224 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-gcp-spanner
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.spanner;
+
+import lombok.CustomLog;
+import org.flywaydb.core.api.callback.Event;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.exception.FlywayBlockStatementExecutionException;
+import org.flywaydb.core.internal.callback.CallbackExecutor;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.Results;
+import org.flywaydb.core.internal.jdbc.StatementInterceptor;
+import org.flywaydb.core.internal.sqlscript.DefaultSqlScriptExecutor;
+import org.flywaydb.core.internal.sqlscript.SqlScript;
+import org.flywaydb.core.internal.sqlscript.SqlScriptExecutor;
+import org.flywaydb.core.internal.sqlscript.SqlStatement;
+import org.flywaydb.core.internal.sqlscript.SqlStatementIterator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * SQL script executor for Cloud Spanner which sends each run of consecutive DDL statements as a single batch. Every
+ * DDL statement sent on its own becomes a separate schema change, which Spanner takes a long time to apply.
+ */
+@CustomLog
+public class SpannerSqlScriptExecutor extends DefaultSqlScriptExecutor {
+    private static final Set<String> DDL_KEYWORDS = Set.of("CREATE", "ALTER", "DROP", "GRANT", "REVOKE", "RENAME", "ANALYZE");
+
+    public SpannerSqlScriptExecutor(JdbcTemplate jdbcTemplate, CallbackExecutor callbackExecutor, boolean undo,
+                                    boolean batch, boolean outputQueryResults, StatementInterceptor statementInterceptor) {
+        super(jdbcTemplate, callbackExecutor, undo, batch, outputQueryResults, statementInterceptor);
+    }
+
+    @Override
+    protected SqlStatementIterator getSqlStatements(SqlScript sqlScript, Configuration config) {
+        SqlStatementIterator sqlStatements = super.getSqlStatements(sqlScript, config);
+        if (!(jdbcTemplate instanceof SpannerJdbcTemplate)) {
+            return sqlStatements;
+        }
+        return new DdlBatchingSqlStatementIterator(sqlStatements);
+    }
+
+    @Override
+    protected Results executeStatement(JdbcTemplate jdbcTemplate, SqlScript sqlScript, SqlStatement sqlStatement, Configuration config) {
+        if (!(sqlStatement instanceof DdlBatch ddlBatch)) {
+            return super.executeStatement(jdbcTemplate, sqlScript, sqlStatement, config);
+        }
+
+        // Callbacks and errors still apply to the individual statements of the batch
+        List<SqlStatement> sentStatements = new ArrayList<>();
+        for (SqlStatement statement : ddlBatch.statements) {
+            logStatementExecution(statement);
+            try {
+                handleEachMigrateOrUndoStatementCallback(Event.BEFORE_EACH_UNDO_STATEMENT, Event.BEFORE_EACH_MIGRATE_STATEMENT, statement.getSql() + statement.getDelimiter(), null, null);
+            } catch (FlywayBlockStatementExecutionException e) {
+                LOG.debug("Statement on line " + statement.getLineNumber() + " + skipped due to " + e.getMessage());
+                continue;
+            }
+            sentStatements.add(statement);
+        }
+        if (sentStatements.isEmpty()) {
+            return null;
+        }
+
+        LOG.debug("Sending batch of " + sentStatements.size() + " DDL statements to database ...");
+        SpannerJdbcTemplate.DdlBatchResults results = ((SpannerJdbcTemplate) jdbcTemplate).executeDdlBatch(
+                sentStatements.stream().map(SqlStatement::getSql).collect(Collectors.toList()));
+
+        // Only the statements that were actually applied get a success callback
+        for (int i = 0; i < results.getResults().size(); i++) {
+            SqlStatement statement = sentStatements.get(i);
+            handleEachMigrateOrUndoStatementCallback(Event.AFTER_EACH_UNDO_STATEMENT, Event.AFTER_EACH_MIGRATE_STATEMENT, statement.getSql() + statement.getDelimiter(), results.getWarnings(), results.getErrors());
+        }
+        printWarnings(results);
+
+        if (results.getException() != null) {
+            SqlStatement failedStatement = sentStatements.get(results.getFailedStatementIndex());
+            handleEachMigrateOrUndoStatementCallback(Event.AFTER_EACH_UNDO_STATEMENT_ERROR, Event.AFTER_EACH_MIGRATE_STATEMENT_ERROR, failedStatement.getSql() + failedStatement.getDelimiter(), results.getWarnings(), results.getErrors());
+            handleException(results, sqlScript, failedStatement, config);
+            return null;
+        }
+
+        return results;
+    }
+
+    /**
+     * @return Whether this statement changes the schema, judging by its first keyword.
+     */
+    static boolean isDdl(SqlStatement sqlStatement) {
+        String sql = stripLeadingComments(sqlStatement.getSql());
+        int end = 0;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return DDL_KEYWORDS.contains(sql.substring(0, end).toUpperCase(Locale.ENGLISH));
+    }
+
+    private static String stripLeadingComments(String sql) {
+        int pos = 0;
+        while (pos < sql.length()) {
+            if (Character.isWhitespace(sql.charAt(pos))) {
+                pos++;
+            } else if (sql.startsWith("--", pos) || sql.startsWith("#", pos)) {
+                int end = sql.indexOf('\n', pos);
+                pos = end < 0 ? sql.length() : end + 1;
+            } else if (sql.startsWith("/*", pos)) {
+                int end = sql.indexOf("*/", pos + 2);
+                pos = end < 0 ? sql.length() : end + 2;
+            } else {
+                break;
+            }
+        }
+        return sql.substring(pos);
+    }
+
+    /**
+     * A run of consecutive DDL statements, executed together as a single schema change.
+     */
+    private static class DdlBatch implements SqlStatement {
+        private final List<SqlStatement> statements;
+
+        private DdlBatch(List<SqlStatement> statements) {
+            this.statements = statements;
+        }
+
+        @Override
+        public int getLineNumber() {
+            return statements.get(0).getLineNumber();
+        }
+
+        @Override
+        public String getSql() {
+            return statements.stream().map(SqlStatement::getSql).collect(Collectors.joining(";\n"));
+        }
+
+        @Override
+        public String getDelimiter() {
+            return statements.get(statements.size() - 1).getDelimiter();
+        }
+
+        @Override
+        public boolean canExecuteInTransaction() {
+            return false;
+        }
+
+        @Override
+        public boolean isBatchable() {
+            return false;
+        }
+
+        @Override
+        public Results execute(JdbcTemplate jdbcTemplate, SqlScriptExecutor sqlScriptExecutor, Configuration config) {
+            return ((SpannerJdbcTemplate) jdbcTemplate).executeDdlBatch(
+                    statements.stream().map(SqlStatement::getSql).collect(Collectors.toList()));
+        }
+    }
+
+    private static class DdlBatchingSqlStatementIterator implements SqlStatementIterator {
+        private final SqlStatementIterator delegate;
+
+        /**
+         * The statement read past the end of the last run of DDL statements, if any.
+         */
+        private SqlStatement pending;
+
+        private DdlBatchingSqlStatementIterator(SqlStatementIterator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pending != null || delegate.hasNext();
+        }
+
+        @Override
+        public SqlStatement next() {
+            SqlStatement sqlStatement = pending != null ? pending : delegate.next();
+            pending = null;
+            if (sqlStatement == null || !isDdl(sqlStatement)) {
+                return sqlStatement;
+            }
+
+            List<SqlStatement> statements = new ArrayList<>();
+            statements.add(sqlStatement);
+            SqlStatement next;
+            while ((next = delegate.next()) != null && isDdl(next)) {
+                statements.add(next);
+            }
+            pending = next;
+
+            if (statements.size() == 1) {
+                return sqlStatement;
+            }
+            LOG.debug("Batching " + statements.size() + " DDL statements starting at line " + sqlStatement.getLineNumber() + " into a single schema change");
+            return new DdlBatch(statements);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-gcp-spanner
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.spanner;
+
+import org.flywaydb.core.api.callback.Event;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.internal.callback.CallbackExecutor;
+import org.flywaydb.core.internal.database.DatabaseType;
+import org.flywaydb.core.internal.sqlscript.FlywaySqlScriptException;
+import org.flywaydb.core.internal.sqlscript.SqlScript;
+import org.flywaydb.core.internal.sqlscript.SqlStatement;
+import org.flywaydb.core.internal.sqlscript.SqlStatementIterator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SpannerSqlScriptExecutorTest {
+    private static final String CREATE_A = "CREATE TABLE a (id INT64) PRIMARY KEY (id)";
+    private static final String CREATE_B = "CREATE TABLE b (id INT64) PRIMARY KEY (id)";
+    private static final String CREATE_C = "CREATE TABLE c (id INT64) PRIMARY KEY (id)";
+
+    private Statement statement;
+    private CallbackExecutor callbackExecutor;
+    private SpannerSqlScriptExecutor executor;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Connection connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        callbackExecutor = mock(CallbackExecutor.class);
+        executor = new SpannerSqlScriptExecutor(new SpannerJdbcTemplate(connection, mock(DatabaseType.class)),
+                                                callbackExecutor, false, false, false, null);
+    }
+
+    @Test
+    void statementRejectedBeforeRunBatchAbortsTheWholeBatch() throws SQLException {
+        when(statement.execute(CREATE_B)).thenThrow(new SQLException("Invalid DDL"));
+
+        assertThrows(FlywaySqlScriptException.class, () -> executor.execute(script(CREATE_A, CREATE_B, CREATE_C), mock(Configuration.class)));
+
+        verify(statement).execute("ABORT BATCH");
+        verify(statement, never()).execute("RUN BATCH");
+        verify(callbackExecutor, never()).onEachMigrateOrUndoStatementEvent(eq(Event.AFTER_EACH_MIGRATE_STATEMENT), anyString(), any(), any());
+        verify(callbackExecutor).onEachMigrateOrUndoStatementEvent(eq(Event.AFTER_EACH_MIGRATE_STATEMENT_ERROR), eq(CREATE_B + ";"), any(), any());
+    }
+
+    @Test
+    void statementFailingInRunBatchOnlyReportsTheStatementsBeforeItAsApplied() throws SQLException {
+        when(statement.execute("RUN BATCH")).thenThrow(new BatchUpdateException("Table b failed", new int[] {0}));
+
+        assertThrows(FlywaySqlScriptException.class, () -> executor.execute(script(CREATE_A, CREATE_B, CREATE_C), mock(Configuration.class)));
+
+        verify(callbackExecutor).onEachMigrateOrUndoStatementEvent(eq(Event.AFTER_EACH_MIGRATE_STATEMENT), eq(CREATE_A + ";"), any(), any());
+        verify(callbackExecutor, never()).onEachMigrateOrUndoStatementEvent(eq(Event.AFTER_EACH_MIGRATE_STATEMENT), eq(CREATE_B + ";"), any(), any());
+        verify(callbackExecutor, never()).onEachMigrateOrUndoStatementEvent(eq(Event.AFTER_EACH_MIGRATE_STATEMENT), eq(CREATE_C + ";"), any(), any());
+        verify(callbackExecutor).onEachMigrateOrUndoStatementEvent(eq(Event.AFTER_EACH_MIGRATE_STATEMENT_ERROR), eq(CREATE_B + ";"), any(), any());
+    }
+
+    private static SqlScript script(String... sql) {
+        Iterator<String> statements = List.of(sql).iterator();
+        SqlScript sqlScript = mock(SqlScript.class);
+        when(sqlScript.getSqlStatements()).thenReturn(new SqlStatementIterator() {
+            private int lineNumber;
+
+            @Override
+            public boolean hasNext() {
+                return statements.hasNext();
+            }
+
+            @Override
+            public SqlStatement next() {
+                return statements.hasNext() ? statement(statements.next(), ++lineNumber) : null;
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        return sqlScript;
+    }
+
+    private static SqlStatement statement(String sql, int lineNumber) {
+        SqlStatement sqlStatement = mock(SqlStatement.class);
+        when(sqlStatement.getSql()).thenReturn(sql);
+        when(sqlStatement.getDelimiter()).thenReturn(";");
+        when(sqlStatement.getLineNumber()).thenReturn(lineNumber);
+        return sqlStatement;
+    }
+}
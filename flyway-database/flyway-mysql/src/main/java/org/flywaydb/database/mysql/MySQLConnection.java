@@ -161,7 +161,12 @@ public class MySQLConnection extends Connection<MySQLDatabase> {
     @Override
     public <T> T lock(Table table, Callable<T> callable) {
         if (canUseNamedLockTemplate()) {
-            return new MySQLNamedLockTemplate(jdbcTemplate, table.toString().hashCode()).execute(callable);
+            MySQLNamedLockTemplate lockTemplate = new MySQLNamedLockTemplate(jdbcTemplate, table.toString().hashCode());
+            try {
+                return lockTemplate.execute(callable);
+            } finally {
+                recordLockWait(lockTemplate.getLockWaitTime());
+            }
         }
         return super.lock(table, callable);
     }
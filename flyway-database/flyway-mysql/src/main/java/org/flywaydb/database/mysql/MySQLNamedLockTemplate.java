@@ -20,6 +20,7 @@
 package org.flywaydb.database.mysql;
 
 import lombok.CustomLog;
+import lombok.Getter;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
@@ -32,6 +33,11 @@ import java.util.concurrent.Callable;
  */
 @CustomLog
 public class MySQLNamedLockTemplate {
+    /**
+     * How long a single attempt waits on the server for the lock, in seconds.
+     */
+    private static final int LOCK_WAIT_IN_SECONDS = 10;
+
     /**
      * The connection for the named lock.
      */
@@ -39,6 +45,12 @@ public class MySQLNamedLockTemplate {
 
     private final String lockName;
 
+    /**
+     * The time spent waiting for the lock, in milliseconds.
+     */
+    @Getter
+    private long lockWaitTime;
+
     /**
      * Creates a new named lock template for this connection.
      *
@@ -80,16 +92,21 @@ public class MySQLNamedLockTemplate {
     }
 
     private void lock() throws SQLException {
-        while (!tryLock()) {
-            try {
-                Thread.sleep(100L);
-            } catch (InterruptedException e) {
-                throw new FlywayException("Interrupted while attempting to acquire MySQL named lock: " + lockName, e);
+        long start = System.nanoTime();
+        try {
+            // GET_LOCK waits on the server and returns as soon as the lock is released, so retry straight away
+            while (!tryLock()) {
+                if (Thread.interrupted()) {
+                    throw new FlywayException("Interrupted while attempting to acquire MySQL named lock: " + lockName);
+                }
             }
+        } finally {
+            lockWaitTime += (System.nanoTime() - start) / 1_000_000;
         }
+        LOG.debug("Acquired MySQL named lock " + lockName + " after " + lockWaitTime + " ms");
     }
 
     private boolean tryLock() throws SQLException {
-        return jdbcTemplate.queryForInt("SELECT GET_LOCK(?,10)", lockName) == 1;
+        return jdbcTemplate.queryForInt("SELECT GET_LOCK(?," + LOCK_WAIT_IN_SECONDS + ")", lockName) == 1;
     }
 }
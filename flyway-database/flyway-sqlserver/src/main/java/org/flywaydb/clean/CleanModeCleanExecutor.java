@@ -52,14 +52,14 @@ public class CleanModeCleanExecutor extends CleanExecutor {
     }
 
     @Override
-    protected void doCleanSchema(Schema schema) {
+    protected void doCleanSchema(Connection<?> connection, Schema schema) {
         if (Mode.ALL.name().equalsIgnoreCase(cleanMode)) {
             new PlainExecutionTemplate(true).execute(() -> {
                 schema.clean();
                 return null;
             });
         } else {
-            super.doCleanSchema(schema);
+            super.doCleanSchema(connection, schema);
         }
     }
 }
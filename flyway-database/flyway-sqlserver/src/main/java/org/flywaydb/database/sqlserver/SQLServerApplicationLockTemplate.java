@@ -20,11 +20,14 @@
 package org.flywaydb.database.sqlserver;
 
 import lombok.CustomLog;
+import lombok.Getter;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 
+import java.sql.CallableStatement;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.concurrent.Callable;
 
 /**
@@ -32,11 +35,22 @@ import java.util.concurrent.Callable;
  */
 @CustomLog
 public class SQLServerApplicationLockTemplate {
+    /**
+     * How long to wait on the server for the lock, in milliseconds.
+     */
+    private static final int LOCK_TIMEOUT_IN_MILLISECONDS = 3600000;
+
     private final SQLServerConnection connection;
     private final JdbcTemplate jdbcTemplate;
     private final String databaseName;
     private final String lockName;
 
+    /**
+     * The time spent waiting for the lock, in milliseconds.
+     */
+    @Getter
+    private long lockWaitTime;
+
     /**
      * Creates a new application lock template for this connection.
      *
@@ -58,10 +72,11 @@ public class SQLServerApplicationLockTemplate {
      * @return The result of the callable code.
      */
     public <T> T execute(Callable<T> callable) {
+        boolean locked = false;
         try {
             connection.setCurrentDatabase(databaseName);
-            jdbcTemplate.execute("EXEC sp_getapplock @Resource = ?, @LockTimeout='3600000'," +
-                                         " @LockMode = 'Exclusive', @LockOwner = 'Session'", lockName);
+            lock();
+            locked = true;
             return callable.call();
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to acquire SQL Server application lock", e);
@@ -74,12 +89,36 @@ public class SQLServerApplicationLockTemplate {
             }
             throw rethrow;
         } finally {
-            try {
-                connection.setCurrentDatabase(databaseName);
-                jdbcTemplate.execute("EXEC sp_releaseapplock @Resource = ?, @LockOwner = 'Session'", lockName);
-            } catch (SQLException e) {
-                LOG.error("Unable to release SQL Server application lock", e);
+            if (locked) {
+                try {
+                    connection.setCurrentDatabase(databaseName);
+                    jdbcTemplate.execute("EXEC sp_releaseapplock @Resource = ?, @LockOwner = 'Session'", lockName);
+                } catch (SQLException e) {
+                    LOG.error("Unable to release SQL Server application lock", e);
+                }
             }
         }
     }
+
+    private void lock() throws SQLException {
+        long start = System.nanoTime();
+        int result;
+        // sp_getapplock waits on the server and returns as soon as the lock is released. Its return code is read as
+        // an output parameter, as a batch selecting it would first produce update counts some drivers choke on.
+        try (CallableStatement statement = jdbcTemplate.getConnection().prepareCall("{? = call sp_getapplock(?, ?, ?, ?)}")) {
+            statement.registerOutParameter(1, Types.INTEGER);
+            statement.setString(2, lockName);
+            statement.setString(3, "Exclusive");
+            statement.setString(4, "Session");
+            statement.setInt(5, LOCK_TIMEOUT_IN_MILLISECONDS);
+            statement.execute();
+            result = statement.getInt(1);
+        } finally {
+            lockWaitTime += (System.nanoTime() - start) / 1_000_000;
+        }
+        if (result < 0) {
+            throw new FlywayException("Unable to acquire SQL Server application lock " + lockName + " (sp_getapplock returned " + result + ")");
+        }
+        LOG.debug("Acquired SQL Server application lock " + lockName + " after " + lockWaitTime + " ms");
+    }
 }
@@ -112,7 +112,12 @@ public class SQLServerConnection extends Connection<SQLServerDatabase> {
 
     @Override
     public <T> T lock(Table table, Callable<T> callable) {
-        return new SQLServerApplicationLockTemplate(this, jdbcTemplate, originalDatabaseName, table.toString().hashCode()).execute(callable);
+        SQLServerApplicationLockTemplate lockTemplate = new SQLServerApplicationLockTemplate(this, jdbcTemplate, originalDatabaseName, table.toString().hashCode());
+        try {
+            return lockTemplate.execute(callable);
+        } finally {
+            recordLockWait(lockTemplate.getLockWaitTime());
+        }
     }
 
     private boolean rdsAdminExists() {
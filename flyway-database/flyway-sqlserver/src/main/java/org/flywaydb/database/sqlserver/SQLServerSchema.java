@@ -186,16 +186,9 @@ public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
 
     @Override
     protected void doClean() throws SQLException {
-        for (String statement : getCleanStatementsBeforeFirstTableDrop(queryDBObjects(ObjectType.USER_TABLE))) {
-            executeIgnoringDependencyErrors(statement);
-        }
-        dropTablesIgnoringErrors(allTables());
-        for (String statement : getCleanStatementsBeforeSecondTableDrop(queryDBObjects(ObjectType.USER_TABLE))) {
-            executeIgnoringDependencyErrors(statement);
-        }
-        dropTablesIgnoringErrors(allTables());
-        for (String statement : getCleanStatementsAfterLastTableDrop(queryDBObjects(ObjectType.USER_TABLE))) {
-            executeIgnoringDependencyErrors(statement);
+        if (cleanIgnoringDependencyErrors()) {
+            // Everything was dropped in dependency order, so a second round would find nothing left to drop
+            return;
         }
 
         for (String statement : getCleanStatementsBeforeFirstTableDrop(queryDBObjects(ObjectType.USER_TABLE))) {
@@ -211,6 +204,39 @@ public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
         }
     }
 
+    /**
+     * Drops all objects, ignoring errors caused by objects that still depend on them.
+     *
+     * @return {@code true} if no error occurred.
+     */
+    private boolean cleanIgnoringDependencyErrors() throws SQLException {
+        boolean success = true;
+        List<DBObject> tables = queryDBObjects(ObjectType.USER_TABLE);
+        for (String statement : getCleanStatementsBeforeFirstTableDrop(tables)) {
+            success &= executeIgnoringDependencyErrors(statement);
+        }
+        if (!dropTablesIgnoringErrors(toTables(tables))) {
+            success = false;
+            tables = queryDBObjects(ObjectType.USER_TABLE);
+        } else {
+            tables = new ArrayList<>();
+        }
+        for (String statement : getCleanStatementsBeforeSecondTableDrop(tables)) {
+            success &= executeIgnoringDependencyErrors(statement);
+        }
+        if (!tables.isEmpty()) {
+            if (dropTablesIgnoringErrors(toTables(tables))) {
+                tables = new ArrayList<>();
+            } else {
+                tables = queryDBObjects(ObjectType.USER_TABLE);
+            }
+        }
+        for (String statement : getCleanStatementsAfterLastTableDrop(tables)) {
+            success &= executeIgnoringDependencyErrors(statement);
+        }
+        return success;
+    }
+
     private List<String> getCleanStatementsBeforeFirstTableDrop(List<DBObject> tables) throws SQLException {
         List<String> statements = new ArrayList<>();
         statements.addAll(cleanTriggers());
@@ -270,18 +296,22 @@ public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
         }
     }
 
-    private void dropTablesIgnoringErrors(SQLServerTable[] allTables) {
+    private boolean dropTablesIgnoringErrors(SQLServerTable[] allTables) {
         try {
             dropTables(allTables);
+            return true;
         } catch (Exception ignored) {
+            return false;
         }
     }
 
-    private void executeIgnoringDependencyErrors(String statement) {
+    private boolean executeIgnoringDependencyErrors(String statement) {
         try {
             jdbcTemplate.execute(statement);
+            return true;
         } catch (SQLException e) {
             LOG.debug("Ignoring dependency-related error: " + e.getMessage());
+            return false;
         }
     }
 
@@ -519,10 +549,13 @@ public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
 
     @Override
     protected SQLServerTable[] doAllTables() throws SQLException {
-        return queryDBObjects(ObjectType.USER_TABLE).stream()
+        return toTables(queryDBObjects(ObjectType.USER_TABLE));
+    }
+
+    private SQLServerTable[] toTables(List<DBObject> tables) {
+        return tables.stream()
                 .map(table -> new SQLServerTable(jdbcTemplate, database, databaseName, this, table.name))
                 .toArray(SQLServerTable[]::new);
-
     }
 
     @Override
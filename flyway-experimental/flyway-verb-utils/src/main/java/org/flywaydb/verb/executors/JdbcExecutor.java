@@ -36,7 +36,7 @@ public class JdbcExecutor implements Executor<SqlStatement> {
         if (configuration.isBatch()) {
             if (executionUnit.isBatchable()) {
                 experimentalDatabase.addToBatch(executionUnit.getSql());
-                if (experimentalDatabase.getBatchSize() >= 100) {
+                if (experimentalDatabase.getBatchSize() >= configuration.getBatchSize()) {
                     experimentalDatabase.doExecuteBatch();
                 }
             } else {
@@ -208,6 +208,66 @@ public class FlywayExtension {
      */
     public Integer lockRetryCount;
 
+    /**
+     * The maximum number of schemas cleaned at the same time, each on its own connection. (default: 1)
+     * <p>Also configurable with Gradle or System Property: ${flyway.cleanParallelism}</p>
+     */
+    public Integer cleanParallelism;
+
+    /**
+     * Whether SQL migrations are parsed on a background thread while their statements are being executed,
+     * instead of being parsed in full before the first statement is sent. (default: {@code false})
+     * <p>Also configurable with Gradle or System Property: ${flyway.pipelineParsing}</p>
+     */
+    public Boolean pipelineParsing;
+
+    /**
+     * Whether SQL migrations are parsed through the original chain of per-character readers instead of a
+     * character buffer. Only meant as a fallback. (default: {@code false})
+     * <p>Also configurable with Gradle or System Property: ${flyway.legacyParserReaders}</p>
+     */
+    public Boolean legacyParserReaders;
+
+    /**
+     * Whether migrateAll stops starting new targets as soon as one of them fails. (default: {@code true})
+     * <p>Also configurable with Gradle or System Property: ${flyway.migrateAllFailFast}</p>
+     */
+    public Boolean migrateAllFailFast;
+
+    /**
+     * The maximum number of targets migrated at the same time by migrateAll. (default: 4)
+     * <p>Also configurable with Gradle or System Property: ${flyway.migrateAllParallelism}</p>
+     */
+    public Integer migrateAllParallelism;
+
+    /**
+     * The maximum number of statements sent to the database in a single batch when batch is enabled.
+     * When adaptiveBatchSize is enabled this is the size of the first batch instead. (default: 100)
+     * <p>Also configurable with Gradle or System Property: ${flyway.batchSize}</p>
+     */
+    public Integer batchSize;
+
+    /**
+     * Whether to adapt the batch size to the observed round-trip time and payload size when batch is enabled.
+     * Starting at batchSize, batches grow while the database answers quickly and shrink when a round trip becomes slow. (default: {@code false})
+     * <p>Also configurable with Gradle or System Property: ${flyway.adaptiveBatchSize}</p>
+     */
+    public Boolean adaptiveBatchSize;
+
+    /**
+     * The file in which Flyway caches the checksums and parsing results of SQL migrations between runs.
+     * (default: none, caching disabled)
+     * <p>Also configurable with Gradle or System Property: ${flyway.migrationCacheFile}</p>
+     */
+    public String migrationCacheFile;
+
+    /**
+     * The directory in which Flyway caches the contents of migrations read from Amazon S3 between runs.
+     * (default: none, caching disabled)
+     * <p>Also configurable with Gradle or System Property: ${flyway.s3CacheDirectory}</p>
+     */
+    public String s3CacheDirectory;
+
     /**
      * Placeholders to replace in SQL migrations.
      */
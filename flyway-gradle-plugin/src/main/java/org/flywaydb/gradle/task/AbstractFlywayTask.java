@@ -547,6 +547,57 @@ public abstract class AbstractFlywayTask extends DefaultTask {
      */
     public Integer lockRetryCount;
 
+    /**
+     * The maximum number of schemas cleaned at the same time, each on its own connection. (default: 1)
+     */
+    public Integer cleanParallelism;
+
+    /**
+     * Whether SQL migrations are parsed on a background thread while their statements are being executed,
+     * instead of being parsed in full before the first statement is sent. (default: {@code false})
+     */
+    public Boolean pipelineParsing;
+
+    /**
+     * Whether SQL migrations are parsed through the original chain of per-character readers instead of a
+     * character buffer. Only meant as a fallback. (default: {@code false})
+     */
+    public Boolean legacyParserReaders;
+
+    /**
+     * Whether migrateAll stops starting new targets as soon as one of them fails. (default: {@code true})
+     */
+    public Boolean migrateAllFailFast;
+
+    /**
+     * The maximum number of targets migrated at the same time by migrateAll. (default: 4)
+     */
+    public Integer migrateAllParallelism;
+
+    /**
+     * The maximum number of statements sent to the database in a single batch when batch is enabled.
+     * When adaptiveBatchSize is enabled this is the size of the first batch instead. (default: 100)
+     */
+    public Integer batchSize;
+
+    /**
+     * Whether to adapt the batch size to the observed round-trip time and payload size when batch is enabled.
+     * Starting at batchSize, batches grow while the database answers quickly and shrink when a round trip becomes slow. (default: {@code false})
+     */
+    public Boolean adaptiveBatchSize;
+
+    /**
+     * The file in which Flyway caches the checksums and parsing results of SQL migrations between runs.
+     * (default: none, caching disabled)
+     */
+    public String migrationCacheFile;
+
+    /**
+     * The directory in which Flyway caches the contents of migrations read from Amazon S3 between runs.
+     * (default: none, caching disabled)
+     */
+    public String s3CacheDirectory;
+
     /**
      * The encoding of the external config files specified with the {@code flyway.configFiles} property. (default: UTF-8).
      * <p>Also configurable with Gradle or System Property: ${flyway.configFileEncoding}</p>
@@ -718,6 +769,15 @@ public abstract class AbstractFlywayTask extends DefaultTask {
         putIfSet(conf, ConfigUtils.ENCODING, encoding, extension.encoding);
         putIfSet(conf, ConfigUtils.DETECT_ENCODING, detectEncoding, extension.detectEncoding);
         putIfSet(conf, ConfigUtils.LOCK_RETRY_COUNT, lockRetryCount, extension.lockRetryCount);
+        putIfSet(conf, ConfigUtils.CLEAN_PARALLELISM, cleanParallelism, extension.cleanParallelism);
+        putIfSet(conf, ConfigUtils.PIPELINE_PARSING, pipelineParsing, extension.pipelineParsing);
+        putIfSet(conf, ConfigUtils.LEGACY_PARSER_READERS, legacyParserReaders, extension.legacyParserReaders);
+        putIfSet(conf, ConfigUtils.MIGRATE_ALL_FAIL_FAST, migrateAllFailFast, extension.migrateAllFailFast);
+        putIfSet(conf, ConfigUtils.MIGRATE_ALL_PARALLELISM, migrateAllParallelism, extension.migrateAllParallelism);
+        putIfSet(conf, ConfigUtils.BATCH_SIZE, batchSize, extension.batchSize);
+        putIfSet(conf, ConfigUtils.ADAPTIVE_BATCH_SIZE, adaptiveBatchSize, extension.adaptiveBatchSize);
+        putIfSet(conf, ConfigUtils.MIGRATION_CACHE_FILE, migrationCacheFile, extension.migrationCacheFile);
+        putIfSet(conf, ConfigUtils.S3_CACHE_DIRECTORY, s3CacheDirectory, extension.s3CacheDirectory);
         putIfSet(conf, ConfigUtils.PLACEHOLDER_REPLACEMENT, placeholderReplacement, extension.placeholderReplacement);
         putIfSet(conf, ConfigUtils.PLACEHOLDER_PREFIX, placeholderPrefix, extension.placeholderPrefix);
         putIfSet(conf, ConfigUtils.PLACEHOLDER_SUFFIX, placeholderSuffix, extension.placeholderSuffix);
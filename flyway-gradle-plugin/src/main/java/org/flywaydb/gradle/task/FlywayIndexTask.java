@@ -0,0 +1,91 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-gradle-plugin
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.gradle.task;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.internal.scanner.classpath.ClassPathIndex;
+import org.flywaydb.gradle.FlywayExtension;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.plugins.JavaPluginConvention;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.TaskAction;
+
+/**
+ * Writes an index of the resources and Java migrations of the main source set to {@code META-INF/flyway/index}, so
+ * that Flyway can find them without scanning the jar at runtime. Make the {@code jar} task depend on this task to
+ * include the index.
+ */
+public class FlywayIndexTask extends DefaultTask {
+    /**
+     * The encoding of SQL migrations. (default: UTF-8)
+     */
+    public String encoding;
+
+    public FlywayIndexTask() {
+        super();
+        setGroup("Flyway");
+        setDescription("Writes an index of the migrations so that they don't have to be scanned for at runtime.");
+        getProject().getPlugins().withId("java", plugin -> dependsOn("classes"));
+    }
+
+    @TaskAction
+    public void runTask() {
+        if (!getProject().getPlugins().hasPlugin("java")) {
+            getLogger().info("Skipping Flyway index, as this is not a Java project");
+            return;
+        }
+
+        try {
+            SourceSet main = getProject().getConvention().getPlugin(JavaPluginConvention.class)
+                    .getSourceSets().getByName(SourceSet.MAIN_SOURCE_SET_NAME);
+
+            List<Path> directories = new ArrayList<>();
+            List<URL> urls = new ArrayList<>();
+            for (File directory : main.getOutput().getClassesDirs().getFiles()) {
+                directories.add(directory.toPath());
+            }
+            Path resourcesDirectory = main.getOutput().getResourcesDir().toPath();
+            directories.add(resourcesDirectory);
+            for (Path directory : directories) {
+                urls.add(directory.toUri().toURL());
+            }
+            for (File file : main.getRuntimeClasspath().getFiles()) {
+                urls.add(file.toURI().toURL());
+            }
+
+            FlywayExtension extension = (FlywayExtension) getProject().getExtensions().getByName("flyway");
+            String effectiveEncoding = encoding != null ? encoding : extension.encoding != null ? extension.encoding : "UTF-8";
+
+            try (URLClassLoader classLoader = new URLClassLoader(urls.toArray(new URL[0]), getProject().getBuildscript().getClassLoader())) {
+                int entries = ClassPathIndex.write(directories, resourcesDirectory, Charset.forName(effectiveEncoding), classLoader);
+                getLogger().info("Wrote Flyway index with " + entries + " entries to " + resourcesDirectory.resolve(ClassPathIndex.INDEX_PATH));
+            }
+        } catch (Exception e) {
+            throw new FlywayException("Unable to write Flyway index: " + e.getMessage(), e);
+        }
+    }
+}
@@ -243,6 +243,75 @@ abstract class AbstractFlywayMojo extends AbstractMojo {
     @Parameter(property = ConfigUtils.LOCK_RETRY_COUNT)
     private Integer lockRetryCount;
 
+    /**
+     * The maximum number of schemas cleaned at the same time, each on its own connection. (default: 1)
+     * <p>Also configurable with Maven or System Property: ${flyway.cleanParallelism}</p>
+     */
+    @Parameter(property = ConfigUtils.CLEAN_PARALLELISM)
+    private Integer cleanParallelism;
+
+    /**
+     * Whether SQL migrations are parsed on a background thread while their statements are being executed,
+     * instead of being parsed in full before the first statement is sent. (default: {@code false})
+     * <p>Also configurable with Maven or System Property: ${flyway.pipelineParsing}</p>
+     */
+    @Parameter(property = ConfigUtils.PIPELINE_PARSING)
+    private Boolean pipelineParsing;
+
+    /**
+     * Whether SQL migrations are parsed through the original chain of per-character readers instead of a
+     * character buffer. Only meant as a fallback. (default: {@code false})
+     * <p>Also configurable with Maven or System Property: ${flyway.legacyParserReaders}</p>
+     */
+    @Parameter(property = ConfigUtils.LEGACY_PARSER_READERS)
+    private Boolean legacyParserReaders;
+
+    /**
+     * Whether migrateAll stops starting new targets as soon as one of them fails. (default: {@code true})
+     * <p>Also configurable with Maven or System Property: ${flyway.migrateAllFailFast}</p>
+     */
+    @Parameter(property = ConfigUtils.MIGRATE_ALL_FAIL_FAST)
+    private Boolean migrateAllFailFast;
+
+    /**
+     * The maximum number of targets migrated at the same time by migrateAll. (default: 4)
+     * <p>Also configurable with Maven or System Property: ${flyway.migrateAllParallelism}</p>
+     */
+    @Parameter(property = ConfigUtils.MIGRATE_ALL_PARALLELISM)
+    private Integer migrateAllParallelism;
+
+    /**
+     * The maximum number of statements sent to the database in a single batch when batch is enabled.
+     * When adaptiveBatchSize is enabled this is the size of the first batch instead. (default: 100)
+     * <p>Also configurable with Maven or System Property: ${flyway.batchSize}</p>
+     */
+    @Parameter(property = ConfigUtils.BATCH_SIZE)
+    private Integer batchSize;
+
+    /**
+     * Whether to adapt the batch size to the observed round-trip time and payload size when batch is enabled.
+     * Starting at batchSize, batches grow while the database answers quickly and shrink when a round trip becomes slow. (default: {@code false})
+     * <p>Also configurable with Maven or System Property: ${flyway.adaptiveBatchSize}</p>
+     */
+    @Parameter(property = ConfigUtils.ADAPTIVE_BATCH_SIZE)
+    private Boolean adaptiveBatchSize;
+
+    /**
+     * The file in which Flyway caches the checksums and parsing results of SQL migrations between runs.
+     * (default: none, caching disabled)
+     * <p>Also configurable with Maven or System Property: ${flyway.migrationCacheFile}</p>
+     */
+    @Parameter(property = ConfigUtils.MIGRATION_CACHE_FILE)
+    private String migrationCacheFile;
+
+    /**
+     * The directory in which Flyway caches the contents of migrations read from Amazon S3 between runs.
+     * (default: none, caching disabled)
+     * <p>Also configurable with Maven or System Property: ${flyway.s3CacheDirectory}</p>
+     */
+    @Parameter(property = ConfigUtils.S3_CACHE_DIRECTORY)
+    private String s3CacheDirectory;
+
     /**
      * The file name prefix for versioned SQL migrations (default: V)
      * <p>Versioned SQL migrations have the following file name structure: prefixVERSIONseparatorDESCRIPTIONsuffix,
@@ -774,6 +843,15 @@ abstract class AbstractFlywayMojo extends AbstractMojo {
             putIfSet(conf, ConfigUtils.ENCODING, encoding);
             putIfSet(conf, ConfigUtils.DETECT_ENCODING, detectEncoding);
             putIfSet(conf, ConfigUtils.LOCK_RETRY_COUNT, lockRetryCount);
+            putIfSet(conf, ConfigUtils.CLEAN_PARALLELISM, cleanParallelism);
+            putIfSet(conf, ConfigUtils.PIPELINE_PARSING, pipelineParsing);
+            putIfSet(conf, ConfigUtils.LEGACY_PARSER_READERS, legacyParserReaders);
+            putIfSet(conf, ConfigUtils.MIGRATE_ALL_FAIL_FAST, migrateAllFailFast);
+            putIfSet(conf, ConfigUtils.MIGRATE_ALL_PARALLELISM, migrateAllParallelism);
+            putIfSet(conf, ConfigUtils.BATCH_SIZE, batchSize);
+            putIfSet(conf, ConfigUtils.ADAPTIVE_BATCH_SIZE, adaptiveBatchSize);
+            putIfSet(conf, ConfigUtils.MIGRATION_CACHE_FILE, migrationCacheFile);
+            putIfSet(conf, ConfigUtils.S3_CACHE_DIRECTORY, s3CacheDirectory);
             putIfSet(conf, ConfigUtils.SQL_MIGRATION_PREFIX, sqlMigrationPrefix);
             putIfSet(conf, ConfigUtils.UNDO_SQL_MIGRATION_PREFIX, undoSqlMigrationPrefix);
             putIfSet(conf, ConfigUtils.REPEATABLE_SQL_MIGRATION_PREFIX, repeatableSqlMigrationPrefix);
@@ -0,0 +1,93 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-maven-plugin
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.maven;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.flywaydb.core.internal.configuration.ConfigUtils;
+import org.flywaydb.core.internal.scanner.classpath.ClassPathIndex;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Writes an index of the resources and Java migrations in the output directory to {@code META-INF/flyway/index},
+ * so that Flyway can find them without scanning the jar at runtime.</p>
+ * <p>The index also holds the checksums of the resources. It is only used when Flyway reads the migrations from an
+ * archive, so it never gets in the way while developing.</p>
+ */
+@SuppressWarnings({"UnusedDeclaration", "JavaDoc"})
+@Mojo(name = "index",
+        requiresDependencyResolution = ResolutionScope.RUNTIME,
+        defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+        threadSafe = true)
+public class IndexMojo extends AbstractMojo {
+    /**
+     * The encoding of SQL migrations. (default: UTF-8)
+     * <p>Also configurable with Maven or System Property: ${flyway.encoding}</p>
+     */
+    @Parameter(property = ConfigUtils.ENCODING, defaultValue = "UTF-8")
+    private String encoding;
+
+    /**
+     * Whether to skip the generation of the index. (default: false)
+     * <p>Also configurable with Maven or System Property: ${flyway.skip}</p>
+     */
+    @Parameter(property = "flyway.skip")
+    private boolean skip;
+
+    /**
+     * Reference to the current project that includes the Flyway Maven plugin.
+     */
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    protected MavenProject mavenProject;
+
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            getLog().info("Skipping Flyway index");
+            return;
+        }
+
+        try {
+            List<URL> urls = new ArrayList<>();
+            for (String classpathElement : mavenProject.getRuntimeClasspathElements()) {
+                urls.add(new File(classpathElement).toURI().toURL());
+            }
+
+            Path outputDirectory = new File(mavenProject.getBuild().getOutputDirectory()).toPath();
+            try (URLClassLoader classLoader = new URLClassLoader(urls.toArray(new URL[0]), getClass().getClassLoader())) {
+                int entries = ClassPathIndex.write(List.of(outputDirectory), outputDirectory, Charset.forName(encoding), classLoader);
+                getLog().info("Wrote Flyway index with " + entries + " entries to " + outputDirectory.resolve(ClassPathIndex.INDEX_PATH));
+            }
+        } catch (Exception e) {
+            throw new MojoExecutionException("Unable to write Flyway index: " + e.getMessage(), e);
+        }
+    }
+}
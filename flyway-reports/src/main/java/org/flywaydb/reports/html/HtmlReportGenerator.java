@@ -25,7 +25,6 @@ import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.reports.output.DashboardResult;
 import org.flywaydb.reports.output.HoldingResult;
 import org.flywaydb.core.api.output.HtmlResult;
-import org.flywaydb.core.api.output.CompositeResult;
 import org.flywaydb.reports.api.extensibility.HtmlRenderer;
 import org.flywaydb.reports.api.extensibility.HtmlReportSummary;
 import org.flywaydb.core.extensibility.LicenseGuard;
@@ -34,15 +33,16 @@ import org.flywaydb.core.internal.util.FileUtils;
 import org.flywaydb.core.internal.util.StringUtils;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Writer;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.flywaydb.core.internal.util.ClassUtils.getInstallDir;
@@ -60,57 +60,72 @@ public class HtmlReportGenerator {
                                                                                       );
     public static final String INSTALL_DIR = getInstallDir(HtmlReportGenerator.class);
 
-    public static String generateHtml(CompositeResult<HtmlResult> result, Configuration config) {
-        Map<LocalDateTime, List<HtmlResult>> groupedResults = result.individualResults.stream().collect(Collectors.groupingBy(HtmlResult::getTimestamp));
-        List<LocalDateTime> timestamps = new ArrayList<>(groupedResults.keySet());
-
-        StringBuilder content = new StringBuilder(getBeginning(timestamps));
-        for (LocalDateTime timestamp : timestamps) {
-            List<HtmlResult> groupedResult = groupedResults.get(timestamp);
-
-            DashboardResult dashboardResult = new DashboardResult();
-            dashboardResult.setOperation("dashboard");
-            dashboardResult.setResults(groupedResult);
-            dashboardResult.setTimestamp(timestamp);
-
-            groupedResult.add(0, dashboardResult);
-
-            String currentTier = LicenseGuard.getTierAsString(config);
-
-            for (HoldingTabMetadata holdingTabMetadata : HOLDING_TAB_METADATA) {
-                String holdingTab = holdingTabMetadata.getName();
-                if (groupedResult.stream().noneMatch(t -> holdingTab.equals(t.getOperation()) && !t.isLicenseFailed())) {
-                    String htmlFile = FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/holdingTabs/" + holdingTab + ".html");
-                    HoldingResult holdingResult = new HoldingResult();
-                    if (holdingTabMetadata.getSupportedEditions().get(0) != "OSS" && !holdingTabMetadata.getSupportedEditions().contains(currentTier)) {
-                        htmlFile = FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/upgradeTabs/" + holdingTab + ".html");
-                        if (groupedResult.stream().anyMatch(t -> t.getOperation().equals(holdingTab))) {
-                            HtmlResult htmlResult = groupedResult.stream().filter(t -> t.getOperation().equals(holdingTab)).findFirst().get();
-                            holdingResult.setException(htmlResult.exceptionObject);
-                        }
+    /**
+     * Writes the start of a report, up to where the pages of the runs go.
+     *
+     * @param timestamps The timestamps of all runs in the report.
+     */
+    public static void writeBeginning(Writer writer, List<LocalDateTime> timestamps) throws IOException {
+        writer.write(getBeginning(new ArrayList<>(timestamps)));
+    }
+
+    /**
+     * Writes the end of a report, after the pages of the runs.
+     */
+    public static void writeEnd(Writer writer) throws IOException {
+        writer.write(getEnd());
+    }
+
+    /**
+     * Renders the page of a single run. The page doesn't depend on any other run, so it only has to be rendered once.
+     *
+     * @param timestamp The timestamp of the run.
+     * @param results The results of the run.
+     * @return The HTML of the page.
+     */
+    public static String renderPage(LocalDateTime timestamp, List<HtmlResult> results, Configuration config) {
+        List<HtmlResult> groupedResult = new ArrayList<>(results);
+
+        DashboardResult dashboardResult = new DashboardResult();
+        dashboardResult.setOperation("dashboard");
+        dashboardResult.setResults(groupedResult);
+        dashboardResult.setTimestamp(timestamp);
+
+        groupedResult.add(0, dashboardResult);
+
+        String currentTier = LicenseGuard.getTierAsString(config);
+
+        for (HoldingTabMetadata holdingTabMetadata : HOLDING_TAB_METADATA) {
+            String holdingTab = holdingTabMetadata.getName();
+            if (groupedResult.stream().noneMatch(t -> holdingTab.equals(t.getOperation()) && !t.isLicenseFailed())) {
+                String htmlFile = FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/holdingTabs/" + holdingTab + ".html");
+                HoldingResult holdingResult = new HoldingResult();
+                if (holdingTabMetadata.getSupportedEditions().get(0) != "OSS" && !holdingTabMetadata.getSupportedEditions().contains(currentTier)) {
+                    htmlFile = FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/upgradeTabs/" + holdingTab + ".html");
+                    if (groupedResult.stream().anyMatch(t -> t.getOperation().equals(holdingTab))) {
+                        HtmlResult htmlResult = groupedResult.stream().filter(t -> t.getOperation().equals(holdingTab)).findFirst().get();
+                        holdingResult.setException(htmlResult.exceptionObject);
                     }
-                    String tabTitle = FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/holdingTabs/" + holdingTab + ".txt");
-                    holdingResult.setTimestamp(timestamp);
-                    holdingResult.setTabTitle(tabTitle.trim());
-                    holdingResult.setBodyText(htmlFile);
-                    holdingResult.setOperation(holdingTab);
-                    groupedResult.add(holdingResult);
                 }
+                String tabTitle = FileUtils.readAsStringFallbackToResource(INSTALL_DIR, "assets/report/holdingTabs/" + holdingTab + ".txt");
+                holdingResult.setTimestamp(timestamp);
+                holdingResult.setTabTitle(tabTitle.trim());
+                holdingResult.setBodyText(htmlFile);
+                holdingResult.setOperation(holdingTab);
+                groupedResult.add(holdingResult);
             }
+        }
 
-            List<HtmlResult> htmlResults = new ArrayList<>();
+        List<HtmlResult> htmlResults = new ArrayList<>();
 
-            for (HtmlResult htmlResult : groupedResult) {
-                if (!htmlResult.isLicenseFailed()) {
-                    htmlResults.add(htmlResult);
-                }
+        for (HtmlResult htmlResult : groupedResult) {
+            if (!htmlResult.isLicenseFailed()) {
+                htmlResults.add(htmlResult);
             }
-
-            String formattedTimestamp = timestamp.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-            content.append(getPage(formattedTimestamp, htmlResults, config));
         }
 
-        return content.append(getEnd()).toString();
+        String formattedTimestamp = timestamp.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        return getPage(formattedTimestamp, htmlResults, config);
     }
 
     private static String getBeginning(List<LocalDateTime> timestamps) {
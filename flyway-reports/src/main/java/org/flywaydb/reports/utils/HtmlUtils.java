@@ -20,35 +20,11 @@
 package org.flywaydb.reports.utils;
 
 import org.apache.commons.text.StringEscapeUtils;
-import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.api.output.HtmlResult;
-import org.flywaydb.core.api.FlywayException;
-import org.flywaydb.core.api.output.CompositeResult;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.time.format.DateTimeFormatter;
 
-import static org.flywaydb.reports.html.HtmlReportGenerator.generateHtml;
-import static org.flywaydb.core.internal.util.FileUtils.createDirIfNotExists;
-
 public class HtmlUtils {
-    public static String toHtmlFile(String filename, CompositeResult<HtmlResult> results, Configuration config) {
-        String fileContents = generateHtml(results, config);
-
-        File file = new File(filename);
-
-        createDirIfNotExists(file);
-
-        try (FileWriter fileWriter = new FileWriter(file)) {
-            fileWriter.write(fileContents);
-            return file.getCanonicalPath();
-        } catch (Exception e) {
-            throw new FlywayException("Unable to write HTML to file: " + e.getMessage());
-        }
-
-    }
-
     public static String getFormattedTimestamp(HtmlResult result) {
         if (result == null || result.getTimestamp() == null) {
             return "--";
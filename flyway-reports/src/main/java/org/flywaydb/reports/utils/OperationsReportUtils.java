@@ -22,11 +22,17 @@ package org.flywaydb.reports.utils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
@@ -44,6 +50,7 @@ import org.flywaydb.core.internal.reports.ReportDetails;
 import org.flywaydb.core.internal.util.FileUtils;
 import org.flywaydb.core.internal.util.StringUtils;
 import org.flywaydb.core.internal.util.JsonUtils;
+import org.flywaydb.reports.html.HtmlReportGenerator;
 import org.flywaydb.reports.json.HtmlResultDeserializer;
 
 @CustomLog
@@ -52,6 +59,7 @@ public class OperationsReportUtils {
 
     private static final String DEFAULT_REPORT_FILENAME = FlywayModel.DEFAULT_REPORT_FILENAME;
     private static final String JSON_REPORT_EXTENSION = ".json";
+    private static final String NDJSON_REPORT_EXTENSION = ".ndjson";
     private static final String HTML_REPORT_EXTENSION = ".html";
     private static final String HTM_REPORT_EXTENSION = ".htm";
 
@@ -64,17 +72,6 @@ public class OperationsReportUtils {
         return filename;
     }
 
-    static String createHtmlReport(final Configuration configuration,
-        final CompositeResult<HtmlResult> htmlCompositeResult,
-        final String tmpHtmlReportFilename) {
-        return HtmlUtils.toHtmlFile(tmpHtmlReportFilename, htmlCompositeResult, configuration);
-    }
-
-    static String createJsonReport(final CompositeResult<HtmlResult> htmlCompositeResult,
-        final String tmpJsonReportFilename) {
-        return JsonUtils.jsonToFile(tmpJsonReportFilename, htmlCompositeResult);
-    }
-
     public static ReportDetails writeReport(final Configuration configuration,
         final OperationResult filteredResults,
         final LocalDateTime executionTime) {
@@ -88,31 +85,32 @@ public class OperationsReportUtils {
             final String reportFilename = configuration.getReportFilename();
             final String baseReportFilename = getBaseFilename(reportFilename);
 
-            String tmpJsonReportFilename = baseReportFilename + JSON_REPORT_EXTENSION;
+            String legacyJsonReportFilename = baseReportFilename + JSON_REPORT_EXTENSION;
+            String tmpJsonReportFilename = baseReportFilename + NDJSON_REPORT_EXTENSION;
             String tmpHtmlReportFilename = baseReportFilename + (reportFilename.endsWith(HTM_REPORT_EXTENSION)
                 ? HTM_REPORT_EXTENSION
                 : HTML_REPORT_EXTENSION);
 
+            legacyJsonReportFilename = ConfigUtils.getFilenameWithWorkingDirectory(legacyJsonReportFilename, configuration);
             tmpJsonReportFilename = ConfigUtils.getFilenameWithWorkingDirectory(tmpJsonReportFilename, configuration);
             tmpHtmlReportFilename = ConfigUtils.getFilenameWithWorkingDirectory(tmpHtmlReportFilename, configuration);
 
             try {
-                htmlCompositeResult = appendIfExists(tmpJsonReportFilename,
-                    htmlCompositeResult,
-                    configuration.getPluginRegister());
-                reportDetails.setJsonReportFilename(createJsonReport(htmlCompositeResult, tmpJsonReportFilename));
-                reportDetails.setHtmlReportFilename(createHtmlReport(configuration,
+                final ReportLog reportLog = new ReportLog(Path.of(tmpJsonReportFilename));
+                if (!reportLog.exists()) {
+                    importLegacyReport(configuration, legacyJsonReportFilename, reportLog);
+                }
+                reportLog.append(executionTime,
                     htmlCompositeResult,
-                    tmpHtmlReportFilename));
+                    HtmlReportGenerator.renderPage(executionTime, htmlCompositeResult.individualResults, configuration));
+                reportLog.trim(configuration.getReportRetention());
+
+                reportDetails.setJsonReportFilename(reportLog.getPath().toFile().getCanonicalPath());
+                reportDetails.setHtmlReportFilename(createHtmlReport(reportLog, tmpHtmlReportFilename));
+            } catch (final IOException e) {
+                handleReportFailure(reportFilename, new FlywayException("Unable to write report: " + e.getMessage(), e));
             } catch (final FlywayException e) {
-                if (DEFAULT_REPORT_FILENAME.equals(reportFilename)) {
-                    LOG.warn("Unable to create default report files.");
-                    if (LOG.isDebugEnabled()) {
-                        e.printStackTrace(System.out);
-                    }
-                } else {
-                    LOG.error("Unable to create report files", e);
-                }
+                handleReportFailure(reportFilename, e);
             }
             
             if (reportDetails.getHtmlReportFilename() != null) {
@@ -123,6 +121,62 @@ public class OperationsReportUtils {
         return reportDetails;
     }
 
+    private static void handleReportFailure(final String reportFilename, final FlywayException e) {
+        if (DEFAULT_REPORT_FILENAME.equals(reportFilename)) {
+            LOG.warn("Unable to create default report files.");
+            if (LOG.isDebugEnabled()) {
+                e.printStackTrace(System.out);
+            }
+        } else {
+            LOG.error("Unable to create report files", e);
+        }
+    }
+
+    /**
+     * Streams the HTML report from the pages in the log, so no previous run has to be rendered again.
+     */
+    static String createHtmlReport(final ReportLog reportLog, final String tmpHtmlReportFilename) throws IOException {
+        final File file = new File(tmpHtmlReportFilename);
+        if (file.getParentFile() != null) {
+            Files.createDirectories(file.getParentFile().toPath());
+        }
+
+        final List<LocalDateTime> timestamps = reportLog.readTimestamps();
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            HtmlReportGenerator.writeBeginning(writer, timestamps);
+            reportLog.writePages(writer);
+            HtmlReportGenerator.writeEnd(writer);
+        }
+        return file.getCanonicalPath();
+    }
+
+    /**
+     * Moves the history of a report written by an earlier version of Flyway into the log. This happens only once, as
+     * the log exists from then on; the old report is left as it is.
+     */
+    private static void importLegacyReport(final Configuration configuration,
+        final String legacyJsonReportFilename,
+        final ReportLog reportLog) throws IOException {
+        final CompositeResult<HtmlResult> legacyResults = appendIfExists(legacyJsonReportFilename,
+            new CompositeResult<>(),
+            configuration.getPluginRegister());
+        if (legacyResults.individualResults.isEmpty()) {
+            return;
+        }
+
+        LOG.debug("Importing report history from " + legacyJsonReportFilename);
+        final Map<LocalDateTime, List<HtmlResult>> groupedResults = new TreeMap<>(legacyResults.individualResults.stream()
+            .filter(r -> r.getTimestamp() != null)
+            .collect(Collectors.groupingBy(HtmlResult::getTimestamp)));
+        for (final Map.Entry<LocalDateTime, List<HtmlResult>> entry : groupedResults.entrySet()) {
+            final CompositeResult<HtmlResult> runResults = new CompositeResult<>();
+            runResults.individualResults.addAll(entry.getValue());
+            reportLog.append(entry.getKey(),
+                runResults,
+                HtmlReportGenerator.renderPage(entry.getKey(), entry.getValue(), configuration));
+        }
+    }
+
     public static <T extends OperationResult> CompositeResult<T> appendIfExists(final String filename,
         final CompositeResult<T> newObject,
         final PluginRegister pluginRegister) {
@@ -0,0 +1,186 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-reports
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.reports.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.CustomLog;
+import lombok.Getter;
+import org.flywaydb.core.api.output.CompositeResult;
+import org.flywaydb.core.api.output.HtmlResult;
+import org.flywaydb.core.internal.util.JsonUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The history of a report as an append-only log with one line of JSON per run. Each line holds the results of the run
+ * together with the HTML page rendered from them, so the runs before never have to be deserialized or rendered again.
+ */
+@CustomLog
+public class ReportLog {
+    private static final String TIMESTAMP = "timestamp";
+    private static final String PAGE = "page";
+    private static final String RESULTS = "results";
+
+    @Getter
+    private final Path path;
+    private final JsonMapper mapper;
+
+    public ReportLog(Path path) {
+        this.path = path;
+        this.mapper = JsonUtils.getJsonMapper();
+        mapper.configure(SerializationFeature.INDENT_OUTPUT, false);
+    }
+
+    public boolean exists() {
+        return Files.exists(path);
+    }
+
+    /**
+     * Appends a run to the log.
+     *
+     * @param timestamp The timestamp of the run.
+     * @param results The results of the run.
+     * @param page The HTML page rendered from the results.
+     */
+    public void append(LocalDateTime timestamp, CompositeResult<HtmlResult> results, String page) throws IOException {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put(TIMESTAMP, timestamp.toString());
+        entry.put(PAGE, page);
+        entry.put(RESULTS, results);
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, mapper.writeValueAsString(entry) + "\n", StandardCharsets.UTF_8,
+                          StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Drops the oldest runs from the log, so that at most this many remain.
+     *
+     * @param retention The number of runs to keep, or 0 to keep all of them.
+     */
+    public void trim(int retention) throws IOException {
+        if (retention <= 0 || !exists()) {
+            return;
+        }
+
+        long runs;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            runs = reader.lines().filter(line -> !line.isEmpty()).count();
+        }
+        if (runs <= retention) {
+            return;
+        }
+
+        LOG.debug("Dropping " + (runs - retention) + " runs from report " + path);
+        Path tempFile = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+            long skip = runs - retention;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+        Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @return The timestamps of the runs in the log, oldest first.
+     */
+    public List<LocalDateTime> readTimestamps() throws IOException {
+        List<LocalDateTime> timestamps = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String timestamp = readField(line, TIMESTAMP);
+                if (timestamp != null) {
+                    timestamps.add(LocalDateTime.parse(timestamp));
+                }
+            }
+        }
+        return timestamps;
+    }
+
+    /**
+     * Copies the pages of the runs in the log to this writer, oldest first.
+     */
+    public void writePages(Writer writer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String page = readField(line, PAGE);
+                if (page != null) {
+                    writer.write(page);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a top-level text field of a line without deserializing the rest of it.
+     *
+     * @return The value, or {@code null} if the line doesn't have it.
+     */
+    private String readField(String line, String fieldName) throws IOException {
+        if (line.isEmpty()) {
+            return null;
+        }
+        try (JsonParser parser = mapper.getFactory().createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (fieldName.equals(name) && value == JsonToken.VALUE_STRING) {
+                    return parser.getText();
+                }
+                parser.skipChildren();
+            }
+        }
+        return null;
+    }
+}